@@ -5,11 +5,18 @@ import static com.dykim.base.dto.ApiResult.error;
 import com.dykim.base.advice.common.exception.AlreadyExistsException;
 import com.dykim.base.advice.common.exception.EntityNotFoundException;
 import com.dykim.base.advice.common.exception.HandlerDebounceException;
+import com.dykim.base.advice.common.exception.IdempotencyConflictException;
+import com.dykim.base.advice.common.exception.IdempotencyKeyReusedException;
+import com.dykim.base.advice.common.exception.InvalidProfilingDurationException;
 import com.dykim.base.advice.common.exception.InvalidSessionException;
+import com.dykim.base.advice.common.exception.ProfilingInProgressException;
+import com.dykim.base.advice.common.exception.RateLimitExceededException;
 import com.dykim.base.dto.ApiResult;
+import com.dykim.base.interceptor.RateLimitInterceptor;
 import javax.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -55,6 +62,9 @@ public class CommonControllerAdvice {
      * 3. HttpMessageNotReadableException.class
      *  요청데이터 형식이 맞지 않는 경우 발생
      *  예) 날짜 포맷이 yyyy-MM-dd 인데, yyyyMMdd 로 전달받은 경우
+     *
+     * 4. InvalidProfilingDurationException.class
+     *  JFR 녹화 시간이 1초 ~ base.performance.jfr.max-duration-seconds 를 벗어난 경우
      * </pre>
      *
      * @param e BadRequest 관련 예외
@@ -64,7 +74,8 @@ public class CommonControllerAdvice {
         DataIntegrityViolationException.class,
         ConstraintViolationException.class,
         HttpMessageNotReadableException.class,
-        AlreadyExistsException.class
+        AlreadyExistsException.class,
+        InvalidProfilingDurationException.class
     })
     public ResponseEntity<ApiResult<String>> handleBadRequestException(Exception e) {
         log.error(e.getMessage(), e);
@@ -119,6 +130,60 @@ public class CommonControllerAdvice {
         return new ResponseEntity<>(error(e), HttpStatus.TOO_MANY_REQUESTS);
     }
 
+    /**
+     *
+     *
+     * <h3>RateLimitExceededException Handler</h3>
+     *
+     * <pre>
+     * 허용량 초과 시 재시도 가이드를 위해 아래 헤더를 함께 응답한다.
+     *  - Retry-After: 재시도 가능까지 남은 시간(초)
+     *  - X-RateLimit-Limit: 기간 당 허용량
+     *  - X-RateLimit-Remaining: 잔여 허용량(0)
+     *  - X-RateLimit-Reset: 허용량이 회복되기까지 남은 시간(초)
+     * </pre>
+     *
+     * @param e 허용량 초과 예외
+     * @return ApiResult
+     */
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResult<String>> handleRateLimitExceededException(
+            RateLimitExceededException e) {
+        log.error(e.getMessage());
+        var retryAfterSeconds = String.valueOf(e.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .header(RateLimitInterceptor.HEADER_LIMIT, String.valueOf(e.getLimit()))
+                .header(RateLimitInterceptor.HEADER_REMAINING, "0")
+                .header(RateLimitInterceptor.HEADER_RESET, retryAfterSeconds)
+                .body(error(e));
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ApiResult<String>> handleIdempotencyConflictException(
+            IdempotencyConflictException e) {
+        log.error(e.getMessage());
+        return new ResponseEntity<>(error(e), HttpStatus.CONFLICT);
+    }
+
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ApiResult<String>> handleIdempotencyKeyReusedException(
+            IdempotencyKeyReusedException e) {
+        log.error(e.getMessage());
+        return new ResponseEntity<>(error(e), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(ProfilingInProgressException.class)
+    public ResponseEntity<ApiResult<String>> handleProfilingInProgressException(
+            ProfilingInProgressException e) {
+        log.error(e.getMessage());
+        return new ResponseEntity<>(error(e), HttpStatus.CONFLICT);
+    }
+
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(InvalidSessionException.class)
     public ResponseEntity<ApiResult<String>> handleInvalidSessionException(
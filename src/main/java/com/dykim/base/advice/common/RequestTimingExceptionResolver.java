@@ -0,0 +1,38 @@
+package com.dykim.base.advice.common;
+
+import com.dykim.base.metrics.RequestTiming;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ *
+ *
+ * <h3>RequestTiming ExceptionResolver</h3>
+ *
+ * 예외 처리 시작 시각과 예외 클래스를 기록만 하고, 실제 처리는 다음 리졸버({@link CommonControllerAdvice})에 위임한다.
+ *
+ * <pre>
+ *  - 인터셉터 preHandle, 핸들러, 뷰 렌더링 어느 단계의 예외든 어드바이스보다 먼저 호출되도록 첫번째로 등록한다.
+ *  - 항상 null 을 반환하므로 예외 처리 결과에 영향을 주지 않는다.
+ * </pre>
+ */
+public class RequestTimingExceptionResolver implements HandlerExceptionResolver {
+
+    @Override
+    @Nullable
+    public ModelAndView resolveException(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @Nullable Object handler,
+            @NonNull Exception ex) {
+        var timing = RequestTiming.from(request);
+        if (timing != null) {
+            timing.markResolveStart(ex);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.dykim.base.advice.common;
+
+import com.dykim.base.metrics.ServerTiming;
+import lombok.NonNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ *
+ *
+ * <h3>ServerTiming ResponseBodyAdvice</h3>
+ *
+ * 응답 본문 직렬화 직전 시각을 {@link ServerTiming} 에 기록만 하고 본문은 변경하지 않는다.
+ *
+ * <pre>
+ *  - 핸들러(서비스) 구간과 직렬화(ser) 구간을 나누는 기준이 된다.
+ *  - 어드바이스의 예외 응답(ApiResult.error) 직렬화도 포함된다.
+ * </pre>
+ */
+@ControllerAdvice
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(
+            @NonNull MethodParameter returnType,
+            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    @Nullable
+    public Object beforeBodyWrite(
+            @Nullable Object body,
+            @NonNull MethodParameter returnType,
+            @NonNull MediaType selectedContentType,
+            @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            @NonNull ServerHttpRequest request,
+            @NonNull ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest) {
+            var serverTiming =
+                    ServerTiming.from(((ServletServerHttpRequest) request).getServletRequest());
+            if (serverTiming != null) {
+                serverTiming.markSerializationStart();
+            }
+        }
+        return body;
+    }
+}
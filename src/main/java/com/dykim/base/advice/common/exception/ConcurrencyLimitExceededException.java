@@ -0,0 +1,8 @@
+package com.dykim.base.advice.common.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dykim.base.advice.common.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String msg) {
+        super(msg);
+    }
+}
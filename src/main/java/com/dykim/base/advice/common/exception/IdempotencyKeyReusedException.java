@@ -0,0 +1,8 @@
+package com.dykim.base.advice.common.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String msg) {
+        super(msg);
+    }
+}
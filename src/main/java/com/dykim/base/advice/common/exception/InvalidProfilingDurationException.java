@@ -0,0 +1,8 @@
+package com.dykim.base.advice.common.exception;
+
+public class InvalidProfilingDurationException extends RuntimeException {
+
+    public InvalidProfilingDurationException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,10 @@
+package com.dykim.base.advice.common.exception;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+public class PasswordHashingRejectedException extends InternalAuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dykim.base.advice.common.exception;
+
+public class ProfilingInProgressException extends RuntimeException {
+
+    public ProfilingInProgressException(String msg) {
+        super(msg);
+    }
+}
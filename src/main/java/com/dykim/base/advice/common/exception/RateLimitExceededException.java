@@ -0,0 +1,19 @@
+package com.dykim.base.advice.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    /** 기간 당 허용량 */
+    private final int limit;
+
+    /** 재시도 가능까지 남은 시간(초, 올림) */
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String msg, int limit, long retryAfterSeconds) {
+        super(msg);
+        this.limit = limit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
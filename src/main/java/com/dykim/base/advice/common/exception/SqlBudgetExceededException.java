@@ -0,0 +1,8 @@
+package com.dykim.base.advice.common.exception;
+
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,72 @@
+package com.dykim.base.aspect;
+
+import com.dykim.base.config.annotation.Coalesce;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ *
+ *
+ * <h3>Coalesce Aspect</h3>
+ *
+ * {@link Coalesce} 메소드를 메소드 + 인자 기준으로 병합하여 수행한다.
+ *
+ * <pre>
+ *  - 인자는 equals / hashCode 로 비교하며, 배열은 내용으로 비교한다.
+ *  - 값 비교가 불가능한 인자(요청 객체 등)가 있는 경우 사실상 병합되지 않는다.
+ * </pre>
+ *
+ * @see SingleFlight
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class CoalesceAspect {
+
+    private final SingleFlight singleFlight;
+
+    @Around("@annotation(com.dykim.base.config.annotation.Coalesce)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return singleFlight.call(new CoalesceKey(method, joinPoint.getArgs()), joinPoint::proceed);
+    }
+
+    /** 메소드 + 인자 병합 키 */
+    private static final class CoalesceKey {
+
+        private final Method method;
+        private final Object[] args;
+        private final int hashCode;
+
+        private CoalesceKey(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+            this.hashCode = 31 * method.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CoalesceKey)) {
+                return false;
+            }
+            var other = (CoalesceKey) o;
+            return hashCode == other.hashCode
+                    && method.equals(other.method)
+                    && Arrays.deepEquals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.dykim.base.aspect;
+
+import com.dykim.base.metrics.jfr.RepositoryCallEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ *
+ *
+ * <h3>Repository Event Aspect</h3>
+ *
+ * Spring Data 레포지토리 메소드 호출을 JFR {@link RepositoryCallEvent} 로 기록한다.
+ *
+ * <pre>
+ *  - 레포지토리 이름은 구현체(SimpleJpaRepository)가 아닌 사용자 정의 인터페이스 이름으로 기록한다.
+ *  - JFR 녹화 중이 아닌 경우 이벤트 필드를 채우지 않는다.
+ *  - base.performance.jfr.repository-events=false 인 경우 프록시 호출 비용도 없도록 등록하지 않는다.
+ * </pre>
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(
+        name = "base.performance.jfr.repository-events",
+        havingValue = "true",
+        matchIfMissing = true)
+public class RepositoryEventAspect {
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        var event = new RepositoryCallEvent();
+        event.begin();
+        var failed = true;
+        try {
+            var result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = resolveRepositoryName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static String resolveRepositoryName(ProceedingJoinPoint joinPoint) {
+        var interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        return interfaces.length > 0
+                ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
@@ -0,0 +1,160 @@
+package com.dykim.base.aspect;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ *
+ *
+ * <h3>Single Flight</h3>
+ *
+ * 같은 키로 동시에 들어온 호출을 하나의 수행으로 병합한다.
+ *
+ * <pre>
+ *  1. 수행중인 키가 없으면 직접 수행하고 결과를 대기중인 호출에 전달한다.
+ *  2. 수행중인 키가 있으면 수행 결과를 기다렸다가 같은 결과(또는 예외)를 반환한다.
+ *  3. 수행이 끝나면 키를 제거한다. 따라서 결과를 캐시하지 않으며, 이후 호출은 다시 수행된다.
+ *  4. 대기 시간이 base.coalesce.max-wait-millis 를 넘으면 대기를 멈추고 직접 수행한다.
+ *     ㄴ 먼저 진입한 호출이 느린 저장소 호출 등으로 멈춘 경우 대기중인 호출이 함께 멈추지 않는다.
+ * </pre>
+ *
+ * <pre>
+ * 서비스 사용 예)
+ *  return singleFlight.execute("member:" + mbrId, () -> memberRepository.findById(mbrId));
+ * </pre>
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 3000;
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlightMap =
+            new ConcurrentHashMap<>();
+
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    private final long maxWaitNanos;
+
+    /** 기본 최대 대기시간으로 생성한다. */
+    public SingleFlight() {
+        this(DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    /**
+     * @param maxWaitMillis 수행중인 결과를 기다리는 최대 시간(ms), 초과 시 직접 수행한다.
+     */
+    @Autowired
+    public SingleFlight(@Value("${base.coalesce.max-wait-millis:3000}") long maxWaitMillis) {
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    /**
+     *
+     *
+     * <h3>병합 수행</h3>
+     *
+     * @param key 병합 키(equals, hashCode 기준으로 비교)
+     * @param supplier 수행할 로직
+     * @return 수행 결과
+     */
+    public <T> T execute(Object key, Supplier<T> supplier) {
+        try {
+            return call(key, supplier::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     *
+     *
+     * <h3>병합 수행 - 검사 예외 허용</h3>
+     *
+     * @param key 병합 키(equals, hashCode 기준으로 비교)
+     * @param call 수행할 로직
+     * @return 수행 결과
+     * @throws Throwable 수행 중 발생한 예외, 대기중인 호출에도 같은 예외가 전달된다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T call(Object key, Call<T> call) throws Throwable {
+        var future = new CompletableFuture<Object>();
+        var inFlight = inFlightMap.putIfAbsent(key, future);
+        if (inFlight != null) {
+            coalescedCount.increment();
+            try {
+                return (T) await(inFlight, maxWaitNanos);
+            } catch (TimeoutException e) {
+                timeoutCount.increment();
+                log.warn(
+                        "Coalesced call waited over {}ms. Execute directly. key: {}",
+                        TimeUnit.NANOSECONDS.toMillis(maxWaitNanos),
+                        key);
+                return call.call();
+            }
+        }
+
+        executionCount.increment();
+        try {
+            var result = call.call();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightMap.remove(key, future);
+        }
+    }
+
+    /** 실제 수행 수 */
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    /** 수행중인 결과를 공유받은 호출 수 */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /** 최대 대기시간 초과로 직접 수행한 호출 수 */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /** 현재 수행중인 키 수 */
+    public int getInFlightCount() {
+        return inFlightMap.size();
+    }
+
+    private static Object await(CompletableFuture<Object> inFlight, long maxWaitNanos)
+            throws Throwable {
+        try {
+            return inFlight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+}
@@ -0,0 +1,30 @@
+package com.dykim.base.config.annotation;
+
+import com.dykim.base.aspect.CoalesceAspect;
+import com.dykim.base.aspect.SingleFlight;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *
+ *
+ * <h3>Coalesce Annotation</h3>
+ *
+ * 동일 요청 병합(single-flight)용 어노테이션
+ *
+ * <pre>
+ *  - 같은 메소드가 같은 인자로 동시에 호출되면 먼저 진입한 호출만 수행하고,
+ *    나머지 호출은 수행중인 결과(또는 예외)를 함께 받는다.
+ *    ㄴ 최대 대기시간(base.coalesce.max-wait-millis)을 넘으면 나머지 호출도 직접 수행한다.
+ *  - 컨트롤러 핸들러, 서비스 등 스프링 빈 메소드에 사용할 수 있다.
+ *  - 조회(읽기) 메소드에만 사용한다. 반환 객체를 여러 요청이 공유하므로 반환 후 변경하지 않아야 한다.
+ *  - 서비스 코드에서 직접 키를 지정하는 경우 {@link SingleFlight} 를 사용한다.
+ * </pre>
+ *
+ * @see CoalesceAspect
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {}
@@ -13,6 +13,12 @@ import java.lang.annotation.Target;
  *
  * Api 다중호출 방지용 어노테이션
  *
+ * <pre>
+ *  - 디바운스 키는 라우트 템플릿(예: /api/member/v1/{mbrId})이며, 경로변수 값과 관계없이 같은 키를 사용한다.
+ *  - 경로변수 값 별로 디바운싱하는 경우 keyVariables 에 경로변수 이름을 지정한다.
+ *    ㄴ 예) @Debounce(value = 3000, keyVariables = "mbrId") -> /api/member/v1/{mbrId}?mbrId=1
+ * </pre>
+ *
  * @see DebounceInterceptor
  */
 @Target({ElementType.METHOD})
@@ -25,4 +31,11 @@ public @interface Debounce {
      * @return Debounce time millisecond; must be greater than zero
      */
     int value();
+
+    /**
+     * Path variable names included in debounce key.
+     *
+     * @return Path variable names; empty means route template only
+     */
+    String[] keyVariables() default {};
 }
@@ -0,0 +1,26 @@
+package com.dykim.base.config.annotation;
+
+import com.dykim.base.interceptor.IdempotencyInterceptor;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *
+ *
+ * <h3>Idempotent Annotation</h3>
+ *
+ * Idempotency-Key 헤더 기반 멱등 처리 어노테이션
+ *
+ * <pre>
+ *  - 요청에 Idempotency-Key 헤더가 있는 경우에만 동작한다.
+ *  - 최초 응답(상태코드 + 응답 바이트)을 저장하고, 같은 키의 재시도 요청에는 저장된 응답을 그대로 재전송한다.
+ *  - 최초 요청이 처리중인 경우 재시도 요청은 처리 완료까지 대기한다.(중복 실행하지 않음)
+ * </pre>
+ *
+ * @see IdempotencyInterceptor
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {}
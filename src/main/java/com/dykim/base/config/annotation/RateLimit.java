@@ -0,0 +1,90 @@
+package com.dykim.base.config.annotation;
+
+import com.dykim.base.interceptor.RateLimitInterceptor;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ *
+ * <h3>RateLimit Annotation</h3>
+ *
+ * Api 호출 허용량 제한용 어노테이션
+ *
+ * <pre>
+ *  - {@link Debounce} 는 일정시간 내 재호출을 모두 차단하지만,
+ *    RateLimit 은 기간 당 허용량(permits / period) 내의 호출과 순간적인 burst 를 허용한다.
+ *  - 허용량 초과 시 429 응답과 함께 Retry-After, X-RateLimit-* 헤더를 반환한다.
+ * </pre>
+ *
+ * @see RateLimitInterceptor
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * 기간 당 허용량
+     *
+     * @return permits; must be greater than zero
+     */
+    int permits();
+
+    /**
+     * 허용량 기간
+     *
+     * @return period; must be greater than zero
+     */
+    long period() default 1;
+
+    /**
+     * 허용량 기간 단위
+     *
+     * @return period time unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * 순간 최대 허용량, 0 이하인 경우 permits 와 같다. (TOKEN_BUCKET 만 사용)
+     *
+     * @return burst
+     */
+    int burst() default 0;
+
+    /**
+     * 클라이언트 구분 키
+     *
+     * @return key type
+     */
+    Key key() default Key.SESSION;
+
+    /**
+     * key 가 HEADER 인 경우 사용할 헤더명
+     *
+     * @return header name
+     */
+    String header() default "";
+
+    /**
+     * 제한 알고리즘
+     *
+     * @return algorithm
+     */
+    Algorithm algorithm() default Algorithm.TOKEN_BUCKET;
+
+    /** 클라이언트 구분 키, 값을 구할 수 없는 경우 IP 로 대체한다. */
+    enum Key {
+        SESSION,
+        PRINCIPAL,
+        IP,
+        HEADER
+    }
+
+    enum Algorithm {
+        TOKEN_BUCKET,
+        SLIDING_WINDOW
+    }
+}
@@ -0,0 +1,39 @@
+package com.dykim.base.config.annotation;
+
+import com.dykim.base.metrics.sql.SqlStats;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *
+ *
+ * <h3>SqlBudget Annotation</h3>
+ *
+ * 요청 당 SQL 실행 허용량 어노테이션
+ *
+ * <pre>
+ *  - 요청 전체(필터 포함)에서 실행된 SQL 수를 기준으로 한다.
+ *  - 초과 시 base.performance.sql.budget-action 에 따라 처리한다.
+ *    ㄴ log: 요청 종료 시 경고 로그
+ *    ㄴ fail: 허용량을 넘는 SQL 실행 시점에 SqlBudgetExceededException 발생(테스트에서 사용)
+ * </pre>
+ *
+ * <pre>
+ * 사용 예) 조회 1회 + 병합(merge) 조회 1회 + 수정 1회
+ *  &#64;SqlBudget(maxStatements = 3)
+ * </pre>
+ *
+ * @see SqlStats
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /** 요청 당 최대 SQL 실행 수 */
+    int maxStatements();
+
+    /** 같은 SQL 최대 반복 실행 수(N+1 방지), 0 이하인 경우 제한하지 않는다. */
+    int maxRepeats() default 0;
+}
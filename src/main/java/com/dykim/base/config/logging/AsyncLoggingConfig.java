@@ -0,0 +1,81 @@
+package com.dykim.base.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.dykim.base.filter.RequestIdFilter;
+import com.dykim.base.logging.RingBufferJsonAppender;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ *
+ *
+ * <h3>로그 설정</h3>
+ *
+ * <pre>
+ *  - RequestIdFilter: 모든 필터보다 먼저 MDC requestId 를 설정하도록 가장 높은 우선순위로 등록한다.
+ *    ㄴ 콘솔 / 파일 패턴의 %X{requestId} 와 JSON line 의 requestId 필드로 기록된다.
+ *  - RingBufferJsonAppender: base.logging.async.enabled=true 인 경우 루트 로거에 등록한다.
+ *    ㄴ 스프링 로깅 초기화 이후 등록되므로 기동 초기 로그는 기존 어펜더로만 기록된다.
+ *    ㄴ console=false 인 경우 기존 콘솔 어펜더(CONSOLE)를 제거하여 요청 쓰레드의 동기 출력을 없앤다.
+ *    ㄴ 종료 시 스프링 로깅 종료 훅(LoggerContext.stop)에서 남은 이벤트를 기록한다.
+ *
+ * base.logging.async
+ *  - enabled: 비동기 JSON line 로그 사용 여부
+ *  - file: 기록 파일 경로, 비어있는 경우 표준출력
+ *  - capacity: 링 버퍼 크기(2의 거듭제곱으로 올림)
+ *  - batch-size: 1회 기록 최대 이벤트 수
+ *  - discarding-threshold: 버퍼 사용률이 이 값 이상이면 TRACE, DEBUG 이벤트를 버린다.(0 ~ 1)
+ *  - overflow-policy: 버퍼가 가득 찬 경우 처리(drop | block)
+ *  - max-flush-delay-millis: 이벤트가 없을 때 기록 쓰레드 대기시간(최대 기록 지연)
+ *  - console: 기존 콘솔 어펜더 유지 여부
+ * </pre>
+ */
+@Configuration
+public class AsyncLoggingConfig {
+
+    private static final String CONSOLE_APPENDER = "CONSOLE";
+
+    @Bean
+    public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+        var registrationBean = new FilterRegistrationBean<>(new RequestIdFilter());
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "base.logging.async.enabled", havingValue = "true")
+    public RingBufferJsonAppender ringBufferJsonAppender(
+            @Value("${base.logging.async.file:}") String file,
+            @Value("${base.logging.async.capacity:8192}") int capacity,
+            @Value("${base.logging.async.batch-size:256}") int batchSize,
+            @Value("${base.logging.async.discarding-threshold:0.8}") double discardingThreshold,
+            @Value("${base.logging.async.overflow-policy:drop}") String overflowPolicy,
+            @Value("${base.logging.async.max-flush-delay-millis:50}") long maxFlushDelayMillis,
+            @Value("${base.logging.async.console:false}") boolean console) {
+        var loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        var appender = new RingBufferJsonAppender();
+        appender.setContext(loggerContext);
+        appender.setName("ASYNC_JSON");
+        appender.setFile(file);
+        appender.setCapacity(capacity);
+        appender.setBatchSize(batchSize);
+        appender.setDiscardingThreshold(discardingThreshold);
+        appender.setOverflowPolicy(
+                RingBufferJsonAppender.OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase()));
+        appender.setMaxFlushDelayMillis(maxFlushDelayMillis);
+        appender.start();
+
+        var rootLogger = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        rootLogger.addAppender(appender);
+        if (!console) {
+            rootLogger.detachAppender(CONSOLE_APPENDER);
+        }
+        return appender;
+    }
+}
@@ -1,26 +1,35 @@
 package com.dykim.base.config.security;
 
+import com.dykim.base.filter.BufferPool;
+import com.dykim.base.filter.TeeRequestWrapper;
+import com.dykim.base.filter.TeeResponseWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 /**
  *
  *
  * <h3>Authentication processing filter</h3>
  *
+ * 응답 상태가 2xx 가 아닌 경우 요청, 응답을 로그로 남긴다.
+ *
+ * <pre>
+ *  - 응답 본문은 {@link TeeResponseWrapper} 로 클라이언트에 바로 전달하고, 앞부분만 복사해 로그에 사용한다.
+ *    ㄴ 성공 응답의 본문 전체를 힙에 버퍼링하고 다시 복사하지 않는다.
+ *  - 요청 본문은 {@link TeeRequestWrapper} 로 처리 중 읽힌 앞부분만 복사하고, 비밀번호 필드를 가려 로그에 사용한다.
+ *    ㄴ 실패 시 본문을 다시 읽지 않으므로 큰 요청이 몰려도 로그 비용이 제한된다.
+ *  - 복사 크기: base.security.auth-logging.body-prefix-bytes
+ * </pre>
+ *
  * @author dongyoung.kim
  * @since 1.0
  */
@@ -30,30 +39,32 @@ public class AuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private final ObjectMapper objectMapper;
 
+    private final BufferPool bufferPool;
+
     @Override
     public void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
-        var responseWrapper = new ContentCachingResponseWrapper(response);
+        var requestWrapper = new TeeRequestWrapper(request, bufferPool);
+        var responseWrapper = new TeeResponseWrapper(response, bufferPool);
         try {
-            filterChain.doFilter(request, responseWrapper);
-            if (responseWrapper.getStatus() != HttpStatus.OK.value()) {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+            if (HttpStatus.Series.resolve(responseWrapper.getStatus())
+                    != HttpStatus.Series.SUCCESSFUL) {
                 log.error(
                         "Authentication failed. Request logging.\nRequest URI: [{}]{}\nheaders: {}\nrequestBody: {}",
                         request.getMethod(),
                         request.getRequestURI(),
                         getHeaderLog(request),
-                        getRequestBody(request));
+                        getRequestBody(requestWrapper));
 
                 // WWW-Authenticate
                 var status = responseWrapper.getStatus();
                 var responseHeader = getResponseHeader(responseWrapper);
-                var body = responseWrapper.getContentAsByteArray();
-                var bodyString = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(body);
                 log.error(
                         "Response logging.\nstatus: {}\nheaders: {} \nresponseBody: {}",
                         status,
                         responseHeader,
-                        bodyString);
+                        responseWrapper.getPrefixAsString());
                 //                if (body.length == 0) {
                 //                    ExceptionCode exceptionCode;
                 //                    if (status == HttpStatus.UNAUTHORIZED.value()) {
@@ -74,7 +85,6 @@ public class AuthenticationProcessingFilter extends OncePerRequestFilter {
                 // responseWrapper.getWriter().write(objectMapper.writeValueAsString(internalResponse));
                 //                }
             }
-            responseWrapper.copyBodyToResponse();
         } catch (Exception e) {
             log.error(e.getMessage(), e);
             //            ExceptionCode exceptionCode;
@@ -91,10 +101,14 @@ public class AuthenticationProcessingFilter extends OncePerRequestFilter {
             //            response.setCharacterEncoding("utf-8");
             //
             // response.getWriter().write(objectMapper.writeValueAsString(internalResponse));
+        } finally {
+            var async = request.isAsyncStarted();
+            requestWrapper.release(async);
+            responseWrapper.release(async);
         }
     }
 
-    private String getHeaderLog(HttpServletRequest request) {
+    private JsonLog getHeaderLog(HttpServletRequest request) {
         var headerNames = request.getHeaderNames();
         var headerMap = new HashMap<String, String>();
         while (headerNames.hasMoreElements()) {
@@ -102,39 +116,51 @@ public class AuthenticationProcessingFilter extends OncePerRequestFilter {
             var value = request.getHeader(key);
             headerMap.put(key, value);
         }
-        String headerString;
-        try {
-            headerString = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(headerMap);
-        } catch (JsonProcessingException | RuntimeException e) {
-            log.error(e.getMessage(), e);
-            headerString = "parse exception";
-        }
-        return headerString;
+        return new JsonLog(objectMapper, headerMap);
     }
 
-    private String getResponseHeader(HttpServletResponse response) {
+    private JsonLog getResponseHeader(HttpServletResponse response) {
         var headerNames = response.getHeaderNames();
         var headerMap = new HashMap<String, String>();
         for (var headerName : headerNames) {
             headerMap.put(headerName, response.getHeader(headerName));
         }
-        String headerString;
-        try {
-            headerString = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(headerMap);
-        } catch (JsonProcessingException | RuntimeException e) {
-            log.error(e.getMessage(), e);
-            headerString = "parse exception";
-        }
-        return headerString;
+        return new JsonLog(objectMapper, headerMap);
     }
 
-    private String getRequestBody(HttpServletRequest request) {
+    /** 처리 중 읽힌 요청 본문 앞부분(비밀번호 필드는 가린다.) */
+    private String getRequestBody(TeeRequestWrapper request) {
         try {
-            var requestBody = IOUtils.toString(request.getInputStream(), StandardCharsets.UTF_8);
+            var requestBody = request.getBodyForLog();
             return StringUtils.isNoneBlank(requestBody) ? requestBody : "RequestBody is null.";
-        } catch (RuntimeException | IOException e) {
+        } catch (RuntimeException e) {
             log.error(e.getMessage(), e);
             return "Failed get requestBody";
         }
     }
+
+    /**
+     * 로그 출력 시점에 JSON 으로 변환되는 값
+     *
+     * <pre>
+     *  - 로그 레벨이 비활성화된 경우 변환하지 않는다.
+     *  - 한 줄로 출력하도록 pretty print 하지 않는다.
+     * </pre>
+     */
+    @RequiredArgsConstructor
+    private static final class JsonLog {
+
+        private final ObjectMapper objectMapper;
+        private final Object value;
+
+        @Override
+        public String toString() {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.error(e.getMessage(), e);
+                return "parse exception";
+            }
+        }
+    }
 }
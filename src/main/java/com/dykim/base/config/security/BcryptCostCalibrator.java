@@ -0,0 +1,82 @@
+package com.dykim.base.config.security;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ *
+ *
+ * <h3>Bcrypt Cost Calibrator</h3>
+ *
+ * 서버에서 직접 측정하여 비밀번호 비교 1회가 지연시간 예산 안에 끝나는 가장 높은 bcrypt cost 를 찾는다.
+ *
+ * <pre>
+ *  1. 최소 cost 부터 비교(matches) 시간을 측정한다.
+ *   - 측정 전 1회 실행하여 JIT 컴파일 영향을 줄이고, samples 회 측정한 값의 중앙값을 사용한다.
+ *  2. cost 가 1 오를 때마다 비교 시간은 2배가 되므로, 측정값 x 2 가 예산을 넘으면 측정을 멈춘다.
+ *    ㄴ 예산을 넘는 cost 는 측정하지 않아 시작 시간이 늘어나지 않는다.
+ *  3. 최소 cost 가 예산을 넘더라도 최소 cost 를 사용한다.(보안 하한)
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BcryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private final long latencyBudgetNanos;
+    private final int minCost;
+    private final int maxCost;
+    private final int samples;
+
+    /** 서버에서 측정하여 cost 결정 */
+    public int calibrate() {
+        return calibrate(this::measure);
+    }
+
+    /**
+     * @param verifyNanos cost 별 비교 1회 시간(ns) 측정 함수
+     * @return 예산 안에 끝나는 가장 높은 cost(최소 minCost)
+     */
+    int calibrate(IntToLongFunction verifyNanos) {
+        var cost = minCost;
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            var nanos = verifyNanos.applyAsLong(candidate);
+            log.info(
+                    "Bcrypt cost {} verify: {}ms (budget: {}ms)",
+                    candidate,
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    TimeUnit.NANOSECONDS.toMillis(latencyBudgetNanos));
+            if (nanos > latencyBudgetNanos) {
+                if (candidate == minCost) {
+                    log.warn("Bcrypt min cost {} is over latency budget.", minCost);
+                }
+                break;
+            }
+            cost = candidate;
+            if (nanos * 2 > latencyBudgetNanos) {
+                break;
+            }
+        }
+        return cost;
+    }
+
+    /** cost 의 비교 1회 시간(ns) 중앙값 */
+    private long measure(int cost) {
+        var encoder = new BCryptPasswordEncoder(cost);
+        var encoded = encoder.encode(SAMPLE_PASSWORD);
+        encoder.matches(SAMPLE_PASSWORD, encoded);
+        var elapsed = new long[Math.max(samples, 1)];
+        for (int i = 0; i < elapsed.length; i++) {
+            var startNanos = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, encoded);
+            elapsed[i] = System.nanoTime() - startNanos;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[elapsed.length / 2];
+    }
+}
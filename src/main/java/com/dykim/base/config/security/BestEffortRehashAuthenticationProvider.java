@@ -0,0 +1,65 @@
+package com.dykim.base.config.security;
+
+import com.dykim.base.advice.common.exception.PasswordHashingRejectedException;
+import com.dykim.base.metrics.ServerTiming;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ *
+ *
+ * <h3>Best Effort Rehash AuthenticationProvider</h3>
+ *
+ * 비밀번호 재암호화를 최선 노력(best effort)으로 수행하는 DaoAuthenticationProvider
+ *
+ * <pre>
+ *  - 비밀번호 비교 성공 후 재암호화(encode 1회 추가)가 {@link PasswordHashingRejectedException} 으로
+ *    거부된 경우에도 로그인은 성공시키고, 재암호화는 다음 로그인으로 미룬다.
+ *    ㄴ {@link BoundedPasswordEncoder#upgradeEncoding} 의 대기열 확인 이후 요청이 몰려 거부될 수 있다.
+ *  - 비밀번호 비교(matches)가 거부된 경우는 그대로 전달되어 503 으로 응답한다.
+ *  - 인증 시간(사용자 조회, 비밀번호 비교 포함)을 Server-Timing auth 단계로 기록한다.
+ *    ㄴ 폼 로그인 요청은 시큐리티 필터에서 처리되어 인터셉터 체인을 거치지 않는다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 거부 시 인증 결과는 AbstractUserDetailsAuthenticationProvider 와 같은 방식으로 생성한다.</b>
+ *  - 권한 변환(GrantedAuthoritiesMapper)은 사용하지 않으므로 UserDetails 권한을 그대로 사용한다.
+ * </pre>
+ */
+@Slf4j
+public class BestEffortRehashAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private static final String SERVER_TIMING_AUTH = "auth";
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        var serverTiming = ServerTiming.current();
+        if (serverTiming == null) {
+            return super.authenticate(authentication);
+        }
+        var startNanos = System.nanoTime();
+        try {
+            return super.authenticate(authentication);
+        } finally {
+            serverTiming.add(SERVER_TIMING_AUTH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(
+            Object principal, Authentication authentication, UserDetails user) {
+        try {
+            return super.createSuccessAuthentication(principal, authentication, user);
+        } catch (PasswordHashingRejectedException e) {
+            log.debug("Password rehash deferred. {}", e.getMessage());
+            var result =
+                    UsernamePasswordAuthenticationToken.authenticated(
+                            principal, authentication.getCredentials(), user.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+    }
+}
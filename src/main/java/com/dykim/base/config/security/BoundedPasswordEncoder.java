@@ -0,0 +1,219 @@
+package com.dykim.base.config.security;
+
+import com.dykim.base.advice.common.exception.PasswordHashingRejectedException;
+import com.dykim.base.metrics.HistogramSnapshot;
+import com.dykim.base.metrics.LogLinearHistogram;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ *
+ *
+ * <h3>Bounded Password Encoder</h3>
+ *
+ * 비밀번호 암호화, 비교(bcrypt)를 전용 쓰레드풀에서 수행하는 PasswordEncoder
+ *
+ * <pre>
+ *  1. 작업 제출 - 쓰레드 수(CPU 코어 x cpu-share), 대기열 크기가 고정된 쓰레드풀
+ *    ㄴ 대기열이 가득 찬 경우 즉시 {@link PasswordHashingRejectedException} 발생
+ *  2. 결과 대기 - 최대 대기시간(max-wait-millis)을 넘으면 거부한다.
+ *    ㄴ 대기열에 남아있는 작업만 제거된다. 이미 실행중인 해시는 bcrypt 가 인터럽트를 확인하지 않으므로
+ *       끝까지 실행되며, 그동안 쓰레드를 점유한다.
+ *  3. 지표 기록 - 대기시간(제출 ~ 실행 시작), 실행시간
+ * </pre>
+ *
+ * <pre>
+ * <b>참고1) 로그인 요청이 몰려도 bcrypt 가 사용하는 CPU 는 쓰레드 수로 제한된다.</b>
+ *  - Tomcat 요청 쓰레드는 결과를 기다리는 동안 CPU 를 사용하지 않으므로 다른 API 처리가 밀리지 않는다.
+ *  - 거부된 로그인은 LoginFailureHandler 에서 503, Retry-After 로 응답한다.
+ * <b>참고2) 거부 예외는 InternalAuthenticationServiceException 이다.</b>
+ *  - ProviderManager 가 다른(부모) AuthenticationProvider 로 재시도하지 않고 바로 전달한다.
+ * </pre>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+
+    private final LogLinearHistogram waitHistogram = new LogLinearHistogram();
+    private final LogLinearHistogram executionHistogram = new LogLinearHistogram();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    /**
+     * @param delegate 실제 암호화, 비교를 수행할 PasswordEncoder
+     * @param threads 쓰레드 수
+     * @param queueCapacity 대기열 크기
+     * @param maxWaitMillis 결과 최대 대기시간(대기열 대기 + 실행)
+     */
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate, int threads, int queueCapacity, long maxWaitMillis) {
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        var threadNumber = new AtomicInteger();
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            var thread =
+                                    new Thread(
+                                            runnable,
+                                            "password-hashing-" + threadNumber.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** CPU 코어 수 x cpuShare 로 쓰레드 수 계산(최소 1) */
+    public static int threadsOf(double cpuShare) {
+        var cores = Runtime.getRuntime().availableProcessors();
+        return Math.max((int) Math.floor(cores * cpuShare), 1);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 대기중인 작업이 있으면 재암호화(encode 1회 추가)를 다음 로그인으로 미룬다.
+     *
+     * <p>확인 이후 요청이 몰려 재암호화가 거부될 수 있으며, 이 경우에도 로그인은 성공한다.
+     *
+     * @see BestEffortRehashAuthenticationProvider
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return getQueueDepth() == 0 && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        // 1. 작업 제출
+        var submitNanos = System.nanoTime();
+        var future =
+                submit(
+                        () -> {
+                            var startNanos = System.nanoTime();
+                            waitHistogram.record(startNanos - submitNanos);
+                            try {
+                                return task.call();
+                            } finally {
+                                executionHistogram.record(System.nanoTime() - startNanos);
+                            }
+                        });
+
+        // 2. 결과 대기
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남아있는 경우 자리를 바로 비운다.(실행중인 해시는 중단되지 않는다.)
+            future.cancel(false);
+            executor.remove((Runnable) future);
+            timeoutCount.increment();
+            throw new PasswordHashingRejectedException(
+                    String.format(
+                            "Password hashing timed out(%dms).",
+                            TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)));
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            executor.remove((Runnable) future);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Password hashing interrupted.");
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.debug("Password hashing rejected. queue: {}/{}", getQueueDepth(), queueCapacity);
+            throw new PasswordHashingRejectedException(
+                    String.format(
+                            "Password hashing queue is full(%d). Retry later.", queueCapacity));
+        }
+    }
+
+    /** 쓰레드 수 */
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /** 대기열 크기 */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /** 대기열에 있는 작업 수 */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /** 실행중인 작업 수(근사치) */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /** 완료된 작업 수(근사치) */
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /** 대기열이 가득 차 거부된 수 */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /** 최대 대기시간을 넘겨 거부된 수(실행중이던 해시는 계속 실행된 후 버려진다.) */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /** 대기시간(제출 ~ 실행 시작) */
+    public HistogramSnapshot waitSnapshot() {
+        return waitHistogram.snapshot();
+    }
+
+    /** 실행시간 */
+    public HistogramSnapshot executionSnapshot() {
+        return executionHistogram.snapshot();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,43 @@
+package com.dykim.base.config.security;
+
+import java.util.regex.Pattern;
+import lombok.Getter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ *
+ *
+ * <h3>Cost Aware BCryptPasswordEncoder</h3>
+ *
+ * 저장된 해시의 cost 가 설정된 cost 와 다르면 재암호화 대상으로 판단하는 BCryptPasswordEncoder
+ *
+ * <pre>
+ *  - BCryptPasswordEncoder 는 cost 가 낮은 해시만 재암호화(upgrade)한다.
+ *  - 측정으로 cost 를 낮춘 경우에도 로그인 시 설정된 cost 로 재암호화(downgrade)되도록 한다.
+ *  - bcrypt 형식이 아닌 값은 비교도 실패하므로 재암호화하지 않는다.
+ * </pre>
+ *
+ * @see UserDetailsServiceImpl#updatePassword
+ */
+@Getter
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN =
+            Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int cost;
+
+    public CostAwareBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        var matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(2)) != cost;
+    }
+}
@@ -0,0 +1,46 @@
+package com.dykim.base.config.security;
+
+import com.dykim.base.metrics.jfr.PasswordVerificationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ *
+ *
+ * <h3>Instrumented Password Encoder</h3>
+ *
+ * 비밀번호 비교(matches) 시간을 JFR {@link PasswordVerificationEvent} 로 기록하는 PasswordEncoder
+ *
+ * <pre>
+ *  - 암호화, 비교, 재암호화 여부 판단은 모두 위임 대상 PasswordEncoder 가 처리한다.
+ *  - JFR 녹화 중이 아닌 경우 이벤트 필드를 채우지 않는다.
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class InstrumentedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        var event = new PasswordVerificationEvent();
+        event.begin();
+        var matched = delegate.matches(rawPassword, encodedPassword);
+        if (event.shouldCommit()) {
+            event.encoder = delegate.getClass().getSimpleName();
+            event.matched = matched;
+            event.commit();
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,62 @@
+package com.dykim.base.config.security;
+
+import com.dykim.base.advice.common.exception.PasswordHashingRejectedException;
+import com.dykim.base.dto.ApiResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+
+/**
+ *
+ *
+ * <h3>Login Failure Handler</h3>
+ *
+ * <pre>
+ *  - 비밀번호 비교 쓰레드풀 포화로 거부된 경우 503, Retry-After 헤더와 ApiResult 에러 형식으로 응답한다.
+ *    ㄴ 인증 실패가 아니므로 로그인 페이지로 이동하지 않는다.
+ *  - 그 외 인증 실패는 실패 URL 로 이동한다.
+ * </pre>
+ *
+ * @see BoundedPasswordEncoder
+ */
+@Slf4j
+public class LoginFailureHandler implements AuthenticationFailureHandler {
+
+    private final AuthenticationFailureHandler delegate;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+
+    public LoginFailureHandler(
+            String failureUrl, ObjectMapper objectMapper, long retryAfterSeconds) {
+        this.delegate = new SimpleUrlAuthenticationFailureHandler(failureUrl);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void onAuthenticationFailure(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            AuthenticationException exception)
+            throws IOException, ServletException {
+        if (!(exception instanceof PasswordHashingRejectedException)) {
+            delegate.onAuthenticationFailure(request, response, exception);
+            return;
+        }
+        log.debug("Login rejected. {}", exception.getMessage());
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResult.error(exception));
+    }
+}
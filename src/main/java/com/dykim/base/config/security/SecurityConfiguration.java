@@ -1,22 +1,28 @@
 package com.dykim.base.config.security;
 
+import com.dykim.base.consts.uris.PerformanceApiUris;
+import com.dykim.base.consts.uris.PerformanceFrontUris;
 import com.dykim.base.consts.uris.SampleApiUris;
 import com.dykim.base.consts.uris.SecurityFrontUris;
+import com.dykim.base.filter.BufferPool;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -25,6 +31,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -34,7 +41,14 @@ public class SecurityConfiguration {
     private final ObjectMapper objectMapper;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity httpSecurity,
+            BoundedPasswordEncoder passwordEncoder,
+            @Value("${base.security.password-hashing.retry-after-seconds:1}")
+                    long passwordHashingRetryAfterSeconds,
+            @Value("${base.security.auth-logging.body-prefix-bytes:4096}") int bodyPrefixBytes,
+            @Value("${base.security.auth-logging.pooled-buffers:128}") int pooledBuffers)
+            throws Exception {
         httpSecurity.formLogin(
                 configurer ->
                         configurer
@@ -49,8 +63,13 @@ public class SecurityConfiguration {
                                                             .orElse(null);
                                             response.sendRedirect(SecurityFrontUris.LOGIN_SUCCESS);
                                         }))
-                                .failureUrl(SecurityFrontUris.LOGIN));
-        httpSecurity.userDetailsService(userDetailsService);
+                                .failureUrl(SecurityFrontUris.LOGIN)
+                                .failureHandler(
+                                        new LoginFailureHandler(
+                                                SecurityFrontUris.LOGIN,
+                                                objectMapper,
+                                                passwordHashingRetryAfterSeconds)));
+        httpSecurity.authenticationProvider(authenticationProvider(passwordEncoder));
         httpSecurity.csrf(AbstractHttpConfigurer::disable);
         httpSecurity.cors(configurer -> configurer.configurationSource(corsConfigurationSource()));
         httpSecurity.headers().frameOptions().sameOrigin();
@@ -67,6 +86,10 @@ public class SecurityConfiguration {
                                 .permitAll()
                                 .mvcMatchers(SampleApiUris.DEBOUNCE)
                                 .permitAll()
+                                .mvcMatchers(PerformanceApiUris.PROFILE)
+                                .hasAuthority("ADMIN")
+                                .mvcMatchers(PerformanceFrontUris.PREFIX + "/**")
+                                .hasAuthority("ADMIN")
                                 .anyRequest()
                                 .authenticated());
         httpSecurity.logout(
@@ -77,14 +100,68 @@ public class SecurityConfiguration {
                                         ((request, response, authentication) ->
                                                 response.sendRedirect(SecurityFrontUris.LOGOUT_SUCCESS))));
         httpSecurity.addFilterBefore(
-                new AuthenticationProcessingFilter(objectMapper),
+                new AuthenticationProcessingFilter(
+                        objectMapper,
+                        new BufferPool(bodyPrefixBytes, pooledBuffers)),
                 UsernamePasswordAuthenticationFilter.class);
         return httpSecurity.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     *
+     *
+     * <h3>PasswordEncoder</h3>
+     *
+     * <pre>
+     * base.security.password-hashing
+     *  - cpu-share: bcrypt 에 사용할 CPU 비율, 쓰레드 수 = CPU 코어 수 x cpu-share(최소 1)
+     *  - queue-capacity: 대기열 크기, 가득 찬 경우 로그인은 503 으로 응답한다.
+     *  - max-wait-millis: 결과 최대 대기시간
+     *  - retry-after-seconds: 거부 응답 Retry-After
+     *
+     * base.security.password-hashing.bcrypt
+     *  - cost: bcrypt cost, 0 인 경우 시작 시 측정하여 결정한다.
+     *  - latency-budget-millis: 측정 시 비교 1회 지연시간 예산
+     *  - min-cost, max-cost: 측정 시 cost 범위
+     *  - samples: cost 별 측정 횟수
+     *  저장된 해시의 cost 가 다른 경우 로그인 성공 시 재암호화한다.
+     * </pre>
+     */
+    @Bean(destroyMethod = "close")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${base.security.password-hashing.cpu-share:0.5}") double cpuShare,
+            @Value("${base.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${base.security.password-hashing.max-wait-millis:3000}") long maxWaitMillis,
+            @Value("${base.security.password-hashing.bcrypt.cost:0}") int cost,
+            @Value("${base.security.password-hashing.bcrypt.latency-budget-millis:100}")
+                    long latencyBudgetMillis,
+            @Value("${base.security.password-hashing.bcrypt.min-cost:10}") int minCost,
+            @Value("${base.security.password-hashing.bcrypt.max-cost:16}") int maxCost,
+            @Value("${base.security.password-hashing.bcrypt.samples:5}") int samples) {
+        var bcryptCost =
+                cost > 0
+                        ? cost
+                        : new BcryptCostCalibrator(
+                                        TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis),
+                                        minCost,
+                                        maxCost,
+                                        samples)
+                                .calibrate();
+        log.info("Bcrypt cost: {}{}", bcryptCost, cost > 0 ? "" : " (calibrated)");
+        return new BoundedPasswordEncoder(
+                new InstrumentedPasswordEncoder(new CostAwareBCryptPasswordEncoder(bcryptCost)),
+                BoundedPasswordEncoder.threadsOf(cpuShare),
+                queueCapacity,
+                maxWaitMillis);
+    }
+
+    /** 재암호화가 거부되어도 로그인은 성공시키는 AuthenticationProvider */
+    private AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
+        var authenticationProvider = new BestEffortRehashAuthenticationProvider();
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        return authenticationProvider;
     }
 
     @Bean
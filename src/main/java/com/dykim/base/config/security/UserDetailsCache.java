@@ -0,0 +1,157 @@
+package com.dykim.base.config.security;
+
+import com.dykim.base.config.security.cache.TinyLfuCache;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ *
+ *
+ * <h3>UserDetails Cache</h3>
+ *
+ * 로그인 시 회원 조회(findByEmailAndUseYn) 결과 캐시
+ *
+ * <pre>
+ *  - 키: 로그인 요청 이메일 그대로(DB 조회 조건과 같은 값)
+ *    ㄴ 대소문자 구분 여부는 DB collation 에 따르므로 캐시에서 별도로 정규화하지 않는다.
+ *    ㄴ 정규화하면 대소문자를 구분하는 DB(H2 등)에서 다른 표기의 실패가 원래 회원을 막거나,
+ *       다른 표기로 원래 회원의 스냅샷이 조회된다.
+ *    ㄴ 회원 스냅샷은 회원 이메일과 같은 키로만 저장하여, 무효화(회원 이메일)가 누락되지 않게 한다.
+ *       (대소문자를 구분하지 않는 DB 에서 다른 표기로 조회된 회원은 저장하지 않는다.)
+ *  - 값: 불변 {@link UserDetailsImpl} 스냅샷, 없는 회원은 빈 값(negative)으로 짧게 저장한다.
+ *  - 크기: {@link TinyLfuCache} 로 최대 건수를 제한한다.
+ *  - 무효화: 비밀번호, 사용여부(useYn) 변경 및 회원 추가 시 MemberServiceImpl 에서 호출한다.
+ * </pre>
+ *
+ * <pre>
+ * base.security.user-cache
+ *  - enabled: 사용 여부
+ *  - maximum-size: 최대 저장 건수
+ *  - ttl-seconds: 회원 스냅샷 유지 시간
+ *    ㄴ 다른 노드에서 변경된 회원은 무효화되지 않으므로 변경이 반영되는 최대 지연시간이다.
+ *  - negative-ttl-seconds: 없는 회원 유지 시간
+ *    ㄴ 다른 표기로 저장된 없는 회원은 회원 추가 시 무효화되지 않으므로 이 시간만큼 유지될 수 있다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 조회 중 무효화된 경우 조회 결과를 저장하지 않는다.</b>
+ *  - 변경 전 값을 조회한 요청이 무효화 이후에 저장하여 이전 비밀번호가 남는 경우를 막는다.
+ *  - 조회 전 {@link #stamp()} 로 무효화 횟수를 기록하고, 저장 시 달라졌으면 버린다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final TinyLfuCache<String, Optional<UserDetailsImpl>> cache;
+
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final LongAdder negativeHitCount = new LongAdder();
+
+    public UserDetailsCache(
+            @Value("${base.security.user-cache.enabled:true}") boolean enabled,
+            @Value("${base.security.user-cache.maximum-size:10000}") int maximumSize,
+            @Value("${base.security.user-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${base.security.user-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.cache = new TinyLfuCache<>(Math.max(maximumSize, 1));
+    }
+
+    /** 캐시 키, DB 조회 조건과 같은 값을 사용한다. */
+    private static String keyOf(String email) {
+        return email != null ? email : "";
+    }
+
+    /**
+     *
+     *
+     * <h3>조회</h3>
+     *
+     * @param email 이메일
+     * @return 캐시되지 않은 경우 null, 없는 회원으로 캐시된 경우 Optional.empty()
+     */
+    public Optional<UserDetailsImpl> get(String email) {
+        if (!enabled) {
+            return null;
+        }
+        var cached = cache.getIfPresent(keyOf(email), System.nanoTime());
+        if (cached != null && cached.isEmpty()) {
+            negativeHitCount.increment();
+        }
+        return cached;
+    }
+
+    /** 조회 전 무효화 횟수. {@link #put} 에 전달한다. */
+    public long stamp() {
+        return invalidationCount.get();
+    }
+
+    /**
+     *
+     *
+     * <h3>저장</h3>
+     *
+     * @param email 이메일(DB 조회 조건)
+     * @param userDetails 조회된 회원, 없는 경우 null. 회원 이메일과 표기가 다른 경우 저장하지 않는다.
+     * @param stamp 조회 전 {@link #stamp()} 값, 그 사이 무효화된 경우 저장하지 않는다.
+     */
+    public void put(String email, UserDetailsImpl userDetails, long stamp) {
+        if (!enabled || invalidationCount.get() != stamp) {
+            return;
+        }
+        if (userDetails != null && !keyOf(email).equals(userDetails.getUsername())) {
+            return;
+        }
+        var ttl = userDetails != null ? ttlNanos : negativeTtlNanos;
+        if (ttl <= 0) {
+            return;
+        }
+        cache.put(keyOf(email), Optional.ofNullable(userDetails), System.nanoTime() + ttl);
+    }
+
+    /** 회원의 캐시를 무효화한다. */
+    public void invalidate(String email) {
+        invalidationCount.incrementAndGet();
+        cache.invalidate(keyOf(email));
+        log.debug("UserDetails cache invalidated.");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /** 없는 회원으로 캐시된 항목 조회 수(hitCount 에 포함) */
+    public long getNegativeHitCount() {
+        return negativeHitCount.sum();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public long getRejectionCount() {
+        return cache.getRejectionCount();
+    }
+}
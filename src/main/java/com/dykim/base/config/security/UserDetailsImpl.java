@@ -3,20 +3,37 @@ package com.dykim.base.config.security;
 import com.dykim.base.entity.member.Member;
 import java.util.ArrayList;
 import java.util.Collection;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-@RequiredArgsConstructor
+/**
+ *
+ *
+ * <h3>UserDetails 구현체</h3>
+ *
+ * <pre>
+ * <b>참고) 인증에 필요한 값만 복사한 불변 스냅샷이다.</b>
+ *  - {@link UserDetailsCache} 에서 여러 요청이 같은 객체를 공유하므로 엔티티를 참조하지 않는다.
+ *  - CredentialsContainer 를 구현하지 않아 인증 후 비밀번호가 지워지지 않는다.
+ *    ㄴ 지워지는 경우 캐시된 객체의 비밀번호도 함께 사라진다.
+ * </pre>
+ */
 public class UserDetailsImpl implements UserDetails {
 
-    private final Member member;
+    private final String email;
+    private final String password;
+    private final String roleList;
+
+    public UserDetailsImpl(Member member) {
+        this.email = member.getEmail();
+        this.password = member.getPassword();
+        this.roleList = member.getRoleList();
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        SimpleGrantedAuthority simpleGrantedAuthority =
-                new SimpleGrantedAuthority(member.getRoleList());
+        SimpleGrantedAuthority simpleGrantedAuthority = new SimpleGrantedAuthority(roleList);
         Collection<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(simpleGrantedAuthority);
         return authorities;
@@ -24,31 +41,31 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     @Override
     public boolean isAccountNonExpired() {
-        return member.getRoleList().contains("ADMIN");
+        return roleList.contains("ADMIN");
     }
 
     @Override
     public boolean isAccountNonLocked() {
-        return member.getRoleList().contains("ADMIN");
+        return roleList.contains("ADMIN");
     }
 
     @Override
     public boolean isCredentialsNonExpired() {
-        return member.getRoleList().contains("ADMIN");
+        return roleList.contains("ADMIN");
     }
 
     @Override
     public boolean isEnabled() {
-        return member.getRoleList().contains("ADMIN");
+        return roleList.contains("ADMIN");
     }
 }
@@ -1,23 +1,78 @@
 package com.dykim.base.config.security;
 
+import com.dykim.base.metrics.jfr.UserLookupEvent;
 import com.dykim.base.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+/**
+ *
+ *
+ * <h3>UserDetailsService 구현체</h3>
+ *
+ * <pre>
+ *  - 로그인 회원 조회: {@link UserDetailsCache} 를 먼저 조회하고, 없는 경우 DB 에서 조회한다.
+ *    ㄴ 캐시와 DB 모두 요청 이메일 그대로 조회하여, 대소문자 구분 여부는 DB collation 을 따른다.
+ *  - 비밀번호 재암호화: 저장된 해시의 bcrypt cost 가 설정과 다른 경우 로그인 성공 시 호출된다.
+ *    ㄴ DaoAuthenticationProvider 가 PasswordEncoder.upgradeEncoding 으로 판단한다.
+ * </pre>
+ *
+ * @see CostAwareBCryptPasswordEncoder
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        var event = new UserLookupEvent();
+        event.begin();
+        var cached = userDetailsCache.get(username);
+        if (cached != null) {
+            if (event.shouldCommit()) {
+                event.found = cached.isPresent();
+                event.cached = true;
+                event.commit();
+            }
+            return cached.orElseThrow(UserDetailsServiceImpl::notFound);
+        }
+
+        var stamp = userDetailsCache.stamp();
+        var userDetails =
+                memberRepository.findByEmailAndUseYn(username, "Y").map(UserDetailsImpl::new);
+        userDetailsCache.put(username, userDetails.orElse(null), stamp);
+        if (event.shouldCommit()) {
+            event.found = userDetails.isPresent();
+            event.commit();
+        }
+        return userDetails.orElseThrow(UserDetailsServiceImpl::notFound);
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
         return memberRepository
-                .findByEmailAndUseYn(username, "Y")
-                .map(UserDetailsImpl::new)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+                .findByEmailAndUseYn(user.getUsername(), "Y")
+                .map(member -> member.changePassword(newPassword))
+                .map(memberRepository::save)
+                .map(
+                        member -> {
+                            userDetailsCache.invalidate(member.getEmail());
+                            log.info("Member password rehashed. mbrId: {}", member.getId());
+                            return (UserDetails) new UserDetailsImpl(member);
+                        })
+                .orElse(user);
+    }
+
+    private static UsernameNotFoundException notFound() {
+        return new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
     }
 }
@@ -0,0 +1,103 @@
+package com.dykim.base.config.security.cache;
+
+/**
+ *
+ *
+ * <h3>Frequency Sketch</h3>
+ *
+ * TinyLFU 입장(admission) 판단용 근사 접근 빈도 카운터(4bit Count-Min Sketch)
+ *
+ * <pre>
+ *  - long 하나에 4bit 카운터 16개를 담고, 키 당 서로 다른 long 4개의 카운터를 사용한다.
+ *  - 빈도는 4개 카운터의 최소값이며 최대 15 까지 센다.
+ *  - 증가 횟수가 표본 크기(최대 건수 x 10)에 도달하면 모든 카운터를 절반으로 줄인다.
+ *    ㄴ 과거에 자주 접근했지만 최근 접근이 없는 키의 빈도가 점차 줄어든다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 동기화하지 않는다. 호출자가 동기화한 상태에서 호출해야 한다.</b>
+ * </pre>
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+
+    private int size;
+
+    /** @param maximumSize 캐시 최대 건수 */
+    FrequencySketch(int maximumSize) {
+        var capacity = ceilPowerOfTwo(Math.max(maximumSize, 8));
+        table = new long[capacity];
+        tableMask = capacity - 1;
+        sampleSize = (int) Math.min(10L * Math.max(maximumSize, 1), Integer.MAX_VALUE);
+    }
+
+    /** 키의 추정 빈도(0 ~ 15) */
+    int frequency(Object key) {
+        var hash = spread(key.hashCode());
+        var start = (hash & 3) << 2;
+        var frequency = MAX_COUNT;
+        for (int i = 0; i < 4; i++) {
+            var count = (int) ((table[indexOf(hash, i)] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /** 키의 빈도를 1 증가시킨다. 표본 크기에 도달하면 전체 카운터를 절반으로 줄인다. */
+    void increment(Object key) {
+        var hash = spread(key.hashCode());
+        var start = (hash & 3) << 2;
+        var added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        var offset = counter << 2;
+        var mask = 0xfL << offset;
+        if ((table[index] & mask) == mask) {
+            return false;
+        }
+        table[index] += 1L << offset;
+        return true;
+    }
+
+    private void reset() {
+        var oddCount = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCount += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (oddCount >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int depth) {
+        var index = (hash + SEEDS[depth]) * SEEDS[depth];
+        index += index >>> 32;
+        return (int) index & tableMask;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
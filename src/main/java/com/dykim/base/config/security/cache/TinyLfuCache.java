@@ -0,0 +1,279 @@
+package com.dykim.base.config.security.cache;
+
+import java.util.HashMap;
+
+/**
+ *
+ *
+ * <h3>TinyLFU Cache</h3>
+ *
+ * W-TinyLFU 방식의 고정 크기 캐시
+ *
+ * <pre>
+ *  1. 새 항목은 윈도우(LRU, 최대 건수의 1%)에 추가한다.
+ *  2. 윈도우가 가득 차면 가장 오래된 항목(후보)을 메인 영역에 입장시킨다.
+ *   - 메인 영역이 가득 찬 경우 메인 영역의 제거 대상(희생자)과 접근 빈도를 비교한다.
+ *   - 후보의 빈도가 더 높은 경우에만 희생자를 제거하고 입장하며, 아니면 후보를 제거한다.
+ *     ㄴ 한번만 조회되는 키가 많아도 자주 조회되는 키가 밀려나지 않는다.
+ *  3. 메인 영역은 Segmented LRU(probation 20%, protected 80%)로 관리한다.
+ *   - probation 항목을 다시 조회하면 protected 로 승격한다.
+ *   - protected 가 가득 차면 가장 오래된 항목을 probation 으로 강등한다.
+ *  4. 항목 별 만료시간이 지나면 조회 시 제거한다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 모든 연산은 단일 락으로 동기화한다.</b>
+ *  - 로그인 등 조회 빈도가 낮고 조회 비용이 큰 경로를 대상으로 하며, 잠금 구간은 O(1) 이다.
+ *  - 접근 빈도는 {@link FrequencySketch} 로 근사하여 키 별 카운터를 보관하지 않는다.
+ * </pre>
+ *
+ * @param <K> 키
+ * @param <V> 값
+ */
+public class TinyLfuCache<K, V> {
+
+    private final int windowMaximum;
+    private final int mainMaximum;
+    private final int protectedMaximum;
+
+    private final HashMap<K, Node<K, V>> data = new HashMap<>();
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+    private final FrequencySketch sketch;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long rejectionCount;
+
+    /** @param maximumSize 최대 건수(1 이상) */
+    public TinyLfuCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        windowMaximum = Math.max(maximumSize / 100, 1);
+        mainMaximum = maximumSize - windowMaximum;
+        protectedMaximum = mainMaximum * 4 / 5;
+        sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     *
+     *
+     * <h3>조회</h3>
+     *
+     * 키의 접근 빈도를 증가시키고, 만료되지 않은 항목이 있으면 접근 순서를 갱신한다.
+     *
+     * @param key 키
+     * @param currentNanos 현재 시간(System.nanoTime 기준)
+     * @return 값, 없거나 만료된 경우 null
+     */
+    public synchronized V getIfPresent(K key, long currentNanos) {
+        sketch.increment(key);
+        var node = data.get(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        if (node.expireAtNanos - currentNanos <= 0) {
+            remove(node);
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        onHit(node);
+        return node.value;
+    }
+
+    /**
+     *
+     *
+     * <h3>저장</h3>
+     *
+     * @param key 키
+     * @param value 값
+     * @param expireAtNanos 만료시간(System.nanoTime 기준)
+     */
+    public synchronized void put(K key, V value, long expireAtNanos) {
+        var node = data.get(key);
+        if (node != null) {
+            node.value = value;
+            node.expireAtNanos = expireAtNanos;
+            onHit(node);
+            return;
+        }
+        node = new Node<>(key, value, expireAtNanos);
+        data.put(key, node);
+        window.addLast(node, Queue.WINDOW);
+        if (window.size > windowMaximum) {
+            admit(window.head);
+        }
+    }
+
+    /** 키의 항목을 제거한다. */
+    public synchronized void invalidate(K key) {
+        var node = data.get(key);
+        if (node != null) {
+            remove(node);
+        }
+    }
+
+    /** 모든 항목을 제거한다. */
+    public synchronized void invalidateAll() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedDeque.clear();
+    }
+
+    public synchronized int size() {
+        return data.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /** 최대 건수 초과로 제거된 수(입장 거부 포함) */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /** 접근 빈도가 희생자보다 낮아 메인 영역에 입장하지 못한 수 */
+    public synchronized long getRejectionCount() {
+        return rejectionCount;
+    }
+
+    /** 윈도우의 후보를 메인 영역에 입장시키거나 제거한다. */
+    private void admit(Node<K, V> candidate) {
+        window.unlink(candidate);
+        if (probation.size + protectedDeque.size < mainMaximum) {
+            probation.addLast(candidate, Queue.PROBATION);
+            return;
+        }
+        var victim = probation.head != null ? probation.head : protectedDeque.head;
+        if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            remove(victim);
+            probation.addLast(candidate, Queue.PROBATION);
+        } else {
+            data.remove(candidate.key);
+            rejectionCount += victim != null ? 1 : 0;
+        }
+        evictionCount++;
+    }
+
+    private void onHit(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION:
+                probation.unlink(node);
+                protectedDeque.addLast(node, Queue.PROTECTED);
+                if (protectedDeque.size > protectedMaximum) {
+                    var demoted = protectedDeque.head;
+                    protectedDeque.unlink(demoted);
+                    probation.addLast(demoted, Queue.PROBATION);
+                }
+                break;
+            case PROTECTED:
+            default:
+                protectedDeque.moveToLast(node);
+                break;
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        data.remove(node.key);
+        dequeOf(node).unlink(node);
+    }
+
+    private AccessOrderDeque<K, V> dequeOf(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                return window;
+            case PROBATION:
+                return probation;
+            case PROTECTED:
+            default:
+                return protectedDeque;
+        }
+    }
+
+    private enum Queue {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private V value;
+        private long expireAtNanos;
+        private Queue queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long expireAtNanos) {
+            this.key = key;
+            this.value = value;
+            this.expireAtNanos = expireAtNanos;
+        }
+    }
+
+    /** 접근 순서 이중 연결 리스트(head: 가장 오래전 접근, tail: 최근 접근) */
+    private static final class AccessOrderDeque<K, V> {
+
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        private void addLast(Node<K, V> node, Queue queue) {
+            node.queue = queue;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        private void unlink(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != tail) {
+                unlink(node);
+                addLast(node, node.queue);
+            }
+        }
+
+        private void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
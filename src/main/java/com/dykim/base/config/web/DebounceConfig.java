@@ -0,0 +1,98 @@
+package com.dykim.base.config.web;
+
+import com.dykim.base.interceptor.debounce.ClientFingerprint;
+import com.dykim.base.interceptor.debounce.DebounceStore;
+import com.dykim.base.interceptor.debounce.JdbcDebounceStore;
+import com.dykim.base.interceptor.debounce.SessionDebounceStore;
+import com.dykim.base.interceptor.debounce.SessionlessDebounceStore;
+import com.dykim.base.interceptor.support.HierarchicalTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ *
+ *
+ * <h3>Debounce 저장소 설정</h3>
+ *
+ * <pre>
+ * base.debounce.store
+ *  - session: 세션 저장소(기본값)
+ *  - jdbc: DB 공유 저장소, 여러 노드를 비고정 로드밸런서로 운영하는 경우 사용한다.
+ *    ㄴ 인증 사용자는 사용자 이름, 미인증 요청은 sessionless 의 fingerprint, header 설정으로 식별한다.
+ *
+ * base.debounce.session
+ *  - max-entries: 세션 당 최대 키 수, 초과 시 최종 호출시간이 가장 오래된 키를 제거한다.
+ *  - tick-millis: 만료 타이밍 휠 tick, 키는 디바운스 시간 이후 최대 1 tick 이내에 제거된다.
+ *
+ * base.debounce.sessionless
+ *  - enabled: 세션 없는 요청의 디바운싱 여부(기본값 false, 세션 없는 요청은 통과)
+ *  - fingerprint: 클라이언트 식별 방식(ip-user-agent | header)
+ *    ㄴ ip-user-agent: NAT, 프록시 뒤의 다른 클라이언트가 같은 키로 묶일 수 있다.
+ *    ㄴ header: 클라이언트가 위조할 수 있으므로 게이트웨이가 설정, 검증하는 헤더만 사용한다.
+ *  - header: fingerprint=header 인 경우 식별 헤더 이름
+ *  - capacity: 최대 추적 항목 수(API x 클라이언트), 초과 시 오래된 항목부터 제거한다.
+ *  - stripes: 락 분할 수
+ *  - ttl-millis: 항목 유지 시간, 가장 긴 디바운스 시간 이상으로 설정한다.
+ * </pre>
+ */
+@Configuration
+public class DebounceConfig {
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "base.debounce.store",
+            havingValue = "session",
+            matchIfMissing = true)
+    public DebounceStore sessionDebounceStore(
+            @Value("${base.debounce.session.max-entries:64}") int maxEntries,
+            HierarchicalTimingWheel debounceTimingWheel) {
+        return new SessionDebounceStore(maxEntries, debounceTimingWheel);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(
+            name = "base.debounce.store",
+            havingValue = "session",
+            matchIfMissing = true)
+    public HierarchicalTimingWheel debounceTimingWheel(
+            @Value("${base.debounce.session.tick-millis:100}") long tickMillis) {
+        return new HierarchicalTimingWheel(tickMillis, "debounce-expiry");
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "base.debounce.store", havingValue = "jdbc")
+    public DebounceStore jdbcDebounceStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${base.debounce.jdbc.cleanup-batch-size:1000}") int cleanupBatchSize,
+            @Value("${base.debounce.sessionless.fingerprint:ip-user-agent}") String fingerprint,
+            @Value("${base.debounce.sessionless.header:X-Client-Id}") String header) {
+        return new JdbcDebounceStore(
+                jdbcTemplate,
+                cleanupBatchSize,
+                new ClientFingerprint(toFingerprint(fingerprint), header));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "base.debounce.sessionless.enabled", havingValue = "true")
+    public SessionlessDebounceStore sessionlessDebounceStore(
+            @Value("${base.debounce.sessionless.fingerprint:ip-user-agent}") String fingerprint,
+            @Value("${base.debounce.sessionless.header:X-Client-Id}") String header,
+            @Value("${base.debounce.sessionless.capacity:65536}") int capacity,
+            @Value("${base.debounce.sessionless.stripes:64}") int stripes,
+            @Value("${base.debounce.sessionless.ttl-millis:60000}") long ttlMillis) {
+        return new SessionlessDebounceStore(
+                capacity,
+                stripes,
+                ttlMillis,
+                toFingerprint(fingerprint),
+                header);
+    }
+
+    private static SessionlessDebounceStore.Fingerprint toFingerprint(String fingerprint) {
+        return SessionlessDebounceStore.Fingerprint.valueOf(
+                fingerprint.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,41 @@
+package com.dykim.base.config.web;
+
+import com.dykim.base.filter.IdempotencyFilter;
+import com.dykim.base.interceptor.idempotency.IdempotencyStore;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *
+ *
+ * <h3>Idempotency 설정</h3>
+ *
+ * <pre>
+ * base.idempotency
+ *  - maximum-size: 최대 저장 건수, 초과 시 오래된 키부터 제거한다.(처리중인 키는 제거하지 않는다.)
+ *  - ttl-seconds: 응답 저장 유지 시간
+ *  - wait-millis: 같은 키가 처리중인 경우 재시도 요청의 최대 대기시간, 초과 시 409 응답
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 필터는 스프링 시큐리티 이후에 동작하도록 기본 순서(가장 낮은 우선순위)로 등록한다.</b>
+ * </pre>
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            @Value("${base.idempotency.maximum-size:10000}") long maximumSize,
+            @Value("${base.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        return new IdempotencyStore(maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter() {
+        return new FilterRegistrationBean<>(new IdempotencyFilter());
+    }
+}
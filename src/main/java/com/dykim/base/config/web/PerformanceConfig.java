@@ -0,0 +1,167 @@
+package com.dykim.base.config.web;
+
+import com.dykim.base.advice.common.RequestTimingExceptionResolver;
+import com.dykim.base.filter.RequestTimingFilter;
+import com.dykim.base.filter.ServerTimingFilter;
+import com.dykim.base.filter.concurrency.ConcurrencyLimitFilter;
+import com.dykim.base.filter.concurrency.GradientConcurrencyLimiter;
+import com.dykim.base.interceptor.PerformanceInterceptor;
+import com.dykim.base.metrics.RouteLatencyRegistry;
+import com.dykim.base.metrics.SlowRequestWatchdog;
+import com.dykim.base.metrics.sql.SqlStatsDataSourcePostProcessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ *
+ *
+ * <h3>성능 측정 설정</h3>
+ *
+ * <pre>
+ *  - RequestTimingFilter: 스프링 시큐리티를 포함한 전체 처리시간을 측정하도록 RequestIdFilter 다음으로 등록한다.
+ *  - ServerTimingFilter: RequestTimingFilter 다음, 스프링 시큐리티 이전에 등록한다.
+ *  - ConcurrencyLimitFilter: ServerTimingFilter 다음, 스프링 시큐리티 이전에 등록한다.
+ *    ㄴ 거부된 요청도 RequestTimingFilter 에 503 으로 기록된다.
+ *  - RequestTimingExceptionResolver: 어드바이스보다 먼저 예외를 확인하도록 첫번째 리졸버로 등록한다.
+ *  - PerformanceInterceptor: WebConfig 인터셉터 체인의 마지막에 등록한다.
+ *  - SqlStatsDataSourcePostProcessor: DataSource 를 감싸 요청 단위로 SQL 실행을 집계한다.
+ *
+ * base.performance.slow-request
+ *  - enabled: 느린 요청 스택 샘플링 여부
+ *  - threshold-millis: 느린 요청 임계시간
+ *  - sample-interval-millis: 임계시간을 넘긴 요청의 스택 샘플링 주기
+ *  - max-samples: 요청 당 최대 샘플 수
+ *  - max-depth: 샘플 당 최대 스택 깊이
+ *  - capacity: 보관할 최근 리포트 수, 초과 시 오래된 리포트부터 덮어쓴다.
+ *
+ * base.performance.route-latency
+ *  - max-keys: 라우트 처리시간 최대 키 수, 초과 시 새 키는 OVERFLOW 라우트로 모아서 기록한다.
+ *
+ * base.performance.server-timing
+ *  - mode: Server-Timing 응답 헤더 작성 방식(off | header | always), 기본 off 이며 internal 프로파일만 사용한다.
+ *  - request-header: mode=header 인 경우 이 요청 헤더가 있는 요청만 작성한다.
+ *
+ * base.performance.sql
+ *  - enabled: SQL 실행 집계 여부(false 인 경우 SQL 통계는 0 으로 기록된다.)
+ *  - budget-action: &#64;SqlBudget 초과 시 처리(log | fail), 테스트에서는 fail 로 설정하여 초과를 검출한다.
+ *  - repeat-threshold: 같은 SQL 반복 실행 수가 이 값 이상이면 N+1 의심 로그를 남긴다.(0 이하: 미사용)
+ *
+ * base.performance.concurrency-limit
+ *  - enabled: 적응형 동시성 제한 여부
+ *  - initial-limit, min-limit, max-limit: 초기 / 최소 / 최대 동시 처리 허용량
+ *  - smoothing: 허용량 갱신 반영 비율(0 ~ 1)
+ *  - rtt-tolerance: 기준 RTT 대비 허용 배수, 이보다 RTT 가 늘어나면 허용량을 줄인다.
+ *  - window-millis, min-window-samples: 허용량 갱신 구간
+ *  - retry-after-seconds: 거부 응답 Retry-After 헤더 값
+ * </pre>
+ */
+@Configuration
+public class PerformanceConfig implements WebMvcConfigurer {
+
+    /** 다른 빈보다 먼저 생성되어야 하므로 static 으로 등록한다. */
+    @Bean
+    @ConditionalOnProperty(name = "base.performance.sql.enabled", havingValue = "true")
+    public static SqlStatsDataSourcePostProcessor sqlStatsDataSourcePostProcessor() {
+        return new SqlStatsDataSourcePostProcessor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+            RouteLatencyRegistry routeLatencyRegistry,
+            @Value("${base.performance.sql.repeat-threshold:10}") int sqlRepeatThreshold) {
+        var registrationBean =
+                new FilterRegistrationBean<>(
+                        new RequestTimingFilter(routeLatencyRegistry, sqlRepeatThreshold));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${base.performance.server-timing.mode:off}") String mode,
+            @Value("${base.performance.server-timing.request-header:X-Server-Timing}")
+                    String requestHeader) {
+        var registrationBean =
+                new FilterRegistrationBean<>(
+                        new ServerTimingFilter(
+                                ServerTimingFilter.Mode.valueOf(mode.trim().toUpperCase()),
+                                requestHeader));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registrationBean;
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "base.performance.concurrency-limit.enabled",
+            havingValue = "true")
+    public GradientConcurrencyLimiter gradientConcurrencyLimiter(
+            @Value("${base.performance.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${base.performance.concurrency-limit.min-limit:5}") int minLimit,
+            @Value("${base.performance.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${base.performance.concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${base.performance.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${base.performance.concurrency-limit.window-millis:1000}") long windowMillis,
+            @Value("${base.performance.concurrency-limit.min-window-samples:10}")
+                    int minWindowSamples) {
+        return new GradientConcurrencyLimiter(
+                initialLimit,
+                minLimit,
+                maxLimit,
+                smoothing,
+                rttTolerance,
+                windowMillis,
+                minWindowSamples);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "base.performance.concurrency-limit.enabled",
+            havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            GradientConcurrencyLimiter gradientConcurrencyLimiter,
+            ObjectMapper objectMapper,
+            @Value("${base.performance.concurrency-limit.retry-after-seconds:1}")
+                    long retryAfterSeconds) {
+        var registrationBean =
+                new FilterRegistrationBean<>(
+                        new ConcurrencyLimitFilter(
+                                gradientConcurrencyLimiter, objectMapper, retryAfterSeconds));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registrationBean;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "base.performance.slow-request.enabled", havingValue = "true")
+    public SlowRequestWatchdog slowRequestWatchdog(
+            @Value("${base.performance.slow-request.threshold-millis:1000}") long thresholdMillis,
+            @Value("${base.performance.slow-request.sample-interval-millis:200}")
+                    long sampleIntervalMillis,
+            @Value("${base.performance.slow-request.max-samples:5}") int maxSamples,
+            @Value("${base.performance.slow-request.max-depth:64}") int maxDepth,
+            @Value("${base.performance.slow-request.capacity:50}") int capacity) {
+        return new SlowRequestWatchdog(
+                thresholdMillis, sampleIntervalMillis, maxSamples, maxDepth, capacity);
+    }
+
+    @Bean
+    public PerformanceInterceptor performanceInterceptor(
+            ObjectProvider<SlowRequestWatchdog> slowRequestWatchdog,
+            @Value("${base.performance.sql.budget-action:log}") String sqlBudgetAction) {
+        return new PerformanceInterceptor(
+                slowRequestWatchdog.getIfAvailable(), "fail".equalsIgnoreCase(sqlBudgetAction));
+    }
+
+    @Override
+    public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
+        resolvers.add(0, new RequestTimingExceptionResolver());
+    }
+}
@@ -0,0 +1,36 @@
+package com.dykim.base.config.web;
+
+import com.dykim.base.interceptor.ratelimit.SlidingWindowRateLimiter;
+import com.dykim.base.interceptor.ratelimit.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *
+ *
+ * <h3>RateLimit 설정</h3>
+ *
+ * <pre>
+ * base.rate-limit
+ *  - capacity: 알고리즘 별 최대 추적 키 수(API x 클라이언트), 초과 시 오래된 키부터 제거한다.
+ *  - stripes: 락 분할 수, 동시 요청이 많을수록 크게 설정한다.
+ * </pre>
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(
+            @Value("${base.rate-limit.capacity:65536}") int capacity,
+            @Value("${base.rate-limit.stripes:64}") int stripes) {
+        return new TokenBucketRateLimiter(capacity, stripes);
+    }
+
+    @Bean
+    public SlidingWindowRateLimiter slidingWindowRateLimiter(
+            @Value("${base.rate-limit.capacity:65536}") int capacity,
+            @Value("${base.rate-limit.stripes:64}") int stripes) {
+        return new SlidingWindowRateLimiter(capacity, stripes);
+    }
+}
@@ -1,29 +1,67 @@
 package com.dykim.base.config.web;
 
 import com.dykim.base.interceptor.DebounceInterceptor;
+import com.dykim.base.interceptor.IdempotencyInterceptor;
 import com.dykim.base.interceptor.PerformanceInterceptor;
+import com.dykim.base.interceptor.RateLimitInterceptor;
 import com.dykim.base.interceptor.SessionValidationInterceptor;
+import com.dykim.base.interceptor.plan.PlannedInterceptorChain;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+/**
+ *
+ *
+ * <h3>Web 설정</h3>
+ *
+ * <pre>
+ * 인터셉터는 {@link PlannedInterceptorChain} 하나로 등록한다.
+ *  - 아래 등록 순서가 실행 순서가 된다.
+ *  - 기동 완료 시점에 핸들러메소드 별 실행 계획을 만들어, 요청마다 경로 매칭이나 어노테이션 조회를 하지 않는다.
+ * </pre>
+ */
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer, SmartInitializingSingleton {
+
+    private static final String SAMPLE_PATH_PATTERN = "/**/sample/**";
+
+    private final ApplicationContext applicationContext;
+    private final DebounceInterceptor debounceInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final IdempotencyInterceptor idempotencyInterceptor;
+    private final PerformanceInterceptor performanceInterceptor;
+
+    private PlannedInterceptorChain plannedInterceptorChain;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        final String SAMPLE_PATH_PATTERN = "**/sample/**";
-        registry
-                .addInterceptor(new SessionValidationInterceptor())
-                .order(1)
-                .addPathPatterns(SAMPLE_PATH_PATTERN);
-        registry
-                .addInterceptor(new DebounceInterceptor())
-                .order(2)
-                .addPathPatterns(SAMPLE_PATH_PATTERN);
-        registry
-                .addInterceptor(new PerformanceInterceptor())
-                .order(Integer.MAX_VALUE)
-                .addPathPatterns(SAMPLE_PATH_PATTERN);
+        plannedInterceptorChain =
+                new PlannedInterceptorChain()
+                        .add(new SessionValidationInterceptor(), SAMPLE_PATH_PATTERN)
+                        .add(debounceInterceptor, SAMPLE_PATH_PATTERN)
+                        // 어노테이션(@RateLimit, @Idempotent) 기준으로 동작하기 때문에 모든 경로에 등록한다.
+                        .add(rateLimitInterceptor)
+                        .add(idempotencyInterceptor)
+                        // 처리시간 측정을 위해 맨 마지막에 등록하며, 라우트 별 집계를 위해 모든 경로에 등록한다.
+                        .add(performanceInterceptor);
+        registry.addInterceptor(plannedInterceptorChain);
+    }
+
+    /** 모든 핸들러메소드가 등록된 이후 실행 계획을 만든다. */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (plannedInterceptorChain == null) {
+            return;
+        }
+        var handlerMapping =
+                applicationContext.getBean(
+                        "requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        plannedInterceptorChain.compile(handlerMapping.getHandlerMethods());
     }
 }
@@ -0,0 +1,25 @@
+package com.dykim.base.consts.uris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ *
+ *
+ * <h3>Performance api uris</h3>
+ *
+ * @author dongyoung.kim
+ * @since 1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PerformanceApiUris {
+
+    private static final String V1 = "/api/performance/v1";
+    public static final String PHASES = V1 + "/phases";
+    public static final String ROUTES = V1 + "/routes";
+    public static final String SLOW_REQUESTS = V1 + "/slow-requests";
+    public static final String PROFILE = V1 + "/profile";
+    public static final String CONCURRENCY = V1 + "/concurrency";
+    public static final String USER_CACHE = V1 + "/user-cache";
+    public static final String PASSWORD_HASHING = V1 + "/password-hashing";
+}
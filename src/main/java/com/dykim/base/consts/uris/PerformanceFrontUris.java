@@ -0,0 +1,20 @@
+package com.dykim.base.consts.uris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ *
+ *
+ * <h3>Performance front uris</h3>
+ *
+ * @author dongyoung.kim
+ * @since 1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PerformanceFrontUris {
+
+    public static final String PREFIX = "/performance";
+    public static final String DASHBOARD = PREFIX + "/dashboard";
+    public static final String DASHBOARD_STREAM = DASHBOARD + "/stream";
+}
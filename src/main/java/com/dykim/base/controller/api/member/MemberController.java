@@ -2,6 +2,9 @@ package com.dykim.base.controller.api.member;
 
 import static com.dykim.base.dto.ApiResult.ok;
 
+import com.dykim.base.config.annotation.Coalesce;
+import com.dykim.base.config.annotation.Idempotent;
+import com.dykim.base.config.annotation.SqlBudget;
 import com.dykim.base.consts.uris.MemberApiUris;
 import com.dykim.base.dto.ApiResult;
 import com.dykim.base.dto.member.MemberDeleteRspDto;
@@ -49,6 +52,7 @@ public class MemberController {
                         content = @Content(schema = @Schema(implementation = ApiResult.class)))
             })
     @Operation(summary = "Insert Member", description = "회원 추가")
+    @Idempotent
     @PutMapping(MemberApiUris.INSERT)
     public ApiResult<MemberInsertRspDto> insert(@Valid @RequestBody MemberInsertReqDto reqDto) {
         return ok(memberService.insert(reqDto));
@@ -67,6 +71,7 @@ public class MemberController {
                         content = @Content(schema = @Schema(implementation = ApiResult.class)))
             })
     @Operation(summary = "Select Member", description = "회원 조회")
+    @Coalesce
     @GetMapping(MemberApiUris.SELECT + "/{mbrId}")
     public ApiResult<MemberSelectRspDto> select(@PathVariable Long mbrId) {
         return ok(memberService.select(mbrId));
@@ -103,6 +108,7 @@ public class MemberController {
                         content = @Content(schema = @Schema(implementation = ApiResult.class)))
             })
     @Operation(summary = "update Member", description = "회원 수정(온전한 값이 입력된 컬럼만 업데이트)")
+    @SqlBudget(maxStatements = 3)
     @PostMapping(MemberApiUris.UPDATE + "/{mbrId}")
     public ApiResult<MemberUpdateRspDto> update(
             @PathVariable Long mbrId, @RequestBody MemberUpdateReqDto reqDto) {
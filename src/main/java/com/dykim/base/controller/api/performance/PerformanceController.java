@@ -0,0 +1,149 @@
+package com.dykim.base.controller.api.performance;
+
+import static com.dykim.base.dto.ApiResult.ok;
+
+import com.dykim.base.config.security.BoundedPasswordEncoder;
+import com.dykim.base.config.security.UserDetailsCache;
+import com.dykim.base.consts.uris.PerformanceApiUris;
+import com.dykim.base.dto.ApiResult;
+import com.dykim.base.dto.performance.ConcurrencyLimitRspDto;
+import com.dykim.base.dto.performance.PasswordHashingRspDto;
+import com.dykim.base.dto.performance.PhaseLatencyListRspDto;
+import com.dykim.base.dto.performance.RouteLatencyListRspDto;
+import com.dykim.base.dto.performance.SlowRequestListRspDto;
+import com.dykim.base.dto.performance.UserCacheRspDto;
+import com.dykim.base.filter.concurrency.GradientConcurrencyLimiter;
+import com.dykim.base.metrics.PhaseRecorder;
+import com.dykim.base.metrics.RouteLatencyRegistry;
+import com.dykim.base.metrics.SlowRequestWatchdog;
+import com.dykim.base.metrics.jfr.JfrProfiler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Performance Controller", description = "성능 지표 컨트롤러")
+@RequiredArgsConstructor
+@RestController
+public class PerformanceController {
+
+    private final RouteLatencyRegistry routeLatencyRegistry;
+    private final ObjectProvider<SlowRequestWatchdog> slowRequestWatchdog;
+    private final JfrProfiler jfrProfiler;
+    private final ObjectProvider<GradientConcurrencyLimiter> concurrencyLimiter;
+    private final UserDetailsCache userDetailsCache;
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+            })
+    @Operation(summary = "Select phase latencies", description = "단계별 처리시간 집계 조회")
+    @GetMapping(PerformanceApiUris.PHASES)
+    public ApiResult<PhaseLatencyListRspDto> selectPhases() {
+        return ok(new PhaseLatencyListRspDto(PhaseRecorder.all()));
+    }
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+            })
+    @Operation(
+            summary = "Select route latencies",
+            description = "라우트 x 상태코드 분류 x 예외 별 처리시간 조회(1m / 5m / 15m, 단계 별 누적)")
+    @GetMapping(PerformanceApiUris.ROUTES)
+    public ApiResult<RouteLatencyListRspDto> selectRoutes() {
+        return ok(new RouteLatencyListRspDto(routeLatencyRegistry));
+    }
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+            })
+    @Operation(
+            summary = "Select slow requests",
+            description = "임계시간을 넘긴 최근 요청과 처리 중 수집한 스택 샘플 조회(비활성화된 경우 빈 목록)")
+    @GetMapping(PerformanceApiUris.SLOW_REQUESTS)
+    public ApiResult<SlowRequestListRspDto> selectSlowRequests() {
+        var watchdog = slowRequestWatchdog.getIfAvailable();
+        return ok(
+                new SlowRequestListRspDto(
+                        watchdog != null ? watchdog.recentReports() : Collections.emptyList()));
+    }
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+            })
+    @Operation(
+            summary = "Select concurrency limit",
+            description = "적응형 동시성 제한 허용량, 처리중 요청 수, 누적 거부 수 조회")
+    @GetMapping(PerformanceApiUris.CONCURRENCY)
+    public ApiResult<ConcurrencyLimitRspDto> selectConcurrencyLimit() {
+        var limiter = concurrencyLimiter.getIfAvailable();
+        return ok(
+                limiter != null
+                        ? new ConcurrencyLimitRspDto(limiter)
+                        : new ConcurrencyLimitRspDto());
+    }
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+            })
+    @Operation(
+            summary = "Select user details cache",
+            description = "로그인 회원 조회 캐시 건수, 적중/미스, 제거 수 조회")
+    @GetMapping(PerformanceApiUris.USER_CACHE)
+    public ApiResult<UserCacheRspDto> selectUserCache() {
+        return ok(new UserCacheRspDto(userDetailsCache));
+    }
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+            })
+    @Operation(
+            summary = "Select password hashing",
+            description = "비밀번호 비교 쓰레드풀 대기열, 거부 수, 대기/실행 시간 조회")
+    @GetMapping(PerformanceApiUris.PASSWORD_HASHING)
+    public ApiResult<PasswordHashingRspDto> selectPasswordHashing() {
+        return ok(new PasswordHashingRspDto(passwordEncoder));
+    }
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "OK"),
+                @ApiResponse(responseCode = "400", description = "녹화 시간 범위 초과"),
+                @ApiResponse(responseCode = "409", description = "이미 녹화 중")
+            })
+    @Operation(
+            summary = "Profile with JFR",
+            description =
+                    "관리자 전용. 지정 시간동안 JFR 녹화 후 CPU, 할당 샘플 플레임 그래프 응답"
+                            + "(format=collapsed 인 경우 collapsed stack 텍스트)")
+    @PostMapping(PerformanceApiUris.PROFILE)
+    public ResponseEntity<String> profile(
+            @RequestParam(defaultValue = "PROFILE") JfrProfiler.Settings settings,
+            @RequestParam(defaultValue = "10") long durationSeconds,
+            @RequestParam(defaultValue = "html") String format)
+            throws IOException {
+        var profile = jfrProfiler.profile(settings, jfrProfiler.durationOf(durationSeconds));
+        if ("collapsed".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(profile.toCollapsed());
+        }
+        return ResponseEntity.ok().contentType(MediaType.TEXT_HTML).body(profile.toHtml());
+    }
+}
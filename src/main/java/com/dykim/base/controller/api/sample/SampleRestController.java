@@ -1,6 +1,8 @@
 package com.dykim.base.controller.api.sample;
 
 import com.dykim.base.config.annotation.Debounce;
+import com.dykim.base.config.annotation.Idempotent;
+import com.dykim.base.config.annotation.RateLimit;
 import com.dykim.base.consts.uris.SampleApiUris;
 import com.dykim.base.dto.ApiResult;
 import com.dykim.base.dto.sample.SampleDeleteRspDto;
@@ -56,9 +58,14 @@ public class SampleRestController {
         return Json.pretty("hello!");
     }
 
+    @RateLimit(permits = 10, burst = 20, key = RateLimit.Key.IP)
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true),
+                @ApiResponse(
+                        responseCode = "429",
+                        description = "Too Many Requests when over rate limit.",
+                        content = @Content(schema = @Schema(implementation = ApiResult.class))),
             })
     @Operation(summary = "get sampleResponseDto", description = "api responseDto example")
     @GetMapping(SampleApiUris.DTO)
@@ -112,6 +119,7 @@ public class SampleRestController {
                         content = @Content(schema = @Schema(implementation = ApiResult.class)))
             })
     @Operation(summary = "Insert Sample", description = "Insert Sample")
+    @Idempotent
     @PutMapping(SampleApiUris.INSERT)
     public ApiResult<SampleInsertRspDto> insert(@Valid @RequestBody SampleInsertReqDto reqDto) {
         return ApiResult.ok(sampleService.insert(reqDto));
@@ -0,0 +1,55 @@
+package com.dykim.base.controller.front.performance;
+
+import com.dykim.base.consts.uris.PerformanceFrontUris;
+import com.dykim.base.metrics.dashboard.DashboardBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Performance Front Controller", description = "성능 대시보드 화면 컨트롤러(관리자 전용)")
+@RequiredArgsConstructor
+@Controller
+public class PerformanceFrontController {
+
+    private final DashboardBroadcaster dashboardBroadcaster;
+
+    @Value("${base.performance.dashboard.interval-millis:2000}")
+    private long intervalMillis;
+
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Success. Return view",
+                        content = @Content(schema = @Schema(implementation = String.class)))
+            })
+    @Operation(summary = "request dashboard view", description = "실시간 성능 대시보드")
+    @GetMapping(PerformanceFrontUris.DASHBOARD)
+    public String dashboard(Model model) {
+        model.addAttribute("streamUri", PerformanceFrontUris.DASHBOARD_STREAM);
+        model.addAttribute("intervalMillis", intervalMillis);
+        return "contents/performance/dashboard";
+    }
+
+    @Operation(
+            summary = "subscribe dashboard metrics",
+            description = "대시보드 지표 Server-Sent Events(event: metrics, data: DashboardRspDto)")
+    @GetMapping(
+            value = PerformanceFrontUris.DASHBOARD_STREAM,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter stream() {
+        return dashboardBroadcaster.subscribe();
+    }
+}
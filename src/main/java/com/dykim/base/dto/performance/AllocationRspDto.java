@@ -0,0 +1,35 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.HistogramSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "AllocationRspDto", description = "요청 당 힙 할당량 응답 Dto(기동 이후 누적)")
+@Getter
+@NoArgsConstructor
+public class AllocationRspDto {
+
+    @Schema(description = "측정 수(미지원 JVM 인 경우 0)", required = true, example = "1024")
+    private long count;
+
+    @Schema(description = "평균(byte)", required = true)
+    private long meanBytes;
+
+    @Schema(description = "50 백분위(byte)", required = true)
+    private long p50Bytes;
+
+    @Schema(description = "99 백분위(byte)", required = true)
+    private long p99Bytes;
+
+    @Schema(description = "최대(byte)", required = true)
+    private long maxBytes;
+
+    public AllocationRspDto(HistogramSnapshot snapshot) {
+        this.count = snapshot.getCount();
+        this.meanBytes = snapshot.mean();
+        this.p50Bytes = snapshot.percentile(50);
+        this.p99Bytes = snapshot.percentile(99);
+        this.maxBytes = snapshot.getMax();
+    }
+}
@@ -0,0 +1,39 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.filter.concurrency.GradientConcurrencyLimiter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "ConcurrencyLimitRspDto", description = "적응형 동시성 제한 상태 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class ConcurrencyLimitRspDto {
+
+    @Schema(description = "사용 여부, 미사용인 경우 나머지 값은 0", required = true)
+    private boolean enabled;
+
+    @Schema(description = "현재 동시 처리 허용량", required = true, example = "20")
+    private int limit;
+
+    @Schema(description = "처리중 요청 수", required = true)
+    private int inFlight;
+
+    @Schema(description = "누적 거부 수", required = true)
+    private long rejectedCount;
+
+    @Schema(description = "최근 구간 평균 RTT(ns)", required = true)
+    private long shortRttNanos;
+
+    @Schema(description = "기준 RTT(ns)", required = true)
+    private long longRttNanos;
+
+    public ConcurrencyLimitRspDto(GradientConcurrencyLimiter limiter) {
+        this.enabled = true;
+        this.limit = limiter.getLimit();
+        this.inFlight = limiter.getInFlight();
+        this.rejectedCount = limiter.getRejectedCount();
+        this.shortRttNanos = limiter.getShortRttNanos();
+        this.longRttNanos = limiter.getLongRttNanos();
+    }
+}
@@ -0,0 +1,35 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.dashboard.DashboardSnapshot.PoolStat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "ConnectionPoolRspDto", description = "커넥션 풀 사용량 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class ConnectionPoolRspDto {
+
+    @Schema(description = "사용중 커넥션 수", required = true)
+    private int active;
+
+    @Schema(description = "유휴 커넥션 수", required = true)
+    private int idle;
+
+    @Schema(description = "전체 커넥션 수", required = true)
+    private int total;
+
+    @Schema(description = "최대 풀 크기", required = true)
+    private int max;
+
+    @Schema(description = "커넥션 대기 쓰레드 수", required = true)
+    private int pending;
+
+    public ConnectionPoolRspDto(PoolStat poolStat) {
+        this.active = poolStat.getActive();
+        this.idle = poolStat.getIdle();
+        this.total = poolStat.getTotal();
+        this.max = poolStat.getMax();
+        this.pending = poolStat.getPending();
+    }
+}
@@ -0,0 +1,35 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.dashboard.DashboardSnapshot.RouteStat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "DashboardRouteRspDto", description = "대시보드 라우트 지표 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class DashboardRouteRspDto {
+
+    @Schema(description = "HTTP 메소드", required = true, example = "GET")
+    private String method;
+
+    @Schema(description = "라우트 템플릿", required = true, example = "/api/member/v1/{mbrId}")
+    private String route;
+
+    @Schema(description = "초당 요청 수", required = true)
+    private double requestsPerSecond;
+
+    @Schema(description = "초당 5xx 응답 수", required = true)
+    private double errorsPerSecond;
+
+    @Schema(description = "최근 1분 처리시간(진행중인 현재 분 기준)", required = true)
+    private LatencyRspDto latency;
+
+    public DashboardRouteRspDto(RouteStat routeStat) {
+        this.method = routeStat.getMethod();
+        this.route = routeStat.getRoute();
+        this.requestsPerSecond = routeStat.getRequestsPerSecond();
+        this.errorsPerSecond = routeStat.getErrorsPerSecond();
+        this.latency = new LatencyRspDto(routeStat.getLatency());
+    }
+}
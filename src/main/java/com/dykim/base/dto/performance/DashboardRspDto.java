@@ -0,0 +1,53 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.dashboard.DashboardSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "DashboardRspDto", description = "성능 대시보드 지표 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class DashboardRspDto {
+
+    @Schema(description = "수집 시각(epoch ms)", required = true)
+    private long timestampMillis;
+
+    @Schema(description = "직전 수집 이후 경과시간(ms), 초당 값의 기준 구간", required = true)
+    private long elapsedMillis;
+
+    @Schema(description = "라우트 별 처리량, 최근 1분 처리시간(처리량 내림차순)", required = true)
+    private List<DashboardRouteRspDto> routes;
+
+    @Schema(description = "초당 디바운스 차단 수", required = true)
+    private double debounceRejectionsPerSecond;
+
+    @Schema(description = "초당 로그인 성공 수", required = true)
+    private double loginSuccessPerSecond;
+
+    @Schema(description = "초당 로그인 실패 수", required = true)
+    private double loginFailurePerSecond;
+
+    @Schema(description = "커넥션 풀 사용량, HikariCP 가 아닌 경우 null")
+    private ConnectionPoolRspDto pool;
+
+    @Schema(description = "힙, GC 지표", required = true)
+    private JvmRspDto jvm;
+
+    public DashboardRspDto(DashboardSnapshot snapshot) {
+        this.timestampMillis = snapshot.getTimestampMillis();
+        this.elapsedMillis = snapshot.getElapsedMillis();
+        this.routes =
+                snapshot.getRoutes().stream()
+                        .map(DashboardRouteRspDto::new)
+                        .collect(Collectors.toList());
+        this.debounceRejectionsPerSecond = snapshot.getDebounceRejectionsPerSecond();
+        this.loginSuccessPerSecond = snapshot.getLoginSuccessPerSecond();
+        this.loginFailurePerSecond = snapshot.getLoginFailurePerSecond();
+        this.pool =
+                snapshot.getPool() != null ? new ConnectionPoolRspDto(snapshot.getPool()) : null;
+        this.jvm = new JvmRspDto(snapshot.getJvm());
+    }
+}
@@ -0,0 +1,39 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.dashboard.DashboardSnapshot.JvmStat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "JvmRspDto", description = "힙, GC 지표 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class JvmRspDto {
+
+    @Schema(description = "힙 사용량(byte)", required = true)
+    private long heapUsedBytes;
+
+    @Schema(description = "최대 힙(byte), 정의되지 않은 경우 -1", required = true)
+    private long heapMaxBytes;
+
+    @Schema(description = "기동 이후 GC 횟수", required = true)
+    private long gcCount;
+
+    @Schema(description = "기동 이후 GC 시간(ms)", required = true)
+    private long gcMillis;
+
+    @Schema(description = "직전 수집 이후 GC 횟수", required = true)
+    private long gcCountDelta;
+
+    @Schema(description = "직전 수집 이후 GC 시간(ms)", required = true)
+    private long gcMillisDelta;
+
+    public JvmRspDto(JvmStat jvmStat) {
+        this.heapUsedBytes = jvmStat.getHeapUsedBytes();
+        this.heapMaxBytes = jvmStat.getHeapMaxBytes();
+        this.gcCount = jvmStat.getGcCount();
+        this.gcMillis = jvmStat.getGcMillis();
+        this.gcCountDelta = jvmStat.getGcCountDelta();
+        this.gcMillisDelta = jvmStat.getGcMillisDelta();
+    }
+}
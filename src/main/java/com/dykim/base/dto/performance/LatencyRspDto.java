@@ -0,0 +1,43 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.HistogramSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "LatencyRspDto", description = "처리시간 백분위 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class LatencyRspDto {
+
+    @Schema(description = "기록 수", required = true, example = "1024")
+    private long count;
+
+    @Schema(description = "평균(ns)", required = true)
+    private long meanNanos;
+
+    @Schema(description = "50 백분위(ns)", required = true)
+    private long p50Nanos;
+
+    @Schema(description = "90 백분위(ns)", required = true)
+    private long p90Nanos;
+
+    @Schema(description = "99 백분위(ns)", required = true)
+    private long p99Nanos;
+
+    @Schema(description = "99.9 백분위(ns)", required = true)
+    private long p999Nanos;
+
+    @Schema(description = "최대(ns)", required = true)
+    private long maxNanos;
+
+    public LatencyRspDto(HistogramSnapshot snapshot) {
+        this.count = snapshot.getCount();
+        this.meanNanos = snapshot.mean();
+        this.p50Nanos = snapshot.percentile(50);
+        this.p90Nanos = snapshot.percentile(90);
+        this.p99Nanos = snapshot.percentile(99);
+        this.p999Nanos = snapshot.percentile(99.9);
+        this.maxNanos = snapshot.getMax();
+    }
+}
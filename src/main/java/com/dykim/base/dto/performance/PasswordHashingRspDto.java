@@ -0,0 +1,51 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.config.security.BoundedPasswordEncoder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "PasswordHashingRspDto", description = "비밀번호 암호화/비교 쓰레드풀 상태 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class PasswordHashingRspDto {
+
+    @Schema(description = "쓰레드 수", required = true, example = "2")
+    private int threads;
+
+    @Schema(description = "대기열 크기", required = true, example = "64")
+    private int queueCapacity;
+
+    @Schema(description = "대기열에 있는 작업 수", required = true)
+    private int queueDepth;
+
+    @Schema(description = "실행중인 작업 수", required = true)
+    private int activeCount;
+
+    @Schema(description = "완료된 작업 수", required = true)
+    private long completedCount;
+
+    @Schema(description = "대기열이 가득 차 거부된 수", required = true)
+    private long rejectedCount;
+
+    @Schema(description = "최대 대기시간 초과로 거부된 수", required = true)
+    private long timeoutCount;
+
+    @Schema(description = "대기시간(제출 ~ 실행 시작)", required = true)
+    private LatencyRspDto wait;
+
+    @Schema(description = "실행시간", required = true)
+    private LatencyRspDto execution;
+
+    public PasswordHashingRspDto(BoundedPasswordEncoder passwordEncoder) {
+        this.threads = passwordEncoder.getThreads();
+        this.queueCapacity = passwordEncoder.getQueueCapacity();
+        this.queueDepth = passwordEncoder.getQueueDepth();
+        this.activeCount = passwordEncoder.getActiveCount();
+        this.completedCount = passwordEncoder.getCompletedCount();
+        this.rejectedCount = passwordEncoder.getRejectedCount();
+        this.timeoutCount = passwordEncoder.getTimeoutCount();
+        this.wait = new LatencyRspDto(passwordEncoder.waitSnapshot());
+        this.execution = new LatencyRspDto(passwordEncoder.executionSnapshot());
+    }
+}
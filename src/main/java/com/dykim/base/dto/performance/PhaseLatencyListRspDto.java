@@ -0,0 +1,30 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.PhaseRecorder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "PhaseLatencyListRspDto", description = "단계별 처리시간 목록 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class PhaseLatencyListRspDto {
+
+    @Schema(description = "기록기 별 단계 목록", required = true)
+    private List<PhaseLatencyRspDto> list;
+
+    public PhaseLatencyListRspDto(Collection<PhaseRecorder> recorders) {
+        list = new ArrayList<>();
+        for (PhaseRecorder recorder : recorders) {
+            var phases = recorder.getPhases();
+            for (int i = 0; i < phases.size(); i++) {
+                list.add(
+                        new PhaseLatencyRspDto(
+                                recorder.getName(), phases.get(i), recorder.snapshot(i)));
+            }
+        }
+    }
+}
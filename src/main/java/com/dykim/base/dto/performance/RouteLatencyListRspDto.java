@@ -0,0 +1,38 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.RouteLatencyRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "RouteLatencyListRspDto", description = "라우트 별 처리시간 목록 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class RouteLatencyListRspDto {
+
+    @Schema(description = "라우트 x 상태코드 분류 x 예외 목록", required = true)
+    private List<RouteLatencyRspDto> list;
+
+    public RouteLatencyListRspDto(RouteLatencyRegistry routeLatencyRegistry) {
+        var currentTimeMillis = System.currentTimeMillis();
+        list =
+                routeLatencyRegistry.getLatencies().entrySet().stream()
+                        .map(
+                                entry ->
+                                        new RouteLatencyRspDto(
+                                                entry.getKey(),
+                                                entry.getValue(),
+                                                currentTimeMillis))
+                        .sorted(
+                                Comparator.comparing(RouteLatencyRspDto::getRoute)
+                                        .thenComparing(RouteLatencyRspDto::getMethod)
+                                        .thenComparing(RouteLatencyRspDto::getStatus)
+                                        .thenComparing(
+                                                RouteLatencyRspDto::getException,
+                                                Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,61 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.RequestTiming.Phase;
+import com.dykim.base.metrics.RouteLatency;
+import com.dykim.base.metrics.RouteLatencyRegistry.RouteKey;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "RouteLatencyRspDto", description = "라우트 별 처리시간 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class RouteLatencyRspDto {
+
+    private static final int[] WINDOW_MINUTES = {1, 5, 15};
+
+    @Schema(description = "HTTP 메소드", required = true, example = "GET")
+    private String method;
+
+    @Schema(description = "라우트 템플릿", required = true, example = "/api/member/v1/{mbrId}")
+    private String route;
+
+    @Schema(description = "상태코드 분류", required = true, example = "2xx")
+    private String status;
+
+    @Schema(description = "예외 클래스명, 예외가 없는 경우 null", example = "HandlerDebounceException")
+    private String exception;
+
+    @Schema(description = "구간 별 전체 처리시간(1m, 5m, 15m), 1m 은 진행중인 현재 분 기준", required = true)
+    private Map<String, LatencyRspDto> windows;
+
+    @Schema(description = "단계 별 누적 처리시간(preHandle, handler, view, advice)", required = true)
+    private Map<String, LatencyRspDto> phases;
+
+    @Schema(description = "요청 당 SQL 사용량", required = true)
+    private SqlUsageRspDto sql;
+
+    @Schema(description = "요청 당 핸들러 구간 힙 할당량", required = true)
+    private AllocationRspDto allocation;
+
+    public RouteLatencyRspDto(RouteKey routeKey, RouteLatency latency, long currentTimeMillis) {
+        this.method = routeKey.getMethod();
+        this.route = routeKey.getRoute();
+        this.status = routeKey.getStatus();
+        this.exception = routeKey.getException();
+        this.windows = new LinkedHashMap<>();
+        for (int windowMinutes : WINDOW_MINUTES) {
+            windows.put(
+                    windowMinutes + "m",
+                    new LatencyRspDto(latency.snapshot(windowMinutes, currentTimeMillis)));
+        }
+        this.phases = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            phases.put(phase.getLabel(), new LatencyRspDto(latency.snapshot(phase)));
+        }
+        this.sql = new SqlUsageRspDto(latency);
+        this.allocation = new AllocationRspDto(latency.allocatedBytesSnapshot());
+    }
+}
@@ -0,0 +1,21 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.SlowRequestReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "SlowRequestListRspDto", description = "느린 요청 목록 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class SlowRequestListRspDto {
+
+    @Schema(description = "최근 느린 요청 목록(최신순)", required = true)
+    private List<SlowRequestRspDto> list;
+
+    public SlowRequestListRspDto(List<SlowRequestReport> reports) {
+        list = reports.stream().map(SlowRequestRspDto::new).collect(Collectors.toList());
+    }
+}
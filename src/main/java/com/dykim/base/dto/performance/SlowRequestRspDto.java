@@ -0,0 +1,56 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.SlowRequestReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "SlowRequestRspDto", description = "느린 요청 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class SlowRequestRspDto {
+
+    @Schema(description = "HTTP 메소드", required = true, example = "PATCH")
+    private String method;
+
+    @Schema(description = "라우트 템플릿", required = true, example = "/api/member/v1/{mbrId}")
+    private String route;
+
+    @Schema(description = "요청 URI", required = true, example = "/api/member/v1/1")
+    private String uri;
+
+    @Schema(description = "처리 쓰레드", required = true, example = "http-nio-8080-exec-1")
+    private String threadName;
+
+    @Schema(description = "요청 시작 시간(epoch ms)", required = true)
+    private long startedAtMillis;
+
+    @Schema(description = "처리시간(ms)", required = true, example = "4012")
+    private long elapsedMillis;
+
+    @Schema(description = "응답 상태코드", required = true, example = "200")
+    private int status;
+
+    @Schema(description = "예외 클래스명, 예외가 없는 경우 null")
+    private String exception;
+
+    @Schema(description = "처리 중 수집한 스택 샘플(수집 순서)", required = true)
+    private List<StackSampleRspDto> samples;
+
+    public SlowRequestRspDto(SlowRequestReport report) {
+        this.method = report.getMethod();
+        this.route = report.getRoute();
+        this.uri = report.getUri();
+        this.threadName = report.getThreadName();
+        this.startedAtMillis = report.getStartedAtMillis();
+        this.elapsedMillis = report.getElapsedMillis();
+        this.status = report.getStatus();
+        this.exception = report.getException();
+        this.samples =
+                report.getSamples().stream()
+                        .map(StackSampleRspDto::new)
+                        .collect(Collectors.toList());
+    }
+}
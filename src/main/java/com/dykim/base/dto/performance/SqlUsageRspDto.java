@@ -0,0 +1,41 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.RouteLatency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "SqlUsageRspDto", description = "요청 당 SQL 사용량 응답 Dto(기동 이후 누적)")
+@Getter
+@NoArgsConstructor
+public class SqlUsageRspDto {
+
+    @Schema(description = "요청 당 평균 SQL 실행 수", required = true, example = "3")
+    private long statementsMean;
+
+    @Schema(description = "요청 당 SQL 실행 수 99 백분위", required = true, example = "3")
+    private long statementsP99;
+
+    @Schema(description = "요청 당 최대 SQL 실행 수", required = true, example = "4")
+    private long statementsMax;
+
+    @Schema(description = "요청 당 평균 행 수(조회 + 변경)", required = true, example = "2")
+    private long rowsMean;
+
+    @Schema(description = "요청 당 최대 행 수(조회 + 변경)", required = true, example = "20")
+    private long rowsMax;
+
+    @Schema(description = "요청 당 JDBC 실행 시간", required = true)
+    private LatencyRspDto jdbc;
+
+    public SqlUsageRspDto(RouteLatency latency) {
+        var statements = latency.sqlStatementsSnapshot();
+        var rows = latency.sqlRowsSnapshot();
+        this.statementsMean = statements.mean();
+        this.statementsP99 = statements.percentile(99);
+        this.statementsMax = statements.getMax();
+        this.rowsMean = rows.mean();
+        this.rowsMax = rows.getMax();
+        this.jdbc = new LatencyRspDto(latency.jdbcNanosSnapshot());
+    }
+}
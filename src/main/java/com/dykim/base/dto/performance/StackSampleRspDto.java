@@ -0,0 +1,24 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.metrics.SlowRequestReport.StackSample;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "StackSampleRspDto", description = "스택 샘플 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class StackSampleRspDto {
+
+    @Schema(description = "요청 시작 이후 경과시간(ms)", required = true, example = "1200")
+    private long offsetMillis;
+
+    @Schema(description = "호출 스택(최상단부터)", required = true)
+    private List<String> frames;
+
+    public StackSampleRspDto(StackSample stackSample) {
+        this.offsetMillis = stackSample.getOffsetMillis();
+        this.frames = stackSample.getFrames();
+    }
+}
@@ -0,0 +1,48 @@
+package com.dykim.base.dto.performance;
+
+import com.dykim.base.config.security.UserDetailsCache;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(name = "UserCacheRspDto", description = "로그인 회원 조회 캐시 상태 응답 Dto")
+@Getter
+@NoArgsConstructor
+public class UserCacheRspDto {
+
+    @Schema(description = "사용 여부", required = true)
+    private boolean enabled;
+
+    @Schema(description = "저장 건수", required = true)
+    private int size;
+
+    @Schema(description = "적중 수(없는 회원 적중 포함)", required = true)
+    private long hitCount;
+
+    @Schema(description = "없는 회원으로 저장된 항목 적중 수", required = true)
+    private long negativeHitCount;
+
+    @Schema(description = "미스 수", required = true)
+    private long missCount;
+
+    @Schema(description = "적중률(0 ~ 1)", required = true, example = "0.95")
+    private double hitRate;
+
+    @Schema(description = "최대 건수 초과로 제거된 수", required = true)
+    private long evictionCount;
+
+    @Schema(description = "접근 빈도가 낮아 입장 거부된 수(제거 수에 포함)", required = true)
+    private long rejectionCount;
+
+    public UserCacheRspDto(UserDetailsCache userDetailsCache) {
+        this.enabled = userDetailsCache.isEnabled();
+        this.size = userDetailsCache.size();
+        this.hitCount = userDetailsCache.getHitCount();
+        this.negativeHitCount = userDetailsCache.getNegativeHitCount();
+        this.missCount = userDetailsCache.getMissCount();
+        var requestCount = hitCount + missCount;
+        this.hitRate = requestCount > 0 ? (double) hitCount / requestCount : 0;
+        this.evictionCount = userDetailsCache.getEvictionCount();
+        this.rejectionCount = userDetailsCache.getRejectionCount();
+    }
+}
@@ -0,0 +1,45 @@
+package com.dykim.base.entity.debounce;
+
+import com.dykim.base.interceptor.debounce.JdbcDebounceStore;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ *
+ *
+ * <h3>ApiDebounce 엔티티</h3>
+ *
+ * 노드 간 공유되는 API 디바운스 상태
+ *
+ * <pre>
+ * - 테이블 정의(DDL) 용도로만 사용하며, 조회/갱신은 {@link JdbcDebounceStore} 에서 직접 쿼리로 처리한다.
+ * - 만료된 행은 expire_millis 인덱스 기준으로 배치 삭제한다.
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "api_debounce",
+        indexes = @Index(name = "idx_api_debounce_expire_millis", columnList = "expire_millis"))
+public class ApiDebounce {
+
+    @Comment("디바운스 키(클라이언트:API)")
+    @Id
+    @Column(name = "debounce_key", length = 255)
+    private String debounceKey;
+
+    @Comment("최종 호출시간(ms)")
+    @Column(name = "last_call_millis", nullable = false)
+    private Long lastCallMillis;
+
+    @Comment("만료시간(ms)")
+    @Column(name = "expire_millis", nullable = false)
+    private Long expireMillis;
+}
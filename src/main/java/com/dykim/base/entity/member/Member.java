@@ -112,6 +112,12 @@ public class Member extends MemberBaseEntity implements Serializable {
         return this;
     }
 
+    /** 로그인 시 재암호화된 비밀번호로 변경한다. */
+    public Member changePassword(String encodedPassword) {
+        password = encodedPassword;
+        return this;
+    }
+
     public Member delete() {
         useYn = "N";
         return this;
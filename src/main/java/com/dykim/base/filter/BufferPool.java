@@ -0,0 +1,48 @@
+package com.dykim.base.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ *
+ *
+ * <h3>Buffer Pool</h3>
+ *
+ * 요청/응답 본문 앞부분 복사용 고정 크기 버퍼 풀
+ *
+ * <pre>
+ *  - 풀이 비어있으면 새로 만들고, 가득 찬 경우 반납된 버퍼를 버린다.
+ *  - 요청이 몰려도 풀 크기 이상의 버퍼를 보관하지 않는다.
+ * </pre>
+ *
+ * @see TeeRequestWrapper
+ * @see TeeResponseWrapper
+ */
+public final class BufferPool {
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<byte[]> buffers;
+
+    /**
+     * @param bufferSize 버퍼 크기(복사할 최대 바이트 수)
+     * @param maxPooled 풀에 보관할 최대 버퍼 수
+     */
+    public BufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(Math.max(maxPooled, 1));
+    }
+
+    public byte[] acquire() {
+        var buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    public void release(byte[] buffer) {
+        if (buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,50 @@
+package com.dykim.base.filter;
+
+import com.dykim.base.interceptor.IdempotencyInterceptor;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ *
+ *
+ * <h3>Idempotency Filter</h3>
+ *
+ * Idempotency-Key 헤더가 있는 요청만 응답을 ContentCachingResponseWrapper 로 감싸서
+ * {@link IdempotencyInterceptor} 가 응답 바이트를 저장할 수 있게 한다.
+ *
+ * <pre>
+ *  - 헤더가 없는 요청은 감싸지 않으므로 추가 비용이 없다.
+ *  - 요청은 {@link ReplayableRequestWrapper} 로 감싸서 인터셉터가 본문 지문(해시)을 계산할 수 있게 한다.
+ *    ㄴ 본문은 Idempotent 핸들러인 경우에만 인터셉터에서 읽는다.
+ *  - 처리 완료 후 캐시된 응답을 실제 응답으로 복사한다.
+ * </pre>
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !StringUtils.hasText(
+                request.getHeader(IdempotencyInterceptor.HEADER_IDEMPOTENCY_KEY));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        var cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(new ReplayableRequestWrapper(request), cachingResponse);
+        } finally {
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.dykim.base.filter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ *
+ *
+ * <h3>Replayable Request Wrapper</h3>
+ *
+ * 요청 본문을 핸들러 실행 전에 읽고, 이후 다시 읽을 수 있게 하는 요청 래퍼
+ *
+ * <pre>
+ *  - {@link #getBody()} 를 호출한 경우에만 본문을 메모리에 읽어둔다.
+ *    ㄴ 호출하지 않은 요청은 원래 스트림을 그대로 사용하므로 추가 비용이 없다.
+ *  - 본문을 읽은 이후 getInputStream, getReader 는 읽어둔 본문을 반환한다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 원래 스트림을 읽기 시작한 이후에는 {@link #getBody()} 가 남은 본문만 반환한다.</b>
+ *  - 핸들러 인자 변환(본문 읽기) 전인 HandlerInterceptor.preHandle 에서 호출한다.
+ * </pre>
+ */
+public class ReplayableRequestWrapper extends HttpServletRequestWrapper {
+
+    private byte[] body;
+
+    public ReplayableRequestWrapper(HttpServletRequest request) {
+        super(request);
+    }
+
+    /** 요청 본문, 최초 호출 시 원래 스트림에서 모두 읽는다. */
+    public byte[] getBody() throws IOException {
+        if (body == null) {
+            body = super.getInputStream().readAllBytes();
+        }
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        return body != null ? new ByteArrayServletInputStream(body) : super.getInputStream();
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        return body != null
+                ? new BufferedReader(new InputStreamReader(getInputStream(), charset()))
+                : super.getReader();
+    }
+
+    private Charset charset() {
+        var characterEncoding = getCharacterEncoding();
+        return characterEncoding != null
+                ? Charset.forName(characterEncoding)
+                : StandardCharsets.UTF_8;
+    }
+
+    private static final class ByteArrayServletInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream delegate;
+
+        private ByteArrayServletInputStream(byte[] body) {
+            this.delegate = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return delegate.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /** 본문을 모두 읽어둔 상태이므로 바로 읽기 가능, 읽기 완료를 알린다. */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                readListener.onDataAvailable();
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.dykim.base.filter;
+
+import com.dykim.base.logging.JsonLineEncoder;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ *
+ *
+ * <h3>RequestId Filter</h3>
+ *
+ * 요청 식별값(requestId)을 MDC 에 저장하여 요청 처리 중 기록된 로그를 연결한다.
+ *
+ * <pre>
+ *  1. 요청 헤더(X-Request-Id)가 유효한 경우 그대로 사용하고, 없는 경우 새로 생성한다.
+ *    ㄴ 유효: 64자 이하의 영문, 숫자, '-', '_', '.'(로그 주입 방지)
+ *    ㄴ 생성: 64bit 난수 16진수 16자리(UUID 와 달리 SecureRandom 을 사용하지 않는다.)
+ *  2. MDC(requestId) 저장, 응답 헤더(X-Request-Id) 설정
+ *  3. 필터체인 수행 후 MDC 제거(쓰레드 재사용)
+ * </pre>
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_REQUEST_ID = "X-Request-Id";
+
+    private static final String ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        var requestId = (String) request.getAttribute(ATTRIBUTE);
+        if (requestId == null) {
+            requestId = request.getHeader(HEADER_REQUEST_ID);
+            if (!isValid(requestId)) {
+                requestId = generate();
+            }
+            request.setAttribute(ATTRIBUTE, requestId);
+            response.setHeader(HEADER_REQUEST_ID, requestId);
+        }
+        MDC.put(JsonLineEncoder.MDC_REQUEST_ID, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(JsonLineEncoder.MDC_REQUEST_ID);
+        }
+    }
+
+    /** 비동기 디스패치도 같은 요청이므로 최초 디스패치의 requestId 로 MDC 를 다시 설정한다. */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    static boolean isValid(String requestId) {
+        if (requestId == null
+                || requestId.isEmpty()
+                || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            var c = requestId.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 0x80)
+                    && c != '-'
+                    && c != '_'
+                    && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String generate() {
+        var value = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return value.length() == 16 ? value : "0".repeat(16 - value.length()) + value;
+    }
+}
@@ -0,0 +1,127 @@
+package com.dykim.base.filter;
+
+import com.dykim.base.interceptor.plan.HandlerPlan;
+import com.dykim.base.metrics.RequestTiming;
+import com.dykim.base.metrics.RouteLatencyRegistry;
+import com.dykim.base.metrics.jfr.HandlerExecutionEvent;
+import com.dykim.base.metrics.sql.SqlStats;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ *
+ *
+ * <h3>RequestTiming Filter</h3>
+ *
+ * 요청 전체 처리시간 측정 및 기록 필터
+ *
+ * <pre>
+ *  1. 측정 시작 - {@link RequestTiming} 을 요청 속성으로 저장, {@link SqlStats} 기록 시작
+ *  2. 필터체인 수행 - 시큐리티, 인터셉터, 핸들러, 뷰, 어드바이스 단계 시각은 각 단계에서 기록한다.
+ *  3. 측정 종료 - 성공, 실패 여부와 관계없이 어드바이스가 결정한 상태코드로 기록한다.
+ *    ㄴ 처리되지 않은 예외가 필터까지 전달된 경우 500 으로 기록한다.
+ *    ㄴ 인증 전 요청도 기록되므로 키(메소드, 라우트) 수는 {@link RouteLatencyRegistry} 에서 제한한다.
+ *  4. SQL 점검 - 아래의 경우 경고 로그를 남긴다.
+ *    ㄴ 같은 SQL 이 sqlRepeatThreshold 회 이상 실행된 경우(N+1 의심)
+ *    ㄴ &#64;SqlBudget 허용량을 초과한 경우
+ *  5. JFR 이벤트 - JFR 녹화 중인 경우에만 {@link HandlerExecutionEvent} 를 기록한다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 인터셉터 afterCompletion 만으로 기록하지 않는 이유</b>
+ *  - 앞선 인터셉터 preHandle 에서 예외가 발생하면(예: HandlerDebounceException)
+ *    뒤에 등록된 인터셉터의 afterCompletion 은 호출되지 않는다.
+ *  - 따라서 기록은 필터에서 한 곳으로 모으고, 인터셉터는 단계 시각만 기록한다.
+ * </pre>
+ *
+ * @see com.dykim.base.interceptor.PerformanceInterceptor
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final RouteLatencyRegistry routeLatencyRegistry;
+
+    private final int sqlRepeatThreshold;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        var timing = RequestTiming.start(request);
+        var sqlStats = SqlStats.begin();
+        var event = new HandlerExecutionEvent();
+        var status = 0;
+        event.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            throw e;
+        } finally {
+            timing.end();
+            event.end();
+            sqlStats.end();
+            // 비동기 요청은 최초 디스패치 종료 시점이 요청 종료가 아니므로 기록하지 않는다.
+            if (!request.isAsyncStarted()) {
+                var route = HandlerPlan.resolveRouteTemplate(request);
+                routeLatencyRegistry.record(
+                        request.getMethod(),
+                        route,
+                        status != 0 ? status : response.getStatus(),
+                        timing,
+                        sqlStats);
+                log.debug(
+                        "Request completed. route: {}, exception: {}, total time: {}ns,"
+                                + " sql statements: {}, rows: {}, jdbc time: {}ns",
+                        route,
+                        timing.getException(),
+                        timing.totalNanos(),
+                        sqlStats.getStatements(),
+                        sqlStats.getRows(),
+                        sqlStats.getJdbcNanos());
+                inspectSql(request.getMethod(), route, sqlStats);
+                if (event.shouldCommit()) {
+                    event.method = RouteLatencyRegistry.normalizeMethod(request.getMethod());
+                    event.route = route;
+                    event.status = status != 0 ? status : response.getStatus();
+                    event.exception = timing.getException();
+                    event.handlerDuration = timing.phaseNanos(RequestTiming.Phase.HANDLER);
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private void inspectSql(String method, String route, SqlStats sqlStats) {
+        if (sqlRepeatThreshold > 0 && sqlStats.getMostRepeatedCount() >= sqlRepeatThreshold) {
+            log.warn(
+                    "Possible N+1 query. {} {} executed same sql {} times: {}",
+                    method,
+                    route,
+                    sqlStats.getMostRepeatedCount(),
+                    sqlStats.getMostRepeatedSql());
+        }
+        var budget = sqlStats.getBudget();
+        if (budget != null && sqlStats.isBudgetExceeded()) {
+            log.warn(
+                    "Sql budget exceeded. {} {} statements: {} (max: {}),"
+                            + " max repeats: {} (max: {})",
+                    method,
+                    route,
+                    sqlStats.getStatements(),
+                    budget.maxStatements(),
+                    sqlStats.getMostRepeatedCount(),
+                    budget.maxRepeats());
+        }
+    }
+}
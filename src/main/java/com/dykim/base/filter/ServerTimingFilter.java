@@ -0,0 +1,81 @@
+package com.dykim.base.filter;
+
+import com.dykim.base.metrics.RequestTiming;
+import com.dykim.base.metrics.ServerTiming;
+import com.dykim.base.metrics.sql.SqlStats;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ *
+ *
+ * <h3>ServerTiming Filter</h3>
+ *
+ * 단계 별 처리시간을 Server-Timing 응답 헤더로 전달하는 필터(브라우저 RUM, 부하 테스트 도구에서 확인)
+ *
+ * <pre>
+ *  1. 대상 여부 - mode 에 따라 판단
+ *    ㄴ off: 사용하지 않음
+ *    ㄴ header: 요청에 requestHeader 가 있는 경우만
+ *    ㄴ always: 모든 요청
+ *  2. {@link ServerTiming} 을 요청 속성으로 저장하고 응답을 {@link ServerTimingResponseWrapper} 로 감싼다.
+ *  3. 응답 커밋 직전에 RequestTiming(PerformanceInterceptor), SqlStats 와 함께 헤더 값을 만든다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) RequestTimingFilter 이후, 스프링 시큐리티 이전에 등록해야 filter 구간이 측정된다.</b>
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    /** 동작 방식 */
+    public enum Mode {
+        OFF,
+        HEADER,
+        ALWAYS
+    }
+
+    private final Mode mode;
+
+    private final String requestHeader;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        switch (mode) {
+            case ALWAYS:
+                return false;
+            case HEADER:
+                return request.getHeader(requestHeader) == null;
+            case OFF:
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        var serverTiming = ServerTiming.start(request);
+        var wrappedResponse =
+                new ServerTimingResponseWrapper(
+                        response,
+                        () ->
+                                serverTiming.toHeaderValue(
+                                        RequestTiming.from(request), SqlStats.current()));
+        try {
+            filterChain.doFilter(request, wrappedResponse);
+        } finally {
+            wrappedResponse.writeServerTimingHeader();
+        }
+    }
+}
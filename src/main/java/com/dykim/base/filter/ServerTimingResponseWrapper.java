@@ -0,0 +1,144 @@
+package com.dykim.base.filter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.function.Supplier;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import lombok.NonNull;
+
+/**
+ *
+ *
+ * <h3>ServerTiming Response Wrapper</h3>
+ *
+ * 응답이 커밋되기 직전에 Server-Timing 헤더를 1회 작성하는 응답 래퍼
+ *
+ * <pre>
+ *  - 응답 본문을 복사하거나 버퍼링하지 않는다.
+ *  - 헤더 작성 시점
+ *    ㄴ OutputStream: flush / close 또는 누적 크기가 응답 버퍼를 넘기 직전
+ *       (Jackson 은 직렬화 완료 후 flush 하므로 버퍼 크기 이하 응답은 직렬화 시간까지 포함된다.)
+ *    ㄴ Writer: 최초 조회 시점(뷰 렌더링 시작)
+ *    ㄴ flushBuffer, sendError, sendRedirect 호출 시점
+ *    ㄴ 본문이 없는 경우 필터 종료 시점({@link #writeServerTimingHeader()})
+ * </pre>
+ */
+public class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    public static final String HEADER_SERVER_TIMING = "Server-Timing";
+
+    private final Supplier<String> headerValueSupplier;
+
+    private boolean headerWritten;
+    private ServletOutputStream outputStream;
+
+    public ServerTimingResponseWrapper(
+            HttpServletResponse response, Supplier<String> headerValueSupplier) {
+        super(response);
+        this.headerValueSupplier = headerValueSupplier;
+    }
+
+    /** 헤더 작성, 이미 작성했거나 응답이 커밋된 경우 무시한다. */
+    public void writeServerTimingHeader() {
+        if (headerWritten) {
+            return;
+        }
+        headerWritten = true;
+        if (!isCommitted()) {
+            setHeader(HEADER_SERVER_TIMING, headerValueSupplier.get());
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new HeaderWritingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeServerTimingHeader();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeServerTimingHeader();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeServerTimingHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeServerTimingHeader();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        writeServerTimingHeader();
+        super.sendRedirect(location);
+    }
+
+    private final class HeaderWritingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long bytesWritten;
+
+        private HeaderWritingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            beforeWrite(1);
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            beforeWrite(len);
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeServerTimingHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writeServerTimingHeader();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        /** 응답 버퍼를 넘기는 쓰기는 커밋을 일으키므로 그 전에 헤더를 작성한다. */
+        private void beforeWrite(int len) {
+            if (!headerWritten && bytesWritten + len >= getBufferSize()) {
+                writeServerTimingHeader();
+            }
+            bytesWritten += len;
+        }
+    }
+}
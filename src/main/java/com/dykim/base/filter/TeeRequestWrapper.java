@@ -0,0 +1,214 @@
+package com.dykim.base.filter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import lombok.NonNull;
+import org.springframework.http.MediaType;
+
+/**
+ *
+ *
+ * <h3>Tee Request Wrapper</h3>
+ *
+ * 애플리케이션이 요청 본문을 읽는 동안 앞부분(prefix)만 복사해두는 요청 래퍼
+ *
+ * <pre>
+ *  - 본문을 미리 읽거나 다시 읽지 않으며, 읽힌 만큼만 최대 버퍼 크기까지 복사한다.
+ *    ㄴ 큰 요청이 몰려도 로그용 메모리는 요청 당 버퍼 1개로 제한된다.
+ *  - 복사 버퍼는 {@link BufferPool} 에서 최초 읽기 시점에 빌리고, {@link #release} 로 반납한다.
+ *  - 폼 요청(application/x-www-form-urlencoded)은 컨테이너가 파라미터로 먼저 읽으므로 파라미터로 대체한다.
+ *  - 로그용 본문은 비밀번호 필드 값을 가린다.(키에 password, pswd, passwd, pwd 가 포함된 JSON, 폼 필드)
+ *    ㄴ 폼 파라미터는 디코딩된 값에 &, = 가 포함될 수 있으므로 문자열로 만들 때 파라미터 이름으로 가린다.
+ * </pre>
+ */
+public class TeeRequestWrapper extends HttpServletRequestWrapper {
+
+    static final String MASK = "****";
+
+    private static final Pattern PASSWORD_NAME =
+            Pattern.compile("password|passwd|pswd|pwd", Pattern.CASE_INSENSITIVE);
+    private static final Pattern JSON_PASSWORD =
+            Pattern.compile(
+                    "(\"[^\"]*(?:password|passwd|pswd|pwd)[^\"]*\"\\s*:\\s*\")"
+                            + "(?:[^\"\\\\]|\\\\.)*\"?",
+                    Pattern.CASE_INSENSITIVE);
+    private static final Pattern FORM_PASSWORD =
+            Pattern.compile(
+                    "((?:^|&)[^=&]*(?:password|passwd|pswd|pwd)[^=&]*=)[^&]*",
+                    Pattern.CASE_INSENSITIVE);
+
+    private final BufferPool bufferPool;
+
+    private volatile boolean released;
+    private byte[] prefix;
+    private int prefixLength;
+    private long totalLength;
+
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    public TeeRequestWrapper(HttpServletRequest request, BufferPool bufferPool) {
+        super(request);
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new TeeInputStream(super.getInputStream());
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset()));
+        }
+        return reader;
+    }
+
+    /**
+     *
+     *
+     * <h3>로그용 본문</h3>
+     *
+     * @return 비밀번호 필드를 가린 본문 앞부분, 읽힌 본문이 없는 경우 폼 파라미터 또는 빈 문자열
+     */
+    public String getBodyForLog() {
+        if (prefix != null && prefixLength > 0) {
+            var body = redact(new String(prefix, 0, prefixLength, charset()));
+            return totalLength > prefixLength
+                    ? body + "...(truncated, " + totalLength + " bytes read)"
+                    : body;
+        }
+        if (isFormRequest()) {
+            return toFormString(getParameterMap(), bufferPool.getBufferSize());
+        }
+        return "";
+    }
+
+    /**
+     *
+     *
+     * <h3>반납</h3>
+     *
+     * 복사 버퍼를 반납한다. 이후 읽기는 복사하지 않는다.
+     *
+     * @param async 비동기 요청 여부, true 인 경우 버퍼를 반납하지 않는다.
+     */
+    public void release(boolean async) {
+        released = true;
+        if (prefix != null && !async) {
+            bufferPool.release(prefix);
+        }
+        prefix = null;
+    }
+
+    /** 읽힌 본문(JSON, 인코딩된 폼 형식 문자열)의 비밀번호 필드 값을 가린다. */
+    static String redact(String body) {
+        var redacted = JSON_PASSWORD.matcher(body).replaceAll("$1" + MASK + "\"");
+        return FORM_PASSWORD.matcher(redacted).replaceAll("$1" + MASK);
+    }
+
+    private boolean isFormRequest() {
+        var contentType = getContentType();
+        return contentType != null
+                && contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    /** 파라미터를 key=value&... 형식으로 최대 길이까지 이어 붙인다. 비밀번호 파라미터 값은 가린다. */
+    private static String toFormString(Map<String, String[]> parameterMap, int maxLength) {
+        var builder = new StringBuilder();
+        for (var entry : parameterMap.entrySet()) {
+            var masked = PASSWORD_NAME.matcher(entry.getKey()).find();
+            for (var value : entry.getValue()) {
+                if (builder.length() > 0) {
+                    builder.append('&');
+                }
+                builder.append(entry.getKey()).append('=').append(masked ? MASK : value);
+                if (builder.length() >= maxLength) {
+                    builder.setLength(maxLength);
+                    return builder.append("...(truncated)").toString();
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private Charset charset() {
+        var characterEncoding = getCharacterEncoding();
+        return characterEncoding != null
+                ? Charset.forName(characterEncoding)
+                : StandardCharsets.UTF_8;
+    }
+
+    private void tee(byte[] b, int off, int len) {
+        if (len <= 0) {
+            return;
+        }
+        totalLength += len;
+        if (released) {
+            return;
+        }
+        if (prefix == null) {
+            prefix = bufferPool.acquire();
+        }
+        var copyLength = Math.min(len, prefix.length - prefixLength);
+        if (copyLength > 0) {
+            System.arraycopy(b, off, prefix, prefixLength, copyLength);
+            prefixLength += copyLength;
+        }
+    }
+
+    private final class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final byte[] single = new byte[1];
+
+        private TeeInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = delegate.read();
+            if (b >= 0) {
+                single[0] = (byte) b;
+                tee(single, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+            var read = delegate.read(b, off, len);
+            tee(b, off, read);
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
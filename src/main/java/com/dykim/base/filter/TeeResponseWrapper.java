@@ -0,0 +1,274 @@
+package com.dykim.base.filter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import lombok.NonNull;
+
+/**
+ *
+ *
+ * <h3>Tee Response Wrapper</h3>
+ *
+ * 응답 본문을 클라이언트로 바로 전달하면서 앞부분(prefix)만 복사해두는 응답 래퍼
+ *
+ * <pre>
+ *  - 본문 전체를 버퍼링하지 않으므로 큰 응답도 힙 사용량이 늘어나지 않는다.
+ *  - 복사 버퍼는 {@link BufferPool} 에서 최초 쓰기 시점에 빌리고, {@link #release} 로 반납한다.
+ *  - Writer 는 응답 문자셋으로 OutputStream 을 감싸며, 필터 종료 시 {@link #release} 에서 flush 한다.
+ *  - reset, resetBuffer 시 Writer 에 남은 문자와 복사된 앞부분을 버린다.
+ *    ㄴ 렌더링 중 오류로 응답을 다시 쓰는 경우 이전 본문이 새 응답에 섞이지 않는다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 비동기 요청(SSE 등)은 필터 종료 후에도 다른 쓰레드에서 쓰기가 이어진다.</b>
+ *  - 복사 버퍼 할당, 복사, 반납은 래퍼를 모니터로 동기화하여 반납 이후에는 복사하지 않는다.
+ *  - 반납 이후 쓰기는 동기화 없이 크기만 더한다.
+ * </pre>
+ */
+public class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final BufferPool bufferPool;
+
+    private volatile boolean released;
+    private byte[] prefix;
+    private int prefixLength;
+    private long totalLength;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private WriterSink writerSink;
+
+    public TeeResponseWrapper(HttpServletResponse response, BufferPool bufferPool) {
+        super(response);
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writerSink = new WriterSink(getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(writerSink, charset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discardWriter();
+        clearPrefix();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        discardWriter();
+        clearPrefix();
+    }
+
+    /**
+     *
+     *
+     * <h3>복사된 앞부분 본문</h3>
+     *
+     * @return 응답 문자셋으로 변환한 본문, 잘린 경우 전체 크기를 덧붙인다.
+     */
+    public String getPrefixAsString() {
+        flushWriter();
+        synchronized (this) {
+            if (prefix == null || prefixLength == 0) {
+                return "";
+            }
+            var body = new String(prefix, 0, prefixLength, charset());
+            return totalLength > prefixLength
+                    ? body + "...(truncated, " + totalLength + " bytes)"
+                    : body;
+        }
+    }
+
+    /** 응답 본문 전체 크기 */
+    public long getTotalLength() {
+        return totalLength;
+    }
+
+    /**
+     *
+     *
+     * <h3>반납</h3>
+     *
+     * Writer 를 flush 하고 복사 버퍼를 반납한다. 이후 쓰기는 복사하지 않는다.
+     *
+     * @param async 비동기 요청 여부, true 인 경우 다른 쓰레드가 사용중인 Writer 를 flush 하지 않는다.
+     */
+    public void release(boolean async) {
+        if (!async) {
+            flushWriter();
+        }
+        byte[] buffer;
+        synchronized (this) {
+            released = true;
+            buffer = prefix;
+            prefix = null;
+        }
+        if (buffer != null) {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /** Writer 에 남은 문자를 버린다. 이전 Writer 를 flush 해도 응답에 쓰지 않는다. */
+    private void discardWriter() {
+        if (writerSink != null) {
+            writerSink.discarded = true;
+        }
+        writerSink = null;
+        writer = null;
+    }
+
+    private synchronized void clearPrefix() {
+        prefixLength = 0;
+        totalLength = 0;
+    }
+
+    private Charset charset() {
+        var characterEncoding = getCharacterEncoding();
+        return characterEncoding != null
+                ? Charset.forName(characterEncoding)
+                : StandardCharsets.ISO_8859_1;
+    }
+
+    private void tee(byte[] b, int off, int len) {
+        if (len <= 0) {
+            return;
+        }
+        if (released) {
+            totalLength += len;
+            return;
+        }
+        synchronized (this) {
+            totalLength += len;
+            if (released) {
+                return;
+            }
+            var buffer = prefix;
+            if (buffer == null) {
+                buffer = bufferPool.acquire();
+                prefix = buffer;
+            }
+            var copyLength = Math.min(len, buffer.length - prefixLength);
+            if (copyLength > 0) {
+                System.arraycopy(b, off, buffer, prefixLength, copyLength);
+                prefixLength += copyLength;
+            }
+        }
+    }
+
+    /** Writer 가 쓰는 OutputStream, reset 이후에는 이전 Writer 의 출력을 버린다. */
+    private static final class WriterSink extends OutputStream {
+
+        private final OutputStream delegate;
+        private volatile boolean discarded;
+
+        private WriterSink(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!discarded) {
+                delegate.write(b);
+            }
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            if (!discarded) {
+                delegate.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!discarded) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!discarded) {
+                delegate.close();
+            }
+        }
+    }
+
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final byte[] single = new byte[1];
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            single[0] = (byte) b;
+            tee(single, 0, 1);
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            tee(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.dykim.base.filter.concurrency;
+
+import com.dykim.base.advice.common.exception.ConcurrencyLimitExceededException;
+import com.dykim.base.dto.ApiResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ *
+ *
+ * <h3>ConcurrencyLimit Filter</h3>
+ *
+ * 적응형 동시성 제한 필터, 스프링 시큐리티 이전에 등록하여 인증 처리 전에 초과 요청을 거부한다.
+ *
+ * <pre>
+ *  1. 허용 획득 - {@link GradientConcurrencyLimiter#tryAcquire}
+ *    ㄴ 거부 시 503, Retry-After 헤더와 ApiResult 에러 형식으로 응답한다.
+ *  2. 필터체인 수행
+ *  3. 허용 반환 - 처리시간을 RTT 표본으로 전달한다.
+ *    ㄴ 비동기 요청(SSE 등)은 최초 디스패치 종료 시 반환하며 표본으로 사용하지 않는다.
+ *       요청 처리 쓰레드가 반환된 시점부터는 Tomcat 처리 쓰레드를 점유하지 않기 때문이다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 거부 응답은 과부하 상황에서 대량으로 발생하므로 debug 로그만 남긴다.</b>
+ *  - 누적 거부 수는 GET /api/performance/v1/concurrency 로 확인한다.
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final GradientConcurrencyLimiter limiter;
+
+    private final ObjectMapper objectMapper;
+
+    private final long retryAfterSeconds;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        // 1. 허용 획득
+        if (!limiter.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        // 2. 필터체인 수행
+        var inFlight = limiter.getInFlight();
+        var startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 3. 허용 반환
+            var endNanos = System.nanoTime();
+            limiter.release(
+                    request.isAsyncStarted() ? -1 : endNanos - startNanos, inFlight, endNanos);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        log.debug(
+                "Request rejected by concurrency limit({}). URI: {}",
+                limiter.getLimit(),
+                request.getRequestURI());
+        var exception =
+                new ConcurrencyLimitExceededException(
+                        String.format(
+                                "Server is over concurrency limit(%d). Retry after %ds",
+                                limiter.getLimit(), retryAfterSeconds));
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResult.error(exception));
+    }
+}
@@ -0,0 +1,193 @@
+package com.dykim.base.filter.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ *
+ * <h3>Gradient Concurrency Limiter</h3>
+ *
+ * 응답시간(RTT) 변화로 동시 처리 허용량을 조절하는 적응형 동시성 제한기
+ *
+ * <pre>
+ *  1. 획득 - 처리중인 요청 수가 현재 허용량 이상이면 거부한다.(CAS, 대기 없음)
+ *  2. 표본 수집 - 요청 종료 시 RTT 를 구간(windowMillis, 최소 minWindowSamples 건) 단위로 합산한다.
+ *  3. 허용량 갱신 - 구간 종료 시 1회 계산한다.
+ *    ㄴ shortRtt: 구간 평균 RTT, longRtt: 구간 평균의 지수이동평균(기준 RTT)
+ *    ㄴ gradient = clamp(rttTolerance * longRtt / shortRtt, 0.5, 1.0)
+ *       RTT 가 기준보다 rttTolerance 배 이상 늘어나면 1 미만이 되어 허용량이 줄어든다.
+ *    ㄴ newLimit = limit * gradient + sqrt(limit), RTT 가 안정적이면 sqrt(limit) 만큼 늘어난다.
+ *    ㄴ limit = limit * (1 - smoothing) + newLimit * smoothing, minLimit ~ maxLimit 로 제한
+ *  4. 보정
+ *    ㄴ 구간 내 최대 처리중 요청 수가 허용량의 절반 미만이면(여유 상태) 허용량을 늘리지 않는다.
+ *    ㄴ longRtt 가 shortRtt 의 2배를 넘으면(부하 해소 후) 기준 RTT 를 빠르게 낮춘다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 대기열(Tomcat accept queue, 커넥션 풀 대기)이 쌓이기 시작하면 RTT 가 먼저 늘어나므로,</b>
+ * <b>대기열이 가득 차 처리시간이 무너지기 전에 초과 요청을 빠르게 거부한다.</b>
+ *  - Netflix concurrency-limits 의 Gradient2 방식을 단순화했다.
+ * </pre>
+ */
+public final class GradientConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final long windowNanos;
+    private final int minWindowSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // 아래 필드는 lock 으로 보호한다.
+    private final Object lock = new Object();
+    private double estimatedLimit;
+    private double longRttNanos;
+    private double shortRttNanos;
+    private long windowStartNanos;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    /**
+     * @param initialLimit 초기 허용량
+     * @param minLimit 최소 허용량
+     * @param maxLimit 최대 허용량
+     * @param smoothing 갱신 반영 비율(0 ~ 1)
+     * @param rttTolerance 기준 RTT 대비 허용 배수(1 이상)
+     * @param windowMillis 표본 구간(ms)
+     * @param minWindowSamples 구간 최소 표본 수
+     */
+    public GradientConcurrencyLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double smoothing,
+            double rttTolerance,
+            long windowMillis,
+            int minWindowSamples) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    "minLimit must be greater than zero and maxLimit must be >= minLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = Math.min(Math.max(smoothing, 0.01), 1.0);
+        this.rttTolerance = Math.max(rttTolerance, 1.0);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(windowMillis, 1));
+        this.minWindowSamples = Math.max(minWindowSamples, 1);
+        this.estimatedLimit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 처리 허용 획득
+     *
+     * @return 허용된 경우 true, 요청 종료 시 반드시 {@link #release} 를 호출한다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 허용 반환
+     *
+     * @param rttNanos 요청 처리시간(ns), 0 미만인 경우 표본으로 사용하지 않는다.(비동기 요청 등)
+     * @param inFlightAtStart 획득 직후 처리중 요청 수
+     * @param currentNanos 현재 시각(System.nanoTime)
+     */
+    public void release(long rttNanos, int inFlightAtStart, long currentNanos) {
+        inFlight.decrementAndGet();
+        if (rttNanos >= 0) {
+            onSample(rttNanos, inFlightAtStart, currentNanos);
+        }
+    }
+
+    private void onSample(long rttNanos, int inFlightAtStart, long currentNanos) {
+        synchronized (lock) {
+            if (windowCount == 0) {
+                windowStartNanos = currentNanos;
+            }
+            windowRttSum += rttNanos;
+            windowCount++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+            if (windowCount < minWindowSamples || currentNanos - windowStartNanos < windowNanos) {
+                return;
+            }
+            update((double) windowRttSum / windowCount, windowMaxInFlight);
+            windowRttSum = 0;
+            windowCount = 0;
+            windowMaxInFlight = 0;
+        }
+    }
+
+    private void update(double shortRtt, int maxInFlight) {
+        shortRttNanos = shortRtt;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+            if (longRttNanos / shortRtt > 2) {
+                longRttNanos *= 0.95;
+            }
+        }
+
+        // 여유 상태에서는 RTT 가 안정적이어도 허용량을 늘리지 않는다.
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+        var gradient = rttTolerance * longRttNanos / shortRtt;
+        gradient = Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, gradient));
+        var newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    /** 현재 허용량 */
+    public int getLimit() {
+        return limit;
+    }
+
+    /** 처리중 요청 수 */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /** 누적 거부 수 */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /** 최근 구간 평균 RTT(ns) */
+    public long getShortRttNanos() {
+        synchronized (lock) {
+            return (long) shortRttNanos;
+        }
+    }
+
+    /** 기준 RTT(ns) */
+    public long getLongRttNanos() {
+        synchronized (lock) {
+            return (long) longRttNanos;
+        }
+    }
+}
@@ -2,15 +2,24 @@ package com.dykim.base.interceptor;
 
 import com.dykim.base.advice.common.exception.HandlerDebounceException;
 import com.dykim.base.config.annotation.Debounce;
-import java.util.HashMap;
+import com.dykim.base.interceptor.debounce.DebounceStore;
+import com.dykim.base.interceptor.debounce.SessionDebounceStore;
+import com.dykim.base.interceptor.debounce.SessionlessDebounceStore;
+import com.dykim.base.interceptor.plan.HandlerPlan;
+import com.dykim.base.interceptor.plan.PlanAwareInterceptor;
+import com.dykim.base.metrics.PhaseRecorder;
+import com.dykim.base.metrics.jfr.DebounceDecisionEvent;
+import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
+import org.springframework.util.StringUtils;
 import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
 /**
  *
@@ -25,23 +34,29 @@ import org.springframework.web.servlet.HandlerInterceptor;
  *  1. 핸들러메소드 검증
  *  2. Debounce 대상 여부
  *  3. 세션 획득 - 없는 경우 생성하지 않음.
- *  4. debounceMap header 조회
- *  4-2. 최초 호출 확인 - 동기화 처리
- *  5. debounceMap header 재조회
- *   1) 최종 호출시간 조회
- *   2) 최종 호출시간 갱신
- *  6. 디바운싱
+ *     ㄴ 세션이 없는 경우 sessionless 모드이면 클라이언트 식별값으로 디바운싱, 아니면 통과
+ *     ㄴ 세션이 필요 없는 저장소(DB 공유 저장소)는 세션을 확인하지 않는다.
+ *  4. 디바운스 획득 - 저장소에서 최종 호출시간 조회와 갱신을 한번에 처리
+ *     ㄴ 키: 라우트 템플릿(+ @Debounce keyVariables 경로변수)
+ *  5. 디바운싱
  * </pre>
  *
  * <pre>
- * API 호출 데이터 양식
- * 요청한 세션: {
- *     debounceMap: {
- *         url1: last call time Millis,
- *         url2: last call time Millis,
- *         ...
- *     }
- * }
+ * 호출 데이터는 {@link DebounceStore} 구현체에서 관리한다.
+ *  - 세션 저장소(기본값): 세션 별 DebounceState, 락 없이 원자적으로 갱신된다.
+ *    ㄴ 세션 당 키 수 제한(LRU), 타이밍 휠로 만료된 키 제거
+ *  - 세션 없는 요청(sessionless 모드): {@link SessionlessDebounceStore}, IP + User-Agent 또는 헤더 기준
+ *  - DB 공유 저장소: 여러 노드가 같은 상태를 공유한다. 요청 당 1회 통신한다.
+ *    ㄴ 인증 사용자 또는 클라이언트 식별값으로 디바운싱하므로 다른 노드, 새 세션으로 우회되지 않는다.
+ * </pre>
+ *
+ * <pre>
+ * 단계별 처리시간은 {@link PhaseRecorder}("debounceInterceptor")에 집계되며, 요청마다 로그를 남기지 않는다.
+ *  - 조회: GET /api/performance/v1/phases
+ * </pre>
+ *
+ * <pre>
+ * 디바운스 획득 결과는 JFR 녹화 중인 경우 {@link DebounceDecisionEvent} 로 기록한다.
  * </pre>
  *
  * <pre>
@@ -57,95 +72,120 @@ import org.springframework.web.servlet.HandlerInterceptor;
  */
 @Slf4j
 @Component
-public class DebounceInterceptor implements HandlerInterceptor {
+public class DebounceInterceptor implements PlanAwareInterceptor {
+
+    private static final PhaseRecorder PHASE_RECORDER =
+            PhaseRecorder.register(
+                    "debounceInterceptor", "handlerMethod", "debounceTarget", "session", "acquire");
+    private static final int PHASE_HANDLER_METHOD = 0;
+    private static final int PHASE_DEBOUNCE_TARGET = 1;
+    private static final int PHASE_SESSION = 2;
+    private static final int PHASE_ACQUIRE = 3;
 
-    private static final String DEBOUNCE_MAP = "api-call-debounce-map";
+    private final DebounceStore debounceStore;
+
+    @Nullable private final SessionlessDebounceStore sessionlessDebounceStore;
+
+    /** 세션 저장소를 사용하는 인터셉터를 생성한다. */
+    public DebounceInterceptor() {
+        this(new SessionDebounceStore());
+    }
+
+    /** 세션이 없는 요청은 디바운싱하지 않는 인터셉터를 생성한다. */
+    public DebounceInterceptor(DebounceStore debounceStore) {
+        this(debounceStore, null);
+    }
+
+    @Autowired
+    public DebounceInterceptor(
+            DebounceStore debounceStore,
+            @Nullable SessionlessDebounceStore sessionlessDebounceStore) {
+        this.debounceStore = debounceStore;
+        this.sessionlessDebounceStore = sessionlessDebounceStore;
+    }
+
+    /** 실행 계획 생성 시 Debounce 대상(유효한 디바운스 시간)인 핸들러메소드만 포함한다. */
+    @Override
+    public boolean appliesTo(HandlerMethod handlerMethod) {
+        var debounce = handlerMethod.getMethodAnnotation(Debounce.class);
+        if (debounce == null) {
+            return false;
+        }
+        if (debounce.value() <= 0) {
+            log.error(
+                    "Invalid debounce time: {}ms. handler({}) is debounce pass.",
+                    debounce.value(),
+                    handlerMethod.getShortLogMessage());
+            return false;
+        }
+        return true;
+    }
 
     @Override
     public boolean preHandle(
             @NonNull HttpServletRequest request,
             @NonNull HttpServletResponse response,
             @NonNull Object handler) {
-        var stopWatch = new StopWatch("debounceInterceptor");
+        var timing = PHASE_RECORDER.begin();
         try {
             // 1. 핸들러메소드 검증
-            stopWatch.start("1. 핸들러메소드 검증");
             if (!(handler instanceof HandlerMethod)) {
                 return true;
             }
-            stopWatch.stop();
+            timing.mark(PHASE_HANDLER_METHOD);
 
             // 2. Debounce 대상 여부
-            stopWatch.start("2. Debounce 대상 여부");
-            var handlerMethod = (HandlerMethod) handler;
-            Debounce debounce = handlerMethod.getMethodAnnotation(Debounce.class);
+            var plan = HandlerPlan.from(request);
+            Debounce debounce =
+                    plan != null
+                            ? plan.getDebounce()
+                            : ((HandlerMethod) handler).getMethodAnnotation(Debounce.class);
             if (debounce == null) {
                 return true;
             }
-            var requestURI = request.getRequestURI();
             if (debounce.value() <= 0) {
                 log.error(
                         "Invalid debounce time: {}ms. request(URI: {})is debounce pass.",
                         debounce.value(),
-                        requestURI);
+                        request.getRequestURI());
                 return true;
             }
-            stopWatch.stop();
+            timing.mark(PHASE_DEBOUNCE_TARGET);
 
             // 3. 세션 검증
-            stopWatch.start("3. 세션 검증");
-            var session = request.getSession(false);
+            var sessionless =
+                    debounceStore.requiresSession() && request.getSession(false) == null;
             var currentTimeMillis = System.currentTimeMillis();
-            if (session == null) {
+            if (sessionless && sessionlessDebounceStore == null) {
                 log.error("Request session is invalid. Debounce pass.");
                 return true;
             }
-            stopWatch.stop();
-
-            // 4. debounceMap header 조회
-            stopWatch.start("4. debounceMap header 조회");
-            var debounceMapObject = session.getAttribute(DEBOUNCE_MAP);
-            var debounceMap = new HashMap<String, Long>();
-            Long lastCallTimeMillis = null;
-            stopWatch.stop();
-
-            // 4-2. 최초 호출 확인 - 동기화 처리
-            // 최초 호출 시 먼저 진입한 세션만 성공처리될 수 있도록 동기화 블록 설정함.
-            if (debounceMapObject == null) {
-                stopWatch.start("4-2. 최초 호출 확인 - 동기화 처리 진입");
-                synchronized (DEBOUNCE_MAP) {
-                    stopWatch.stop();
-                    debounceMapObject = session.getAttribute(DEBOUNCE_MAP);
-                    // 동기화 처리 중 다른 쓰레드가 대기하기 때문에 진입 시 한번 더 확인함.
-                    if (debounceMapObject == null) {
-                        stopWatch.start("4-2. 최초 호출 확인 - 동기화 처리 수행");
-                        debounceMap.put(requestURI, currentTimeMillis);
-                        session.setAttribute(DEBOUNCE_MAP, debounceMap);
-                        stopWatch.stop();
-                    }
-                }
-            }
+            timing.mark(PHASE_SESSION);
 
-            // 5. debounceMap header 재조회
-            // 싱크로나이즈 블록에서 병렬처리로 인해 debounceMapObject 가 설정될 수 있기 때문에 다시 체크함.
-            stopWatch.start("5. debounceMap header 재조회");
-            if (debounceMapObject instanceof HashMap) {
-                debounceMap = (HashMap<String, Long>) debounceMapObject; // 캐스팅 에러를 감수하고 최소한의 조건만 사용
-                // 1) 최종 호출시간 조회
-                lastCallTimeMillis = debounceMap.get(requestURI);
-
-                // 2) 최종 호출시간 갱신
-                debounceMap.put(requestURI, currentTimeMillis);
-                session.setAttribute(DEBOUNCE_MAP, debounceMap);
+            // 4. 디바운스 획득
+            var debounceKey = toDebounceKey(request, plan, debounce);
+            var event = new DebounceDecisionEvent();
+            event.begin();
+            var remainingTimeMillis =
+                    !sessionless
+                            ? debounceStore.tryAcquire(
+                                    request, debounceKey, debounce.value(), currentTimeMillis)
+                            : sessionlessDebounceStore.tryAcquire(
+                                    request, debounceKey, debounce.value(), currentTimeMillis);
+            timing.mark(PHASE_ACQUIRE);
+            if (event.shouldCommit()) {
+                event.key = debounceKey;
+                event.passed = remainingTimeMillis == 0;
+                event.remaining = remainingTimeMillis;
+                event.debounce = debounce.value();
+                event.sessionless = sessionless;
+                event.commit();
             }
-            stopWatch.stop();
 
-            // 6. 디바운싱
-            if (lastCallTimeMillis == null
-                    || lastCallTimeMillis + debounce.value() <= currentTimeMillis) {
+            // 5. 디바운싱
+            if (remainingTimeMillis == 0) {
                 return true;
             }
-            var remainingTimeMillis = lastCallTimeMillis + debounce.value() - currentTimeMillis;
             log.error(
                     "Api called before debounce time(remaining: {}ms). Reset debounce {}ms",
                     remainingTimeMillis,
@@ -160,9 +200,47 @@ public class DebounceInterceptor implements HandlerInterceptor {
             log.error(e.getMessage());
             log.error("Invalid Debounce process. Debounce is bypass.");
         } finally {
-            log.debug(stopWatch.prettyPrint());
+            timing.end();
         }
 
         return true;
     }
+
+    /**
+     * 디바운스 키 생성 - 라우트 템플릿 + 지정된 경로변수
+     *
+     * <pre>
+     *  - 요청 URI 대신 라우트 템플릿을 사용하여 경로변수 값 마다 키가 늘어나지 않도록 한다.
+     *  - 라우트 템플릿을 확인할 수 없는 경우 요청 URI 를 사용한다.
+     * </pre>
+     */
+    @SuppressWarnings("unchecked")
+    private static String toDebounceKey(
+            HttpServletRequest request, HandlerPlan plan, Debounce debounce) {
+        var routeTemplate =
+                plan != null
+                        ? plan.getRouteTemplate()
+                        : (String)
+                                request.getAttribute(
+                                        HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (!StringUtils.hasText(routeTemplate)) {
+            return request.getRequestURI();
+        }
+        if (debounce.keyVariables().length == 0) {
+            return routeTemplate;
+        }
+        var uriVariables =
+                (Map<String, String>)
+                        request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        var builder = new StringBuilder(routeTemplate);
+        var separator = '?';
+        for (String keyVariable : debounce.keyVariables()) {
+            builder.append(separator)
+                    .append(keyVariable)
+                    .append('=')
+                    .append(uriVariables != null ? uriVariables.get(keyVariable) : null);
+            separator = '&';
+        }
+        return builder.toString();
+    }
 }
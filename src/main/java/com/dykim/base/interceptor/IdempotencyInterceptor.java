@@ -0,0 +1,225 @@
+package com.dykim.base.interceptor;
+
+import com.dykim.base.advice.common.exception.IdempotencyConflictException;
+import com.dykim.base.advice.common.exception.IdempotencyKeyReusedException;
+import com.dykim.base.config.annotation.Idempotent;
+import com.dykim.base.filter.IdempotencyFilter;
+import com.dykim.base.filter.ReplayableRequestWrapper;
+import com.dykim.base.interceptor.idempotency.IdempotencyStore;
+import com.dykim.base.interceptor.idempotency.IdempotentResponse;
+import com.dykim.base.interceptor.plan.HandlerPlan;
+import com.dykim.base.interceptor.plan.PlanAwareInterceptor;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ *
+ *
+ * <h3>Idempotency Interceptor</h3>
+ *
+ * Idempotency-Key 헤더 기반 멱등 처리 인터셉터
+ *
+ * <pre>
+ *  1. 핸들러메소드 검증
+ *  2. Idempotent 대상 여부 - 어노테이션 + Idempotency-Key 헤더
+ *  3. 저장 키 생성 - HTTP 메소드 + URI + 클라이언트(사용자 또는 세션) + Idempotency-Key
+ *    ㄴ 요청 본문 지문(SHA-256)은 선점 시 함께 저장한다.
+ *  4. 키 선점
+ *   - 선점 성공: 핸들러 실행, 완료 후 응답 저장(afterCompletion)
+ *   - 본문 지문 불일치: 같은 키로 다른 요청을 보낸 경우 IdempotencyKeyReusedException(422)
+ *   - 저장된 응답 존재: 저장된 상태코드 + 응답 바이트 재전송(핸들러 실행하지 않음)
+ *   - 처리중: 완료까지 대기 후 재전송, 대기시간 초과 시 IdempotencyConflictException(409)
+ * </pre>
+ *
+ * <pre>
+ * <b>참고1) 요청 본문, 응답 바이트는 {@link IdempotencyFilter} 가 감싼 요청, 응답에서 읽는다.</b>
+ * <b>참고2) 성공(2xx) 응답만 저장한다. 그 외 응답, 처리되지 않은 예외는 재시도 시 다시 실행한다.</b>
+ *  - 409, 429 등 일시적인 실패가 TTL 동안 재전송되지 않도록 한다.
+ * </pre>
+ *
+ * @see Idempotent
+ */
+@Slf4j
+@Component
+public class IdempotencyInterceptor implements PlanAwareInterceptor {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_REPLAYED = "Idempotent-Replayed";
+
+    private static final String ATTRIBUTE_CLAIMED =
+            IdempotencyInterceptor.class.getName() + ".claimed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    private static final long DEFAULT_WAIT_MILLIS = 5000;
+
+    private final IdempotencyStore idempotencyStore;
+
+    private final long waitMillis;
+
+    /** 기본 크기, TTL 의 저장소로 인터셉터를 생성한다. */
+    public IdempotencyInterceptor() {
+        this(new IdempotencyStore(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL), DEFAULT_WAIT_MILLIS);
+    }
+
+    @Autowired
+    public IdempotencyInterceptor(
+            IdempotencyStore idempotencyStore,
+            @Value("${base.idempotency.wait-millis:5000}") long waitMillis) {
+        this.idempotencyStore = idempotencyStore;
+        this.waitMillis = waitMillis;
+    }
+
+    @Override
+    public boolean appliesTo(HandlerMethod handlerMethod) {
+        return handlerMethod.hasMethodAnnotation(Idempotent.class);
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler)
+            throws IOException, InterruptedException {
+        // 1. 핸들러메소드 검증
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        // 2. Idempotent 대상 여부
+        var plan = HandlerPlan.from(request);
+        var idempotent =
+                plan != null
+                        ? plan.isIdempotent()
+                        : ((HandlerMethod) handler).hasMethodAnnotation(Idempotent.class);
+        if (!idempotent) {
+            return true;
+        }
+        var idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY);
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return true;
+        }
+
+        // 3. 저장 키 생성
+        var key = toStoreKey(request, idempotencyKey);
+        var fingerprint = fingerprintOf(request);
+
+        // 4. 키 선점
+        var deadline = System.currentTimeMillis() + waitMillis;
+        while (true) {
+            var claimed = idempotencyStore.claim(key, fingerprint);
+            if (claimed != null) {
+                request.setAttribute(ATTRIBUTE_CLAIMED, claimed);
+                return true;
+            }
+            var existing = idempotencyStore.get(key);
+            if (existing == null) {
+                // 선점 해제 또는 만료 직후, 다시 선점한다.
+                continue;
+            }
+            if (!existing.matches(fingerprint)) {
+                log.error("Idempotency-Key reused with a different request body. key: {}", key);
+                throw new IdempotencyKeyReusedException(
+                        "The Idempotency-Key was already used with a different request body.");
+            }
+            var remainingMillis = deadline - System.currentTimeMillis();
+            if (!existing.isStored()
+                    && (remainingMillis <= 0 || !existing.await(remainingMillis))) {
+                log.error("Idempotent request is still in progress. key: {}", key);
+                throw new IdempotencyConflictException(
+                        "A request with the same Idempotency-Key is still in progress.");
+            }
+            if (existing.isStored()) {
+                replay(existing, response);
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            Exception ex) {
+        var claimed = (IdempotentResponse) request.getAttribute(ATTRIBUTE_CLAIMED);
+        if (claimed == null) {
+            return;
+        }
+        var cachingResponse =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (cachingResponse == null || ex != null || !isStorable(response.getStatus())) {
+            idempotencyStore.abandon(claimed);
+            return;
+        }
+        idempotencyStore.complete(
+                claimed,
+                cachingResponse.getStatus(),
+                cachingResponse.getContentType(),
+                cachingResponse.getContentAsByteArray());
+    }
+
+    /** 성공(2xx) 응답만 저장한다. */
+    private static boolean isStorable(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    /** 저장된 응답을 그대로 재전송한다. */
+    private static void replay(IdempotentResponse stored, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(HEADER_REPLAYED, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    /** 요청 본문 SHA-256 해시, 본문을 다시 읽을 수 없는 요청은 null */
+    private static String fingerprintOf(HttpServletRequest request) throws IOException {
+        var replayable = WebUtils.getNativeRequest(request, ReplayableRequestWrapper.class);
+        return replayable != null
+                ? Hashing.sha256().hashBytes(replayable.getBody()).toString()
+                : null;
+    }
+
+    /** 다른 사용자의 키와 겹치지 않도록 클라이언트 식별값을 포함하며, 긴 키는 해시로 대체한다. */
+    private static String toStoreKey(HttpServletRequest request, String idempotencyKey) {
+        var principal = request.getUserPrincipal();
+        var session = request.getSession(false);
+        String clientKey;
+        if (principal != null) {
+            clientKey = principal.getName();
+        } else if (session != null) {
+            clientKey = session.getId();
+        } else {
+            clientKey = request.getRemoteAddr();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            idempotencyKey =
+                    Hashing.sha256().hashString(idempotencyKey, StandardCharsets.UTF_8).toString();
+        }
+        return request.getMethod()
+                + " "
+                + request.getRequestURI()
+                + " "
+                + clientKey
+                + " "
+                + idempotencyKey;
+    }
+}
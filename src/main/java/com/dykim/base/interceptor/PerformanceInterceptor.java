@@ -1,11 +1,18 @@
 package com.dykim.base.interceptor;
 
+import com.dykim.base.config.annotation.SqlBudget;
+import com.dykim.base.interceptor.plan.HandlerPlan;
+import com.dykim.base.metrics.RequestTiming;
+import com.dykim.base.metrics.SlowRequestWatchdog;
+import com.dykim.base.metrics.ThreadAllocation;
+import com.dykim.base.metrics.sql.SqlStats;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 
 /**
@@ -16,8 +23,18 @@ import org.springframework.web.servlet.ModelAndView;
  * API 성능 측정용 인터셉터
  *
  * <pre>
- *  - 온전히 성공한 로직에 대해서만 속도를 측정한다.
- *    => postHandle 에서 측정한 시간 출력으로 구현
+ *  - 요청 처리 단계 시각을 {@link RequestTiming} 에 기록한다.
+ *    ㄴ preHandle: 핸들러 시작(모든 인터셉터 preHandle 통과)
+ *    ㄴ postHandle: 핸들러 정상 종료(뷰 렌더링 전)
+ *    ㄴ afterCompletion: 요청 완료(뷰 렌더링, 어드바이스 예외 처리 이후), 예외 발생 시에도 호출된다.
+ *  - preHandle ~ afterCompletion 동안 처리 쓰레드의 힙 할당량을 측정한다.({@link ThreadAllocation})
+ *  - 기록된 단계 별 처리시간, 할당량은 RequestTimingFilter 에서 라우트 별로 집계한다.
+ *    ㄴ 조회: GET /api/performance/v1/routes
+ *  - RequestTimingFilter 를 거치지 않은 요청은 측정하지 않는다.
+ *  - {@link SlowRequestWatchdog} 이 있는 경우 핸들러 처리 동안 감시를 등록한다.
+ *    ㄴ 임계시간을 넘긴 요청의 스택 샘플 조회: GET /api/performance/v1/slow-requests
+ *    ㄴ 비동기 처리가 시작된 경우(afterConcurrentHandlingStarted) 쓰레드가 풀로 반환되므로 감시를 해제한다.
+ *  - 핸들러메소드에 {@link SqlBudget} 이 있는 경우 요청의 SQL 허용량으로 설정한다.
  *
  *  <b>참고) 온전한 API 요청처리 시간을 측정하기 위해 해당 인터셉터는
  *          맨마지막에 등록시켜 실행순서를 보장해야 한다.</b>
@@ -29,17 +46,59 @@ import org.springframework.web.servlet.ModelAndView;
  *    -> PerformanceInterceptor.postHandle(HandleAdaptor 예외없이 성공한 경우만 수행)
  *    -> B 인터셉터 postHandle
  *    ...
+ *    -> 뷰 렌더링 또는 예외 처리
+ *    -> PerformanceInterceptor.afterCompletion
  * </pre>
  */
 @Slf4j
-public class PerformanceInterceptor implements HandlerInterceptor {
+public class PerformanceInterceptor implements AsyncHandlerInterceptor {
 
-    private static final String PROCESS_TIME_MILLIS = "process-time-millis";
+    private static final String WATCH_ATTRIBUTE = SlowRequestWatchdog.Watch.class.getName();
+
+    @Nullable private final SlowRequestWatchdog slowRequestWatchdog;
+
+    /** SQL 허용량 초과 시 예외 발생 여부(false 인 경우 로그만 남김) */
+    private final boolean failOnSqlBudgetExceeded;
+
+    public PerformanceInterceptor() {
+        this(null, false);
+    }
+
+    public PerformanceInterceptor(
+            @Nullable SlowRequestWatchdog slowRequestWatchdog, boolean failOnSqlBudgetExceeded) {
+        this.slowRequestWatchdog = slowRequestWatchdog;
+        this.failOnSqlBudgetExceeded = failOnSqlBudgetExceeded;
+    }
 
     @Override
     public boolean preHandle(
-            HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
-        request.setAttribute(PROCESS_TIME_MILLIS, System.currentTimeMillis());
+            HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        var timing = RequestTiming.from(request);
+        if (timing != null) {
+            timing.markHandlerStart();
+            timing.markAllocationStart();
+        }
+        var sqlStats = SqlStats.current();
+        if (sqlStats != null && handler instanceof HandlerMethod) {
+            var plan = HandlerPlan.from(request);
+            var sqlBudget =
+                    plan != null
+                            ? plan.getSqlBudget()
+                            : ((HandlerMethod) handler).getMethodAnnotation(SqlBudget.class);
+            if (sqlBudget != null) {
+                sqlStats.budget(sqlBudget, failOnSqlBudgetExceeded);
+            }
+        }
+        if (slowRequestWatchdog != null) {
+            request.setAttribute(
+                    WATCH_ATTRIBUTE,
+                    slowRequestWatchdog.begin(
+                            request.getMethod(),
+                            HandlerPlan.resolveRouteTemplate(request),
+                            request.getRequestURI()));
+        }
         return true;
     }
 
@@ -49,10 +108,54 @@ public class PerformanceInterceptor implements HandlerInterceptor {
             @NonNull HttpServletResponse response,
             @Nullable Object handler,
             @Nullable ModelAndView modelAndView) {
-        var completeHandlerAdaptorTimeMillis = System.currentTimeMillis();
-        var requestTimeMillis = (Long) request.getAttribute(PROCESS_TIME_MILLIS);
-        log.info(
-                "Handler proceed success. process time: {}ms",
-                completeHandlerAdaptorTimeMillis - requestTimeMillis);
+        var timing = RequestTiming.from(request);
+        if (timing != null) {
+            timing.markHandlerEnd();
+            log.debug(
+                    "Handler proceed success. process time: {}ns",
+                    timing.phaseNanos(RequestTiming.Phase.HANDLER));
+        }
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            @Nullable Exception ex) {
+        var timing = RequestTiming.from(request);
+        if (timing != null) {
+            timing.markAllocationEnd();
+            timing.markCompletion();
+        }
+        if (slowRequestWatchdog != null) {
+            var watch = (SlowRequestWatchdog.Watch) request.getAttribute(WATCH_ATTRIBUTE);
+            if (watch != null) {
+                slowRequestWatchdog.end(
+                        watch,
+                        response.getStatus(),
+                        timing != null ? timing.getException() : null);
+            }
+        }
+    }
+
+    /**
+     * 비동기 처리 시작 - 최초 디스패치의 afterCompletion 은 호출되지 않으므로 쓰레드 감시를 해제한다.
+     *
+     * <p>비동기 결과 디스패치에서 preHandle 이 다시 호출되어 새로 감시한다.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (slowRequestWatchdog == null) {
+            return;
+        }
+        var watch = (SlowRequestWatchdog.Watch) request.getAttribute(WATCH_ATTRIBUTE);
+        if (watch != null) {
+            request.removeAttribute(WATCH_ATTRIBUTE);
+            slowRequestWatchdog.detach(watch);
+        }
     }
 }
@@ -0,0 +1,205 @@
+package com.dykim.base.interceptor;
+
+import com.dykim.base.advice.common.exception.RateLimitExceededException;
+import com.dykim.base.config.annotation.RateLimit;
+import com.dykim.base.interceptor.plan.HandlerPlan;
+import com.dykim.base.interceptor.plan.PlanAwareInterceptor;
+import com.dykim.base.interceptor.ratelimit.RateLimiter;
+import com.dykim.base.interceptor.ratelimit.SlidingWindowRateLimiter;
+import com.dykim.base.interceptor.ratelimit.TokenBucketRateLimiter;
+import com.dykim.base.interceptor.support.StripedLongTable;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ *
+ *
+ * <h3>RateLimit Interceptor</h3>
+ *
+ * API 호출 허용량 제한 인터셉터
+ *
+ * <pre>
+ *  1. 핸들러메소드 검증
+ *  2. RateLimit 대상 여부
+ *  3. 제한 키 생성 - 핸들러메소드 + 클라이언트 키(SESSION | PRINCIPAL | IP | HEADER)
+ *  4. 허용량 획득 - 알고리즘 별 RateLimiter
+ *  5. 허용 시 X-RateLimit-Limit, X-RateLimit-Remaining 헤더 설정
+ *     거부 시 RateLimitExceededException -> CommonControllerAdvice 에서 429 응답
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 제한 상태는 고정 크기 테이블(lock-striped)에 저장한다.</b>
+ *  - 클라이언트 키가 많아져도 메모리가 늘어나지 않으며, 오래된 키부터 제거된다.
+ *  - 허용량 획득 과정에서 객체를 생성하지 않는다.
+ * </pre>
+ *
+ * @see RateLimit
+ */
+@Slf4j
+@Component
+public class RateLimitInterceptor implements PlanAwareInterceptor {
+
+    public static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    public static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    public static final String HEADER_RESET = "X-RateLimit-Reset";
+
+    private static final int DEFAULT_CAPACITY = 65536;
+    private static final int DEFAULT_STRIPE_COUNT = 64;
+
+    private final RateLimiter tokenBucketRateLimiter;
+    private final RateLimiter slidingWindowRateLimiter;
+
+    /** 기본 용량의 RateLimiter 로 인터셉터를 생성한다. */
+    public RateLimitInterceptor() {
+        this(
+                new TokenBucketRateLimiter(DEFAULT_CAPACITY, DEFAULT_STRIPE_COUNT),
+                new SlidingWindowRateLimiter(DEFAULT_CAPACITY, DEFAULT_STRIPE_COUNT));
+    }
+
+    @Autowired
+    public RateLimitInterceptor(
+            TokenBucketRateLimiter tokenBucketRateLimiter,
+            SlidingWindowRateLimiter slidingWindowRateLimiter) {
+        this.tokenBucketRateLimiter = tokenBucketRateLimiter;
+        this.slidingWindowRateLimiter = slidingWindowRateLimiter;
+    }
+
+    /** 실행 계획 생성 시 RateLimit 대상(유효한 제한 설정)인 핸들러메소드만 포함한다. */
+    @Override
+    public boolean appliesTo(HandlerMethod handlerMethod) {
+        var rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            return false;
+        }
+        if (!isValid(rateLimit)) {
+            log.error(
+                    "Invalid rate limit: {} permits / {} {} (burst: {}). handler({}) is rate"
+                            + " limit pass.",
+                    rateLimit.permits(),
+                    rateLimit.period(),
+                    rateLimit.unit(),
+                    rateLimit.burst(),
+                    handlerMethod.getShortLogMessage());
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        // 1. 핸들러메소드 검증
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        // 2. RateLimit 대상 여부
+        var handlerMethod = (HandlerMethod) handler;
+        var plan = HandlerPlan.from(request);
+        var rateLimit =
+                plan != null
+                        ? plan.getRateLimit()
+                        : handlerMethod.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            return true;
+        }
+        if (!isValid(rateLimit)) {
+            log.error(
+                    "Invalid rate limit: {} permits / {} {} (burst: {}). request(URI: {}) is rate"
+                            + " limit pass.",
+                    rateLimit.permits(),
+                    rateLimit.period(),
+                    rateLimit.unit(),
+                    rateLimit.burst(),
+                    request.getRequestURI());
+            return true;
+        }
+
+        // 3. 제한 키 생성
+        var key =
+                StripedLongTable.hash(
+                        System.identityHashCode(handlerMethod.getMethod()),
+                        StripedLongTable.hash(0, resolveClientKey(request, rateLimit)));
+
+        // 4. 허용량 획득
+        var result =
+                rateLimiterOf(rateLimit)
+                        .tryAcquire(
+                                key,
+                                rateLimit.permits(),
+                                rateLimit.unit().toNanos(rateLimit.period()),
+                                rateLimit.burst(),
+                                System.nanoTime());
+
+        // 5. 응답 헤더 설정
+        if (RateLimiter.isPermitted(result)) {
+            response.setIntHeader(HEADER_LIMIT, rateLimit.permits());
+            response.setHeader(HEADER_REMAINING, Long.toString(result));
+            return true;
+        }
+        var retryAfterNanos = RateLimiter.retryAfterNanos(result);
+        var retryAfterSeconds =
+                Math.max(TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L), 1);
+        log.error(
+                "Api called over rate limit({} permits / {} {}). Retry after {}s",
+                rateLimit.permits(),
+                rateLimit.period(),
+                rateLimit.unit(),
+                retryAfterSeconds);
+        throw new RateLimitExceededException(
+                String.format(
+                        "Api called over rate limit(%d permits / %d %s). Retry after %ds",
+                        rateLimit.permits(),
+                        rateLimit.period(),
+                        rateLimit.unit(),
+                        retryAfterSeconds),
+                rateLimit.permits(),
+                retryAfterSeconds);
+    }
+
+    private RateLimiter rateLimiterOf(RateLimit rateLimit) {
+        return rateLimit.algorithm() == RateLimit.Algorithm.SLIDING_WINDOW
+                ? slidingWindowRateLimiter
+                : tokenBucketRateLimiter;
+    }
+
+    /** 알고리즘 별 제한 설정 검증, 기간(ns)이 long 범위를 넘는 경우 최대값으로 계산된다. */
+    private boolean isValid(RateLimit rateLimit) {
+        return rateLimit.period() > 0
+                && rateLimiterOf(rateLimit)
+                        .isValid(
+                                rateLimit.permits(),
+                                rateLimit.unit().toNanos(rateLimit.period()),
+                                rateLimit.burst());
+    }
+
+    /** 클라이언트 키 조회, 값이 없는 경우 IP 로 대체한다. */
+    private static String resolveClientKey(HttpServletRequest request, RateLimit rateLimit) {
+        String clientKey = null;
+        switch (rateLimit.key()) {
+            case SESSION:
+                var session = request.getSession(false);
+                clientKey = session != null ? session.getId() : null;
+                break;
+            case PRINCIPAL:
+                var principal = request.getUserPrincipal();
+                clientKey = principal != null ? principal.getName() : null;
+                break;
+            case HEADER:
+                clientKey = request.getHeader(rateLimit.header());
+                break;
+            case IP:
+            default:
+                break;
+        }
+        return clientKey != null ? clientKey : request.getRemoteAddr();
+    }
+}
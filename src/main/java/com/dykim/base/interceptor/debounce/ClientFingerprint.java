@@ -0,0 +1,42 @@
+package com.dykim.base.interceptor.debounce;
+
+import com.dykim.base.interceptor.support.StripedLongTable;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+/**
+ *
+ *
+ * <h3>Client Fingerprint</h3>
+ *
+ * 세션 없이 클라이언트를 식별하는 64bit 해시 값
+ *
+ * <pre>
+ *  - IP_USER_AGENT: 요청 IP + User-Agent 해시
+ *  - HEADER: 지정한 헤더 값 해시, 헤더가 없는 경우 IP_USER_AGENT 로 대체한다.
+ *  - 노드와 무관한 값이므로 어느 노드에서 계산해도 같은 클라이언트는 같은 값을 갖는다.
+ * </pre>
+ *
+ * @see SessionlessDebounceStore
+ * @see JdbcDebounceStore
+ */
+@RequiredArgsConstructor
+public class ClientFingerprint {
+
+    private final SessionlessDebounceStore.Fingerprint fingerprint;
+    private final String header;
+
+    /** 요청의 클라이언트 식별값 */
+    public long of(HttpServletRequest request) {
+        if (fingerprint == SessionlessDebounceStore.Fingerprint.HEADER) {
+            var headerValue = request.getHeader(header);
+            if (StringUtils.hasText(headerValue)) {
+                return StripedLongTable.hash(0, headerValue);
+            }
+        }
+        var ipHash = StripedLongTable.hash(0, request.getRemoteAddr());
+        return StripedLongTable.hash(ipHash, request.getHeader(HttpHeaders.USER_AGENT));
+    }
+}
@@ -0,0 +1,188 @@
+package com.dykim.base.interceptor.debounce;
+
+import com.dykim.base.interceptor.support.HierarchicalTimingWheel;
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.http.HttpSession;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.WebUtils;
+
+/**
+ *
+ *
+ * <h3>Debounce State</h3>
+ *
+ * 세션 별 API 최종 호출시간 저장소
+ *
+ * <pre>
+ *  - API 별 최종 호출시간을 AtomicLong 으로 관리하며, CAS 로 갱신한다.
+ *  - 세션 단위로 생성되기 때문에 다른 세션의 요청과 경합하지 않는다.
+ *  - 최초 생성만 세션 뮤텍스로 동기화하며, 이후 조회/갱신은 락 없이 동작한다.
+ *    ㄴ 전역 모니터(JVM 단위 락)를 사용하지 않으므로 로그인 폭주 상황에서도 세션 간 대기가 없다.
+ *  - 세션 당 키 수를 제한(maxEntries)하며, 초과 시 최종 호출시간이 가장 오래된 키를 제거한다.(LRU)
+ *  - 타이밍 휠이 주어진 경우 디바운스 시간이 지난 키를 만료시켜 세션 만료 전에 제거한다.
+ * </pre>
+ *
+ * <pre>
+ * 세션 데이터 양식
+ * 요청한 세션: {
+ *     api-call-debounce-state: {
+ *         route1: AtomicLong(last call time Millis),
+ *         route2: AtomicLong(last call time Millis),
+ *         ...
+ *     }
+ * }
+ * </pre>
+ */
+public class DebounceState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final String SESSION_ATTRIBUTE = "api-call-debounce-state";
+
+    /** 세션 당 기본 최대 키 수 */
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private static final long NEVER_CALLED = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<String, AtomicLong> lastCallTimeMap = new ConcurrentHashMap<>();
+
+    /**
+     *
+     *
+     * <h3>세션의 Debounce State 조회</h3>
+     *
+     * 없는 경우 세션 뮤텍스 기준으로 한번만 생성한다.
+     *
+     * @param session 요청 세션
+     * @return 세션에 저장된 DebounceState
+     */
+    public static DebounceState from(HttpSession session) {
+        var state = session.getAttribute(SESSION_ATTRIBUTE);
+        if (state instanceof DebounceState) {
+            return (DebounceState) state;
+        }
+        // 세션 단위 뮤텍스로 동기화하므로 다른 세션의 최초 호출과 경합하지 않는다.
+        synchronized (WebUtils.getSessionMutex(session)) {
+            state = session.getAttribute(SESSION_ATTRIBUTE);
+            if (!(state instanceof DebounceState)) {
+                state = new DebounceState();
+                session.setAttribute(SESSION_ATTRIBUTE, state);
+            }
+            return (DebounceState) state;
+        }
+    }
+
+    /**
+     *
+     *
+     * <h3>디바운스 획득</h3>
+     *
+     * 최종 호출시간을 원자적으로 갱신하고, 이전 호출시간 기준으로 디바운싱 여부를 판단한다.
+     *
+     * @param key API 키
+     * @param debounceMillis 디바운스 시간(ms)
+     * @param currentTimeMillis 현재 시간(ms)
+     * @return 0 인 경우 호출 허용, 양수인 경우 디바운스 잔여시간(ms)
+     */
+    public long tryAcquire(String key, long debounceMillis, long currentTimeMillis) {
+        return tryAcquire(key, debounceMillis, currentTimeMillis, DEFAULT_MAX_ENTRIES, null);
+    }
+
+    /**
+     *
+     *
+     * <h3>디바운스 획득 - 키 수 제한, 만료 예약</h3>
+     *
+     * @param key API 키
+     * @param debounceMillis 디바운스 시간(ms)
+     * @param currentTimeMillis 현재 시간(ms)
+     * @param maxEntries 세션 당 최대 키 수
+     * @param timingWheel 만료 예약용 타이밍 휠, null 인 경우 세션 만료 시 함께 제거된다.
+     * @return 0 인 경우 호출 허용, 양수인 경우 디바운스 잔여시간(ms)
+     */
+    public long tryAcquire(
+            String key,
+            long debounceMillis,
+            long currentTimeMillis,
+            int maxEntries,
+            @Nullable HierarchicalTimingWheel timingWheel) {
+        var lastCallTime = lastCallTimeMap.get(key);
+        if (lastCallTime == null) {
+            var created = new AtomicLong(NEVER_CALLED);
+            lastCallTime = lastCallTimeMap.putIfAbsent(key, created);
+            if (lastCallTime == null) {
+                lastCallTime = created;
+                evictOverflow(maxEntries, key);
+                if (timingWheel != null) {
+                    scheduleExpiry(timingWheel, key, created, debounceMillis, currentTimeMillis);
+                }
+            }
+        }
+        // 병렬 요청 간 시간 역전이 있더라도 최종 호출시간은 뒤로 가지 않는다.
+        var lastCallTimeMillis = lastCallTime.getAndAccumulate(currentTimeMillis, Math::max);
+        if (lastCallTimeMillis == NEVER_CALLED
+                || lastCallTimeMillis + debounceMillis <= currentTimeMillis) {
+            return 0;
+        }
+        return lastCallTimeMillis + debounceMillis - currentTimeMillis;
+    }
+
+    /** 현재 키 수 */
+    public int size() {
+        return lastCallTimeMap.size();
+    }
+
+    /** 키 수 초과 시 최종 호출시간이 가장 오래된 키를 제거한다. 초과한 경우에만 순회한다. */
+    private void evictOverflow(int maxEntries, String addedKey) {
+        while (lastCallTimeMap.size() > maxEntries) {
+            String oldestKey = null;
+            AtomicLong oldest = null;
+            for (var entry : lastCallTimeMap.entrySet()) {
+                if (entry.getKey().equals(addedKey)) {
+                    continue;
+                }
+                if (oldest == null || entry.getValue().get() < oldest.get()) {
+                    oldestKey = entry.getKey();
+                    oldest = entry.getValue();
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            lastCallTimeMap.remove(oldestKey, oldest);
+        }
+    }
+
+    /**
+     * 디바운스 시간이 지난 시점에 만료를 확인한다.
+     *
+     * <pre>
+     *  - 그 사이 재호출되어 최종 호출시간이 바뀐 경우, 바뀐 시간 기준으로 다시 예약한다.
+     *  - 호출마다 예약하지 않고 키 당 하나의 예약만 유지한다.
+     * </pre>
+     */
+    private void scheduleExpiry(
+            HierarchicalTimingWheel timingWheel,
+            String key,
+            AtomicLong lastCallTime,
+            long debounceMillis,
+            long currentTimeMillis) {
+        timingWheel.schedule(
+                currentTimeMillis + debounceMillis,
+                () -> {
+                    var deadlineMillis = lastCallTime.get() + debounceMillis;
+                    if (deadlineMillis <= System.currentTimeMillis()) {
+                        lastCallTimeMap.remove(key, lastCallTime);
+                    } else {
+                        scheduleExpiry(
+                                timingWheel,
+                                key,
+                                lastCallTime,
+                                debounceMillis,
+                                deadlineMillis - debounceMillis);
+                    }
+                });
+    }
+}
@@ -0,0 +1,45 @@
+package com.dykim.base.interceptor.debounce;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ *
+ *
+ * <h3>Debounce Store</h3>
+ *
+ * API 최종 호출시간 저장소 SPI
+ *
+ * <pre>
+ *  - {@link SessionDebounceStore}: 세션 저장소(기본값), 단일 노드 기준으로 동작한다.
+ *  - {@link JdbcDebounceStore}: DB 공유 저장소, 여러 노드가 같은 디바운스 상태를 공유한다.
+ *    ㄴ 노드 별 세션이 아닌 인증 사용자 또는 클라이언트 식별값으로 디바운싱하므로 세션이 필요 없다.
+ *  - base.debounce.store 프로퍼티로 선택한다. (session | jdbc)
+ * </pre>
+ */
+public interface DebounceStore {
+
+    /**
+     * 요청 세션이 필요한 저장소 여부
+     *
+     * <p>true 인 경우 세션이 있는 요청만 {@link #tryAcquire} 로 전달된다.
+     */
+    default boolean requiresSession() {
+        return true;
+    }
+
+    /**
+     *
+     *
+     * <h3>디바운스 획득</h3>
+     *
+     * 클라이언트의 API 호출을 기록하고 디바운싱 여부를 판단한다.
+     *
+     * @param request 요청
+     * @param key API 키
+     * @param debounceMillis 디바운스 시간(ms)
+     * @param currentTimeMillis 현재 시간(ms)
+     * @return 0 인 경우 호출 허용, 양수인 경우 디바운스 잔여시간(ms)
+     */
+    long tryAcquire(
+            HttpServletRequest request, String key, long debounceMillis, long currentTimeMillis);
+}
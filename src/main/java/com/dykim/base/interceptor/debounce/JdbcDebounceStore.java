@@ -0,0 +1,129 @@
+package com.dykim.base.interceptor.debounce;
+
+import com.dykim.base.entity.debounce.ApiDebounce;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ *
+ *
+ * <h3>Jdbc Debounce Store</h3>
+ *
+ * DB 공유 저장소. 로드밸런서가 세션을 고정하지 않는 경우에도 모든 노드가 같은 디바운스 상태를 사용한다.
+ *
+ * <pre>
+ *  0. 클라이언트 식별 - 노드 별 세션ID 대신 노드와 무관한 값을 사용하며, 세션이 없는 요청도 디바운싱한다.
+ *   - 인증 사용자: 사용자 이름(Principal)
+ *   - 미인증 요청: 클라이언트 식별값({@link ClientFingerprint}), base.debounce.sessionless 설정을 따른다.
+ *  1. 디바운스 획득 - 요청 당 1회 통신
+ *   - INSERT ... ON DUPLICATE KEY UPDATE 단일 쿼리로 조건부 삽입/갱신한다.
+ *   - 만료된 경우에만 행이 변경되므로 영향받은 행 수로 통과 여부를 판단한다.
+ *     ㄴ 1: 최초 호출(삽입), 2: 만료 후 호출(갱신), 0: 디바운스 시간 내 호출(변경 없음)
+ *  2. 만료 행 정리 - base.debounce.jdbc.cleanup-interval-millis 주기로 배치 삭제
+ * </pre>
+ *
+ * <pre>
+ * <b>참고1) 세션 저장소와 달리 차단된 호출은 최종 호출시간을 갱신하지 않는다.</b>
+ *  - 통과한 호출 기준으로 디바운스 시간동안 차단한다.
+ *  - 잔여시간 조회를 위해 추가 통신하지 않으므로, 차단 시 잔여시간은 디바운스 시간(최대값)으로 응답한다.
+ * <b>참고2) MySQL, MariaDB 는 변경 없는 행을 0 으로 받기 위해 useAffectedRows=true 로 연결해야 한다.</b>
+ * </pre>
+ *
+ * @see ApiDebounce
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JdbcDebounceStore implements DebounceStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO api_debounce (debounce_key, last_call_millis, expire_millis)"
+                    + " VALUES (?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE"
+                    + " last_call_millis ="
+                    + " CASE WHEN expire_millis <= ? THEN ? ELSE last_call_millis END,"
+                    + " expire_millis ="
+                    + " CASE WHEN expire_millis <= ? THEN ? ELSE expire_millis END";
+
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM api_debounce WHERE expire_millis <= ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int cleanupBatchSize;
+
+    private final ClientFingerprint clientFingerprint;
+
+    /** 세션 없이 인증 사용자 또는 클라이언트 식별값으로 디바운싱한다. */
+    @Override
+    public boolean requiresSession() {
+        return false;
+    }
+
+    @Override
+    public long tryAcquire(
+            HttpServletRequest request, String key, long debounceMillis, long currentTimeMillis) {
+        var expireMillis = currentTimeMillis + debounceMillis;
+        var affectedRows =
+                jdbcTemplate.update(
+                        ACQUIRE_SQL,
+                        toDebounceKey(clientKey(request), key),
+                        currentTimeMillis,
+                        expireMillis,
+                        currentTimeMillis,
+                        currentTimeMillis,
+                        currentTimeMillis,
+                        expireMillis);
+        return affectedRows > 0 ? 0 : debounceMillis;
+    }
+
+    /**
+     *
+     *
+     * <h3>만료 행 배치 삭제</h3>
+     *
+     * 한번에 많은 행을 잠그지 않도록 cleanupBatchSize 단위로 나누어 삭제한다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Scheduled(
+            fixedDelayString = "${base.debounce.jdbc.cleanup-interval-millis:60000}",
+            initialDelayString = "${base.debounce.jdbc.cleanup-interval-millis:60000}")
+    public int deleteExpired() {
+        var currentTimeMillis = System.currentTimeMillis();
+        var totalDeleted = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, currentTimeMillis, cleanupBatchSize);
+            totalDeleted += deleted;
+        } while (deleted >= cleanupBatchSize);
+        if (totalDeleted > 0) {
+            log.debug("Expired debounce rows deleted: {}", totalDeleted);
+        }
+        return totalDeleted;
+    }
+
+    /** 클라이언트 키 - 인증 사용자는 u:사용자 이름, 미인증 요청은 c:클라이언트 식별값 */
+    private String clientKey(HttpServletRequest request) {
+        var principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "u:" + principal.getName();
+        }
+        return "c:" + Long.toHexString(clientFingerprint.of(request));
+    }
+
+    /** 클라이언트:API 형식으로 키를 만들며, 컬럼 길이를 넘는 경우 해시로 대체한다. */
+    private static String toDebounceKey(String clientKey, String key) {
+        var debounceKey = clientKey + ":" + key;
+        if (debounceKey.length() <= MAX_KEY_LENGTH) {
+            return debounceKey;
+        }
+        return Hashing.sha256().hashString(debounceKey, StandardCharsets.UTF_8).toString();
+    }
+}
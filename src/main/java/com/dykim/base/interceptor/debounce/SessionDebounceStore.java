@@ -0,0 +1,40 @@
+package com.dykim.base.interceptor.debounce;
+
+import com.dykim.base.interceptor.support.HierarchicalTimingWheel;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>Session Debounce Store</h3>
+ *
+ * 세션 속성({@link DebounceState})에 최종 호출시간을 저장한다.
+ *
+ * <pre>
+ *  - 세션 당 키 수는 maxEntries 로 제한된다.(LRU)
+ *  - 타이밍 휠로 디바운스 시간이 지난 키를 만료시킨다.
+ * </pre>
+ *
+ * <p><b>참고) 세션이 노드 단위로 관리되는 경우, 다른 노드로 요청하면 디바운스가 적용되지 않는다.</b>
+ */
+@RequiredArgsConstructor
+public class SessionDebounceStore implements DebounceStore {
+
+    private final int maxEntries;
+
+    @Nullable private final HierarchicalTimingWheel timingWheel;
+
+    /** 기본 키 수 제한, 만료 예약 없이 생성한다. */
+    public SessionDebounceStore() {
+        this(DebounceState.DEFAULT_MAX_ENTRIES, null);
+    }
+
+    @Override
+    public long tryAcquire(
+            HttpServletRequest request, String key, long debounceMillis, long currentTimeMillis) {
+        return DebounceState.from(request.getSession(false))
+                .tryAcquire(key, debounceMillis, currentTimeMillis, maxEntries, timingWheel);
+    }
+}
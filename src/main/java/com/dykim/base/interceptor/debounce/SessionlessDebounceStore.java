@@ -0,0 +1,97 @@
+package com.dykim.base.interceptor.debounce;
+
+import com.dykim.base.interceptor.support.StripedLongTable;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ *
+ *
+ * <h3>Sessionless Debounce Store</h3>
+ *
+ * 세션이 없는 요청(쿠키를 유지하지 않는 클라이언트)의 디바운스 저장소
+ *
+ * <pre>
+ *  1. 클라이언트 식별값({@link ClientFingerprint}) 생성
+ *   - IP_USER_AGENT: 요청 IP + User-Agent 해시(기본값)
+ *   - HEADER: 지정한 헤더 값, 헤더가 없는 경우 IP_USER_AGENT 로 대체한다.
+ *  2. API 키 + 식별값 해시로 고정 크기 테이블({@link StripedLongTable})에서 최종 호출시간 조회/갱신
+ *   - 원시 long 배열에 저장하므로 요청 당 객체를 생성하지 않으며, 세션을 만들지 않는다.
+ *   - ttlMillis 이전에 호출된 항목은 빈 슬롯으로 취급되어 재사용된다.
+ *   - 테이블이 가득 찬 경우 가장 오래전에 호출된 항목을 제거한다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 디바운스 시간이 ttlMillis 보다 긴 API 는 ttlMillis 만큼만 디바운싱될 수 있다.</b>
+ * <b>해시 충돌 시 다른 클라이언트와 디바운스 상태를 공유할 수 있다.(64bit 해시로 확률은 매우 낮음)</b>
+ * </pre>
+ */
+public class SessionlessDebounceStore {
+
+    /** 클라이언트 식별 방식 */
+    public enum Fingerprint {
+        IP_USER_AGENT,
+        HEADER
+    }
+
+    private static final int LAST_CALL_TIME = 0;
+
+    private final StripedLongTable table;
+    private final long ttlMillis;
+    private final ClientFingerprint clientFingerprint;
+
+    /**
+     * @param capacity 최대 추적 항목 수(API x 클라이언트)
+     * @param stripes 락 분할 수
+     * @param ttlMillis 항목 유지 시간(ms), 가장 긴 디바운스 시간 이상으로 설정한다.
+     * @param fingerprint 클라이언트 식별 방식
+     * @param header HEADER 방식의 헤더 이름
+     */
+    public SessionlessDebounceStore(
+            int capacity, int stripes, long ttlMillis, Fingerprint fingerprint, String header) {
+        this.table = new StripedLongTable(capacity, stripes, 1);
+        this.ttlMillis = ttlMillis;
+        this.clientFingerprint = new ClientFingerprint(fingerprint, header);
+    }
+
+    /**
+     *
+     *
+     * <h3>디바운스 획득</h3>
+     *
+     * @param request 요청
+     * @param key API 키
+     * @param debounceMillis 디바운스 시간(ms)
+     * @param currentTimeMillis 현재 시간(ms)
+     * @return 0 인 경우 호출 허용, 양수인 경우 디바운스 잔여시간(ms)
+     */
+    public long tryAcquire(
+            HttpServletRequest request, String key, long debounceMillis, long currentTimeMillis) {
+        var tableKey =
+                StripedLongTable.hash(StripedLongTable.hash(0, key), clientFingerprint.of(request));
+        var expiresAt = currentTimeMillis + Math.max(ttlMillis, debounceMillis);
+        var stripe = table.stripe(tableKey);
+        synchronized (stripe) {
+            var slot = stripe.acquireSlot(tableKey, currentTimeMillis, expiresAt);
+            if (StripedLongTable.isNewSlot(slot)) {
+                stripe.set(StripedLongTable.toSlot(slot), LAST_CALL_TIME, currentTimeMillis);
+                return 0;
+            }
+            var lastCallTimeMillis = stripe.get(slot, LAST_CALL_TIME);
+            stripe.set(slot, LAST_CALL_TIME, Math.max(lastCallTimeMillis, currentTimeMillis));
+            if (lastCallTimeMillis + debounceMillis <= currentTimeMillis) {
+                return 0;
+            }
+            return lastCallTimeMillis + debounceMillis - currentTimeMillis;
+        }
+    }
+
+    /** 추적중인 항목 수(근사치) */
+    public int size() {
+        return table.size();
+    }
+
+    /** 누적 제거(evict) 수(근사치) */
+    public long evictionCount() {
+        return table.evictionCount();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dykim.base.interceptor.idempotency;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *
+ *
+ * <h3>Idempotency Store</h3>
+ *
+ * 멱등 키 별 최초 응답 저장소
+ *
+ * <pre>
+ *  - 처리중: 선점한 키는 제거되지 않는 별도 맵에 둔다.
+ *    ㄴ 느린 핸들러 실행 중 크기, TTL 로 제거되어 같은 키가 다시 실행되는 경우를 막는다.
+ *    ㄴ 처리중인 키 수는 동시에 처리중인 요청 수로 제한된다.
+ *  - 저장됨: 최대 건수(maximumSize)를 넘으면 오래된 키부터 제거한다.
+ *    ㄴ 저장 후 TTL 이 지나면 제거되며, 이후 같은 키의 요청은 새 요청으로 처리된다.
+ *  - 키 선점은 putIfAbsent 로 원자적으로 처리하여 같은 키가 동시에 실행되지 않는다.
+ * </pre>
+ */
+public class IdempotencyStore {
+
+    private final ConcurrentMap<String, IdempotentResponse> inProgress =
+            new ConcurrentHashMap<>();
+    private final Cache<String, IdempotentResponse> cache;
+
+    /**
+     * @param maximumSize 최대 저장 건수
+     * @param ttl 저장 유지 시간
+     */
+    public IdempotencyStore(long maximumSize, Duration ttl) {
+        this.cache =
+                CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+    }
+
+    /**
+     *
+     *
+     * <h3>키 선점</h3>
+     *
+     * @param key 멱등 키
+     * @param fingerprint 요청 본문 지문, 없는 경우 null
+     * @return 선점한 경우 새 응답 객체, 이미 선점 또는 저장된 경우 null
+     */
+    public IdempotentResponse claim(String key, String fingerprint) {
+        if (cache.getIfPresent(key) != null) {
+            return null;
+        }
+        var response = new IdempotentResponse(key, fingerprint);
+        if (inProgress.putIfAbsent(key, response) != null) {
+            return null;
+        }
+        // 저장 여부 확인 ~ 선점 사이에 다른 요청이 완료된 경우 선점을 되돌린다.
+        if (cache.getIfPresent(key) != null) {
+            inProgress.remove(key, response);
+            return null;
+        }
+        return response;
+    }
+
+    /**
+     * 키의 현재 응답 객체 조회
+     *
+     * @return 처리중 또는 저장된 응답, 없는 경우 null
+     */
+    public IdempotentResponse get(String key) {
+        var response = inProgress.get(key);
+        return response != null ? response : cache.getIfPresent(key);
+    }
+
+    /** 최초 응답을 저장한다. TTL 은 저장 시점부터 계산된다. */
+    public void complete(IdempotentResponse response, int status, String contentType, byte[] body) {
+        response.store(status, contentType, body);
+        cache.put(response.getKey(), response);
+        inProgress.remove(response.getKey(), response);
+    }
+
+    /** 선점을 해제하고 대기중인 요청을 깨운다. */
+    public void abandon(IdempotentResponse response) {
+        inProgress.remove(response.getKey(), response);
+        response.abandon();
+    }
+
+    /** 저장 건수(근사치) */
+    public long size() {
+        return cache.size();
+    }
+}
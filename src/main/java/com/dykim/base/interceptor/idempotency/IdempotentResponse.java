@@ -0,0 +1,70 @@
+package com.dykim.base.interceptor.idempotency;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+/**
+ *
+ *
+ * <h3>Idempotent Response</h3>
+ *
+ * 멱등 키 별 처리 상태와 최초 응답
+ *
+ * <pre>
+ *  - 처리중: 최초 요청이 키를 선점한 상태, 재시도 요청은 완료(또는 포기)까지 대기한다.
+ *  - 저장됨: 상태코드, 콘텐츠 타입, 응답 바이트가 저장된 상태
+ *  - 포기됨: 최초 요청이 저장 불가한 결과(2xx 외 응답, 미처리 예외)로 끝난 상태, 대기중인 요청이 다시 선점한다.
+ *  - 지문: 최초 요청 본문의 해시, 같은 키로 다른 본문을 보낸 재시도를 구분한다.
+ * </pre>
+ */
+public class IdempotentResponse {
+
+    @Getter private final String key;
+    @Getter private final String fingerprint;
+
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    @Getter private volatile boolean stored;
+    @Getter private volatile int status;
+    @Getter private volatile String contentType;
+    private volatile byte[] body;
+
+    IdempotentResponse(String key, String fingerprint) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+    }
+
+    /** 지문이 없는 경우(본문을 읽을 수 없는 요청) 일치하는 것으로 본다. */
+    public boolean matches(String fingerprint) {
+        return this.fingerprint == null
+                || fingerprint == null
+                || this.fingerprint.equals(fingerprint);
+    }
+
+    /** 저장된 응답 바이트(복사하지 않으므로 변경하지 않는다.) */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * 처리 완료(저장 또는 포기)까지 대기한다.
+     *
+     * @return 대기시간 내 완료 여부
+     */
+    public boolean await(long timeoutMillis) throws InterruptedException {
+        return done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void store(int status, String contentType, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.stored = true;
+        done.countDown();
+    }
+
+    void abandon() {
+        done.countDown();
+    }
+}
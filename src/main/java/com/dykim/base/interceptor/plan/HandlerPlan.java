@@ -0,0 +1,105 @@
+package com.dykim.base.interceptor.plan;
+
+import com.dykim.base.config.annotation.Debounce;
+import com.dykim.base.config.annotation.Idempotent;
+import com.dykim.base.config.annotation.RateLimit;
+import com.dykim.base.config.annotation.SqlBudget;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ *
+ *
+ * <h3>Handler Plan</h3>
+ *
+ * 핸들러메소드 별 인터셉터 실행 계획(불변)
+ *
+ * <pre>
+ *  - 적용할 인터셉터 목록(등록 순서)
+ *  - 인터셉터가 사용하는 어노테이션(@Debounce, @RateLimit, @Idempotent, @SqlBudget)
+ *  - 라우트 템플릿(예: /api/member/v1/{mbrId})
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 실행 중 요청 속성({@link #ATTRIBUTE})으로 전달되며, 인터셉터는 계획이 없는 경우
+ * 기존과 같이 핸들러메소드에서 직접 어노테이션을 조회한다.(단독 등록 테스트 등)</b>
+ * </pre>
+ *
+ * @see PlannedInterceptorChain
+ */
+@Getter
+public final class HandlerPlan {
+
+    public static final String ATTRIBUTE = HandlerPlan.class.getName();
+
+    public static final String UNMAPPED_ROUTE = "UNMAPPED";
+
+    private final Method method;
+
+    private final String routeTemplate;
+
+    @Nullable private final Debounce debounce;
+
+    @Nullable private final RateLimit rateLimit;
+
+    private final boolean idempotent;
+
+    @Nullable private final SqlBudget sqlBudget;
+
+    @Getter(AccessLevel.NONE)
+    private final HandlerInterceptor[] interceptors;
+
+    HandlerPlan(
+            HandlerMethod handlerMethod, String routeTemplate, HandlerInterceptor[] interceptors) {
+        this.method = handlerMethod.getMethod();
+        this.routeTemplate = routeTemplate;
+        this.debounce = handlerMethod.getMethodAnnotation(Debounce.class);
+        this.rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+        this.idempotent = handlerMethod.hasMethodAnnotation(Idempotent.class);
+        this.sqlBudget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+        this.interceptors = interceptors;
+    }
+
+    /**
+     * 현재 요청의 실행 계획 조회
+     *
+     * @return 실행 계획, 계획 없이 실행중인 경우 null
+     */
+    @Nullable
+    public static HandlerPlan from(HttpServletRequest request) {
+        return (HandlerPlan) request.getAttribute(ATTRIBUTE);
+    }
+
+    /**
+     * 현재 요청의 라우트 템플릿 조회
+     *
+     * @return 실행 계획의 라우트 템플릿, 계획이 없는 경우 매칭된 패턴, 둘 다 없는 경우 UNMAPPED
+     *     (요청 URI 를 사용하지 않아 경로변수 값에 따라 키가 늘어나지 않는다.)
+     */
+    public static String resolveRouteTemplate(HttpServletRequest request) {
+        var plan = from(request);
+        if (plan != null) {
+            return plan.routeTemplate;
+        }
+        var bestMatchingPattern =
+                request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return bestMatchingPattern != null ? bestMatchingPattern.toString() : UNMAPPED_ROUTE;
+    }
+
+    /** 적용할 인터셉터 목록 */
+    public List<HandlerInterceptor> getInterceptors() {
+        return Arrays.asList(interceptors.clone());
+    }
+
+    HandlerInterceptor[] interceptors() {
+        return interceptors;
+    }
+}
@@ -0,0 +1,26 @@
+package com.dykim.base.interceptor.plan;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ *
+ *
+ * <h3>Plan Aware Interceptor</h3>
+ *
+ * 핸들러메소드 별 적용 여부를 기동 시점에 판단할 수 있는 인터셉터
+ *
+ * <pre>
+ *  - {@link PlannedInterceptorChain} 이 실행 계획을 만들 때 한번만 호출한다.
+ *  - false 인 경우 해당 핸들러메소드 요청에서는 인터셉터를 호출하지 않는다.
+ *    ㄴ 예) 어노테이션 기반 인터셉터는 어노테이션이 없는 핸들러메소드에서 제외한다.
+ * </pre>
+ */
+public interface PlanAwareInterceptor extends HandlerInterceptor {
+
+    /**
+     * @param handlerMethod 핸들러메소드
+     * @return 인터셉터 적용 여부
+     */
+    boolean appliesTo(HandlerMethod handlerMethod);
+}
@@ -0,0 +1,321 @@
+package com.dykim.base.interceptor.plan;
+
+import com.dykim.base.metrics.ServerTiming;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ *
+ *
+ * <h3>Planned Interceptor Chain</h3>
+ *
+ * 등록된 인터셉터를 핸들러메소드 별 실행 계획에 따라 호출하는 단일 인터셉터
+ *
+ * <pre>
+ *  1. 기동 시점 - {@link #compile} 에서 모든 핸들러메소드의 실행 계획을 만든다.
+ *   - 라우트 템플릿과 경로 패턴 매칭(AntPathMatcher)
+ *   - {@link PlanAwareInterceptor} 적용 여부 판단
+ *   - 어노테이션 조회
+ *  2. 요청 시점 - 핸들러메소드로 실행 계획을 조회(맵 조회 1회)하여 계획된 인터셉터만 호출한다.
+ *   - 실행 계획은 요청 속성({@link HandlerPlan#ATTRIBUTE})으로 인터셉터에 전달된다.
+ *   - 핸들러메소드가 아닌 핸들러(정적 리소스 등)는 요청 경로로 매칭한다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 인터셉터 호출 순서와 afterCompletion 보장 범위는 HandlerExecutionChain 과 같다.</b>
+ *  - preHandle: 등록 순서, postHandle / afterCompletion: 역순
+ *  - preHandle 이 false 또는 예외인 경우, 이전에 통과한 인터셉터의 afterCompletion 만 호출한다.
+ *    ㄴ 예외인 경우 요청 완료 콜백으로 미뤄, 컨트롤러어드바이스가 응답 상태를 정한 이후 호출된다.
+ *    ㄴ 단, 컨트롤러어드바이스가 처리한 예외도 ex 인자로 그대로 전달된다.
+ * </pre>
+ */
+@Slf4j
+public class PlannedInterceptorChain implements AsyncHandlerInterceptor {
+
+    private static final String ATTRIBUTE_EXECUTION =
+            PlannedInterceptorChain.class.getName() + ".execution";
+    private static final String CALLBACK_AFTER_COMPLETION =
+            PlannedInterceptorChain.class.getName() + ".afterCompletion";
+
+    private static final HandlerInterceptor[] EMPTY = new HandlerInterceptor[0];
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    private final List<Step> steps = new ArrayList<>();
+    private final Map<Method, HandlerPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 인터셉터 추가(등록 순서대로 실행)
+     *
+     * @param interceptor 인터셉터
+     * @param includePatterns 적용 경로 패턴, 없는 경우 모든 경로
+     * @return this
+     */
+    public PlannedInterceptorChain add(HandlerInterceptor interceptor, String... includePatterns) {
+        steps.add(new Step(interceptor, includePatterns));
+        return this;
+    }
+
+    /**
+     *
+     *
+     * <h3>실행 계획 생성</h3>
+     *
+     * @param handlerMethods RequestMappingHandlerMapping 의 핸들러메소드 목록
+     * @return 생성된 실행 계획 수
+     */
+    public int compile(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        handlerMethods.forEach(
+                (mappingInfo, handlerMethod) ->
+                        plans.put(
+                                handlerMethod.getMethod(),
+                                plan(handlerMethod, mappingInfo.getPatternValues())));
+        log.info("Interceptor plans compiled. handler methods: {}", plans.size());
+        return plans.size();
+    }
+
+    /**
+     * 핸들러메소드의 실행 계획 조회
+     *
+     * @return 실행 계획, 계획이 없는 경우 null
+     */
+    @Nullable
+    public HandlerPlan getPlan(Method method) {
+        return plans.get(method);
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler)
+            throws Exception {
+        // Server-Timing 대상 요청만 인터셉터 별 preHandle 시간을 측정한다.
+        var serverTiming = ServerTiming.from(request);
+        if (serverTiming != null) {
+            serverTiming.markInterceptorsStart();
+        }
+        HandlerInterceptor[] interceptors;
+        if (handler instanceof HandlerMethod) {
+            var plan = resolvePlan((HandlerMethod) handler, request);
+            request.setAttribute(HandlerPlan.ATTRIBUTE, plan);
+            interceptors = plan.interceptors();
+        } else {
+            interceptors = matchByPath(request);
+        }
+        if (interceptors.length == 0) {
+            return true;
+        }
+
+        var execution = new Execution(interceptors);
+        for (int i = 0; i < interceptors.length; i++) {
+            boolean proceed;
+            var startNanos = serverTiming != null ? System.nanoTime() : 0L;
+            try {
+                proceed = interceptors[i].preHandle(request, response, handler);
+            } catch (Exception e) {
+                deferAfterCompletion(execution, request, response, handler, e);
+                throw e;
+            } finally {
+                if (serverTiming != null) {
+                    serverTiming.addInterceptor(interceptors[i], System.nanoTime() - startNanos);
+                }
+            }
+            if (!proceed) {
+                execution.triggerAfterCompletion(request, response, handler, null);
+                return false;
+            }
+            execution.interceptorIndex = i;
+        }
+        request.setAttribute(ATTRIBUTE_EXECUTION, execution);
+        return true;
+    }
+
+    @Override
+    public void postHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            @Nullable ModelAndView modelAndView)
+            throws Exception {
+        var execution = (Execution) request.getAttribute(ATTRIBUTE_EXECUTION);
+        if (execution == null) {
+            return;
+        }
+        for (int i = execution.interceptors.length - 1; i >= 0; i--) {
+            execution.interceptors[i].postHandle(request, response, handler, modelAndView);
+        }
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            @Nullable Exception ex) {
+        var execution = (Execution) request.getAttribute(ATTRIBUTE_EXECUTION);
+        if (execution != null) {
+            execution.triggerAfterCompletion(request, response, handler, ex);
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        var execution = (Execution) request.getAttribute(ATTRIBUTE_EXECUTION);
+        if (execution == null) {
+            return;
+        }
+        for (int i = execution.interceptors.length - 1; i >= 0; i--) {
+            if (execution.interceptors[i] instanceof AsyncHandlerInterceptor) {
+                try {
+                    ((AsyncHandlerInterceptor) execution.interceptors[i])
+                            .afterConcurrentHandlingStarted(request, response, handler);
+                } catch (Throwable e) {
+                    log.error("Interceptor.afterConcurrentHandlingStarted threw exception", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * preHandle 예외 시 이전에 통과한 인터셉터의 afterCompletion 을 요청 완료 시점으로 미룬다.
+     *
+     * <p>DispatcherServlet 은 예외를 던진 인터셉터(이 체인)의 afterCompletion 을 호출하지 않으므로, 요청
+     * 완료 콜백(FrameworkServlet 의 요청 처리 종료 시점)에 등록한다.
+     */
+    private static void deferAfterCompletion(
+            Execution execution,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex) {
+        if (execution.interceptorIndex < 0) {
+            return;
+        }
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            execution.triggerAfterCompletion(request, response, handler, ex);
+            return;
+        }
+        requestAttributes.registerDestructionCallback(
+                CALLBACK_AFTER_COMPLETION,
+                () -> execution.triggerAfterCompletion(request, response, handler, ex),
+                RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /** 기동 이후 등록된 핸들러메소드는 요청 시점에 계획을 만들어 재사용한다. */
+    private HandlerPlan resolvePlan(HandlerMethod handlerMethod, HttpServletRequest request) {
+        var plan = plans.get(handlerMethod.getMethod());
+        if (plan != null) {
+            return plan;
+        }
+        var bestMatchingPattern =
+                request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var routeTemplate =
+                bestMatchingPattern != null
+                        ? bestMatchingPattern.toString()
+                        : urlPathHelper.getLookupPathForRequest(request);
+        return plans.computeIfAbsent(
+                handlerMethod.getMethod(), method -> plan(handlerMethod, Set.of(routeTemplate)));
+    }
+
+    private HandlerPlan plan(HandlerMethod handlerMethod, Set<String> routeTemplates) {
+        var interceptors = new ArrayList<HandlerInterceptor>();
+        for (Step step : steps) {
+            if (!matchesAny(step, routeTemplates)) {
+                continue;
+            }
+            if (step.interceptor instanceof PlanAwareInterceptor
+                    && !((PlanAwareInterceptor) step.interceptor).appliesTo(handlerMethod)) {
+                continue;
+            }
+            interceptors.add(step.interceptor);
+        }
+        var routeTemplate = routeTemplates.isEmpty() ? "" : routeTemplates.iterator().next();
+        return new HandlerPlan(handlerMethod, routeTemplate, interceptors.toArray(EMPTY));
+    }
+
+    private boolean matchesAny(Step step, Set<String> routeTemplates) {
+        if (step.includePatterns.length == 0) {
+            return true;
+        }
+        for (String includePattern : step.includePatterns) {
+            for (String routeTemplate : routeTemplates) {
+                if (pathMatcher.match(includePattern, routeTemplate)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private HandlerInterceptor[] matchByPath(HttpServletRequest request) {
+        var lookupPath = urlPathHelper.getLookupPathForRequest(request);
+        var interceptors = new ArrayList<HandlerInterceptor>(steps.size());
+        for (Step step : steps) {
+            if (matchesAny(step, Set.of(lookupPath))) {
+                interceptors.add(step.interceptor);
+            }
+        }
+        return interceptors.toArray(EMPTY);
+    }
+
+    private static final class Step {
+
+        private final HandlerInterceptor interceptor;
+        private final String[] includePatterns;
+
+        private Step(HandlerInterceptor interceptor, String[] includePatterns) {
+            this.interceptor = interceptor;
+            this.includePatterns = includePatterns;
+        }
+    }
+
+    /** 요청 별 실행 상태, preHandle 을 통과한 마지막 인터셉터 위치를 기록한다. */
+    private static final class Execution {
+
+        private final HandlerInterceptor[] interceptors;
+        private int interceptorIndex = -1;
+
+        private Execution(HandlerInterceptor[] interceptors) {
+            this.interceptors = interceptors;
+        }
+
+        private void triggerAfterCompletion(
+                HttpServletRequest request,
+                HttpServletResponse response,
+                Object handler,
+                @Nullable Exception ex) {
+            for (int i = interceptorIndex; i >= 0; i--) {
+                try {
+                    interceptors[i].afterCompletion(request, response, handler, ex);
+                } catch (Throwable e) {
+                    log.error("Interceptor.afterCompletion threw exception", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.dykim.base.interceptor.ratelimit;
+
+/**
+ *
+ *
+ * <h3>Rate Limiter</h3>
+ *
+ * 키 별 호출 허용량 제한
+ *
+ * <pre>
+ *  - 결과를 객체 대신 long 으로 반환하여 요청 당 객체를 생성하지 않는다.
+ *    ㄴ 0 이상: 허용, 잔여 허용량
+ *    ㄴ 음수: 거부, -(재시도 가능까지 남은 시간(ns))
+ *  - {@link #isPermitted}, {@link #retryAfterNanos} 로 결과를 해석한다.
+ * </pre>
+ */
+public interface RateLimiter {
+
+    /**
+     *
+     *
+     * <h3>허용량 획득</h3>
+     *
+     * @param key 제한 키(API + 클라이언트 해시)
+     * @param permits 기간 당 허용량
+     * @param periodNanos 기간(ns)
+     * @param burst 순간 최대 허용량(0 이하인 경우 permits 와 같음)
+     * @param nowNanos 현재 시간(System.nanoTime)
+     * @return 0 이상인 경우 잔여 허용량, 음수인 경우 -(재시도 가능까지 남은 시간(ns))
+     */
+    long tryAcquire(long key, int permits, long periodNanos, int burst, long nowNanos);
+
+    /**
+     * 제한 설정 검증, 유효하지 않은 설정은 {@link #tryAcquire} 로 전달하지 않는다.
+     *
+     * @return 허용량, 기간이 0 보다 큰 경우 true
+     */
+    default boolean isValid(int permits, long periodNanos, int burst) {
+        return permits > 0 && periodNanos > 0;
+    }
+
+    /** 현재 추적중인 키 수 */
+    int size();
+
+    /** 용량 초과로 제거된 키 수 */
+    long evictionCount();
+
+    static boolean isPermitted(long result) {
+        return result >= 0;
+    }
+
+    static long retryAfterNanos(long result) {
+        return result >= 0 ? 0 : -result;
+    }
+}
@@ -0,0 +1,90 @@
+package com.dykim.base.interceptor.ratelimit;
+
+import com.dykim.base.interceptor.support.StripedLongTable;
+
+/**
+ *
+ *
+ * <h3>Sliding Window Counter Rate Limiter</h3>
+ *
+ * <pre>
+ *  - 현재 구간 호출 수 + 이전 구간 호출 수 * (이전 구간이 겹치는 비율) 로 최근 period 동안의 호출 수를 추정한다.
+ *  - 추정 호출 수가 permits 이상이면 거부한다. (burst 는 사용하지 않는다.)
+ *  - 두 구간 이상 접근이 없던 키는 만료된 것으로 보고 슬롯을 재사용한다.
+ * </pre>
+ *
+ * <pre>
+ * 슬롯 필드
+ *  0: 현재 구간 시작시간(ns)
+ *  1: 현재 구간 호출 수
+ *  2: 이전 구간 호출 수
+ * </pre>
+ */
+public class SlidingWindowRateLimiter implements RateLimiter {
+
+    private static final int WINDOW_START = 0;
+    private static final int CURRENT_COUNT = 1;
+    private static final int PREVIOUS_COUNT = 2;
+
+    private final StripedLongTable table;
+
+    public SlidingWindowRateLimiter(int capacity, int stripeCount) {
+        this.table = new StripedLongTable(capacity, stripeCount, 3);
+    }
+
+    @Override
+    public long tryAcquire(long key, int permits, long periodNanos, int burst, long nowNanos) {
+        var stripe = table.stripe(key);
+        synchronized (stripe) {
+            var acquiredSlot = stripe.acquireSlot(key, nowNanos, nowNanos + 2 * periodNanos);
+            var slot = StripedLongTable.toSlot(acquiredSlot);
+            if (StripedLongTable.isNewSlot(acquiredSlot)) {
+                stripe.set(slot, WINDOW_START, nowNanos);
+            }
+
+            // 1. 구간 이동
+            var windowStart = stripe.get(slot, WINDOW_START);
+            var elapsedNanos = nowNanos - windowStart;
+            if (elapsedNanos >= periodNanos) {
+                var passedWindows = elapsedNanos / periodNanos;
+                var previousCount = passedWindows == 1 ? stripe.get(slot, CURRENT_COUNT) : 0;
+                stripe.set(slot, PREVIOUS_COUNT, previousCount);
+                stripe.set(slot, CURRENT_COUNT, 0);
+                windowStart += passedWindows * periodNanos;
+                stripe.set(slot, WINDOW_START, windowStart);
+                elapsedNanos = nowNanos - windowStart;
+            } else if (elapsedNanos < 0) {
+                elapsedNanos = 0;
+            }
+
+            // 2. 최근 period 동안의 호출 수 추정
+            var currentCount = stripe.get(slot, CURRENT_COUNT);
+            var previousCount = stripe.get(slot, PREVIOUS_COUNT);
+            var overlapNanos = periodNanos - elapsedNanos;
+            var estimatedCount = currentCount + previousCount * overlapNanos / periodNanos;
+            if (estimatedCount < permits) {
+                stripe.set(slot, CURRENT_COUNT, currentCount + 1);
+                return permits - estimatedCount - 1;
+            }
+
+            // 3. 재시도 가능시간 계산
+            if (currentCount >= permits || previousCount == 0) {
+                // 현재 구간만으로 초과한 경우 다음 구간까지 대기
+                return -Math.max(overlapNanos, 1);
+            }
+            // 이전 구간 가중치가 줄어들어 1건이 허용될 때까지 대기
+            var excessCount = estimatedCount - permits + 1;
+            return -Math.max((excessCount * periodNanos + previousCount - 1) / previousCount, 1);
+        }
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public long evictionCount() {
+        return table.evictionCount();
+    }
+}
@@ -0,0 +1,87 @@
+package com.dykim.base.interceptor.ratelimit;
+
+import com.dykim.base.interceptor.support.StripedLongTable;
+
+/**
+ *
+ *
+ * <h3>Token Bucket Rate Limiter</h3>
+ *
+ * <pre>
+ *  - 버킷 용량: burst(없는 경우 permits), 충전 속도: permits / period
+ *  - 호출 당 토큰 1개를 소모하며, 토큰이 없으면 거부한다.
+ *  - 토큰은 (토큰 수 * periodNanos) 고정소수점으로 저장하여 나눗셈 오차 없이 충전한다.
+ *    ㄴ 버킷 용량 * periodNanos 가 long 범위를 넘는 설정은 {@link #isValid} 에서 거부한다.
+ *  - 버킷이 가득 찰 만큼 접근이 없던 키는 만료된 것으로 보고 슬롯을 재사용한다.
+ * </pre>
+ *
+ * <pre>
+ * 슬롯 필드
+ *  0: 토큰(고정소수점)
+ *  1: 최종 충전시간(ns)
+ * </pre>
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private static final int TOKENS = 0;
+    private static final int REFILLED_AT = 1;
+
+    private final StripedLongTable table;
+
+    public TokenBucketRateLimiter(int capacity, int stripeCount) {
+        this.table = new StripedLongTable(capacity, stripeCount, 2);
+    }
+
+    @Override
+    public long tryAcquire(long key, int permits, long periodNanos, int burst, long nowNanos) {
+        var capacity = burst > 0 ? burst : permits;
+        var fullTokens = Math.multiplyExact(capacity, periodNanos);
+        // 비어있던 버킷이 가득 찰 때까지 걸리는 시간
+        var fullRefillNanos = fullTokens / permits;
+        var stripe = table.stripe(key);
+        synchronized (stripe) {
+            var acquiredSlot = stripe.acquireSlot(key, nowNanos, nowNanos + fullRefillNanos);
+            var slot = StripedLongTable.toSlot(acquiredSlot);
+            var tokens = fullTokens;
+            if (!StripedLongTable.isNewSlot(acquiredSlot)) {
+                var elapsedNanos = Math.max(nowNanos - stripe.get(slot, REFILLED_AT), 0);
+                if (elapsedNanos < fullRefillNanos) {
+                    // elapsedNanos * permits < fullTokens 이며, 합계가 넘치지 않도록 남은 용량과 비교한다.
+                    var storedTokens = stripe.get(slot, TOKENS);
+                    var refillTokens = elapsedNanos * permits;
+                    tokens =
+                            refillTokens < fullTokens - storedTokens
+                                    ? storedTokens + refillTokens
+                                    : fullTokens;
+                }
+            }
+            stripe.set(slot, REFILLED_AT, nowNanos);
+            if (tokens >= periodNanos) {
+                tokens -= periodNanos;
+                stripe.set(slot, TOKENS, tokens);
+                return tokens / periodNanos;
+            }
+            stripe.set(slot, TOKENS, tokens);
+            // 토큰 1개가 충전될 때까지 남은 시간(올림)
+            return -((periodNanos - tokens + permits - 1) / permits);
+        }
+    }
+
+    /** 버킷 용량(토큰 수 * periodNanos)이 long 범위 내인 경우만 유효하다. */
+    @Override
+    public boolean isValid(int permits, long periodNanos, int burst) {
+        var capacity = burst > 0 ? burst : permits;
+        return RateLimiter.super.isValid(permits, periodNanos, burst)
+                && periodNanos <= Long.MAX_VALUE / capacity;
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public long evictionCount() {
+        return table.evictionCount();
+    }
+}
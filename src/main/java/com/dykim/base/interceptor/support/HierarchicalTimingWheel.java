@@ -0,0 +1,200 @@
+package com.dykim.base.interceptor.support;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ *
+ *
+ * <h3>Hierarchical Timing Wheel</h3>
+ *
+ * 만료 작업 예약용 계층형 타이밍 휠
+ *
+ * <pre>
+ *  - 4단계 x 64칸 휠로 구성되며, 1단계 1칸은 tickMillis 이다.
+ *    ㄴ 단계가 올라갈수록 1칸의 시간 범위가 64배 커진다.(tick 100ms 기준 최대 약 19일)
+ *    ㄴ 상위 단계 칸의 작업은 해당 시간대에 진입할 때 하위 단계로 내려온다.(cascade)
+ *  - 예약은 락 없는 큐에 추가만 하며, 휠 조작과 작업 실행은 단일 ticker 쓰레드에서만 수행한다.
+ *    ㄴ 예약 / 만료 비용이 예약 건수와 관계없이 일정하다.
+ *  - 작업은 만료 시간 이후 최대 1 tick 이내에 ticker 쓰레드에서 실행되므로, 짧은 작업만 예약한다.
+ *  - ticker 쓰레드는 최초 예약 시 시작되며, 데몬 쓰레드로 동작한다.
+ * </pre>
+ */
+@Slf4j
+public final class HierarchicalTimingWheel implements AutoCloseable {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVEL_COUNT = 4;
+    private static final long MAX_TICKS = 1L << (WHEEL_BITS * LEVEL_COUNT);
+
+    private final long tickMillis;
+    private final String threadName;
+
+    private final ConcurrentLinkedQueue<Timeout> pendingQueue = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<Timeout>[][] wheels;
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean closed;
+    private volatile long startMillis;
+    private Thread ticker;
+
+    /** ticker 쓰레드 전용, 다음에 처리할 tick */
+    private long currentTick;
+
+    /**
+     * @param tickMillis 1단계 1칸의 시간(ms), 만료 정밀도
+     * @param threadName ticker 쓰레드 이름
+     */
+    public HierarchicalTimingWheel(long tickMillis, String threadName) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be greater than zero");
+        }
+        this.tickMillis = tickMillis;
+        this.threadName = threadName;
+        // 제네릭 배열은 생성할 수 없으므로 원시 타입 배열 생성만 경고를 제외한다.
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        ArrayDeque<Timeout>[][] buckets = new ArrayDeque[LEVEL_COUNT][WHEEL_SIZE];
+        this.wheels = buckets;
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new ArrayDeque<>();
+            }
+        }
+    }
+
+    /**
+     *
+     *
+     * <h3>작업 예약</h3>
+     *
+     * 종료된 휠에 예약한 작업은 실행되지 않는다.
+     *
+     * @param deadlineMillis 만료 시간(epoch ms)
+     * @param task 만료 시 ticker 쓰레드에서 실행할 작업
+     */
+    public void schedule(long deadlineMillis, Runnable task) {
+        if (closed) {
+            return;
+        }
+        startIfNecessary();
+        size.incrementAndGet();
+        pendingQueue.offer(new Timeout(deadlineMillis, task));
+    }
+
+    /** 실행 대기중인 작업 수 */
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (ticker != null) {
+                ticker.interrupt();
+            }
+        }
+    }
+
+    private synchronized void startIfNecessary() {
+        if (ticker != null || closed) {
+            return;
+        }
+        startMillis = System.currentTimeMillis();
+        ticker = new Thread(this::run, threadName);
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    private void run() {
+        while (!closed) {
+            var targetTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+            transferPending();
+            while (currentTick <= targetTick) {
+                processTick(currentTick);
+                currentTick++;
+            }
+            var sleepMillis = startMillis + currentTick * tickMillis - System.currentTimeMillis();
+            try {
+                Thread.sleep(Math.max(sleepMillis, 1));
+            } catch (InterruptedException e) {
+                if (closed) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pendingQueue.poll()) != null) {
+            // 올림: 만료 시간 이전에 실행되지 않도록 한다.
+            timeout.deadlineTick =
+                    Math.max(timeout.deadlineMillis - startMillis + tickMillis - 1, 0) / tickMillis;
+            place(timeout, currentTick);
+        }
+    }
+
+    private void processTick(long tick) {
+        // 1. 하위 단계 칸이 한바퀴 돈 경우 상위 단계의 현재 칸을 하위 단계로 내린다.
+        for (int level = LEVEL_COUNT - 1; level > 0; level--) {
+            if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                continue;
+            }
+            var bucket = wheels[level][(int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK)];
+            Timeout timeout;
+            while ((timeout = bucket.poll()) != null) {
+                place(timeout, tick);
+            }
+        }
+
+        // 2. 1단계 현재 칸의 작업 실행
+        var bucket = wheels[0][(int) (tick & WHEEL_MASK)];
+        Timeout timeout;
+        while ((timeout = bucket.poll()) != null) {
+            if (timeout.deadlineTick > tick) {
+                // 최대 범위를 넘어 마지막 칸에 보관된 작업
+                place(timeout, tick);
+                continue;
+            }
+            size.decrementAndGet();
+            try {
+                timeout.task.run();
+            } catch (Exception e) {
+                log.error("Timing wheel task failed.", e);
+            }
+        }
+    }
+
+    /** baseTick 기준 남은 tick 수로 단계를 정하고, 만료 tick 의 해당 단계 자리수로 칸을 정한다. */
+    private void place(Timeout timeout, long baseTick) {
+        var expireTick = Math.max(timeout.deadlineTick, baseTick);
+        var remainingTicks = expireTick - baseTick;
+        if (remainingTicks >= MAX_TICKS) {
+            expireTick = baseTick + MAX_TICKS - 1;
+            remainingTicks = MAX_TICKS - 1;
+        }
+        var level = 0;
+        while (remainingTicks >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][(int) ((expireTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timeout);
+    }
+
+    private static final class Timeout {
+
+        private final long deadlineMillis;
+        private final Runnable task;
+        private long deadlineTick;
+
+        private Timeout(long deadlineMillis, Runnable task) {
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+    }
+}
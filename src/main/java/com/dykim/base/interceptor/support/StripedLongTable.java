@@ -0,0 +1,249 @@
+package com.dykim.base.interceptor.support;
+
+/**
+ *
+ *
+ * <h3>Striped Long Table</h3>
+ *
+ * long 키 기반의 고정 크기 오픈 어드레싱 테이블
+ *
+ * <pre>
+ *  - 키 / 값을 원시 long 배열로 관리하여 조회, 갱신 시 객체를 생성하지 않는다.
+ *  - 테이블을 stripe 단위로 나누고 stripe 별로 동기화하여 다른 stripe 의 키와 경합하지 않는다.
+ *  - 전체 용량이 고정되어 있어 키 카디널리티가 커져도 메모리가 늘어나지 않는다.
+ *    ㄴ 빈 슬롯이 없으면 탐색 범위 내에서 만료시간이 가장 이른 슬롯을 제거(evict)하고 재사용한다.
+ *    ㄴ 만료시간이 지난 슬롯은 빈 슬롯으로 취급한다.
+ *  - 만료시간은 슬롯 별로 저장하며, 접근할 때마다 슬롯을 사용하는 호출자가 다시 기록한다.
+ *    ㄴ 유지시간이 다른 키(예: 주기가 다른 제한)가 한 테이블을 같이 써도 서로의 슬롯을 만료시키지 않는다.
+ * </pre>
+ *
+ * <pre>
+ * 사용 예)
+ *  var stripe = table.stripe(key);
+ *  synchronized (stripe) {
+ *      var slot = stripe.acquireSlot(key, now, now + ttl);
+ *      if (StripedLongTable.isNewSlot(slot)) {
+ *          slot = StripedLongTable.toSlot(slot);
+ *          stripe.set(slot, 0, initialValue);
+ *      }
+ *      var value = stripe.get(slot, 0);
+ *      ...
+ *  }
+ * </pre>
+ */
+public final class StripedLongTable {
+
+    private static final long EMPTY_KEY = 0L;
+    private static final int MAX_PROBE = 8;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * @param capacity 전체 슬롯 수(2의 거듭제곱으로 올림)
+     * @param stripeCount stripe 수(2의 거듭제곱으로 올림)
+     * @param fieldCount 슬롯 당 long 값 개수
+     */
+    public StripedLongTable(int capacity, int stripeCount, int fieldCount) {
+        var stripeSize = ceilPowerOfTwo(stripeCount);
+        var slotPerStripe = ceilPowerOfTwo(Math.max(capacity / stripeSize, MAX_PROBE));
+        stripes = new Stripe[stripeSize];
+        for (int i = 0; i < stripeSize; i++) {
+            stripes[i] = new Stripe(slotPerStripe, fieldCount);
+        }
+        stripeMask = stripeSize - 1;
+    }
+
+    /**
+     *
+     *
+     * <h3>키의 stripe 조회</h3>
+     *
+     * 반환된 stripe 의 슬롯 조회/갱신은 반드시 stripe 를 모니터로 동기화한 블록 안에서 수행한다.
+     *
+     * @param key 키(0 은 빈 슬롯 표시용으로 예약되어 있어 내부에서 치환된다.)
+     * @return stripe
+     */
+    public Stripe stripe(long key) {
+        return stripes[(int) (spread(key) >>> 40) & stripeMask];
+    }
+
+    /** 전체 슬롯 수 */
+    public int capacity() {
+        return stripes.length * stripes[0].keys.length;
+    }
+
+    /** 현재 사용중인 슬롯 수(근사치) */
+    public int size() {
+        var size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /** 누적 제거(evict) 수(근사치) */
+    public long evictionCount() {
+        var evictionCount = 0L;
+        for (Stripe stripe : stripes) {
+            evictionCount += stripe.evictionCount;
+        }
+        return evictionCount;
+    }
+
+    /** {@link Stripe#acquireSlot} 결과가 새로 할당된 슬롯인지 확인한다. */
+    public static boolean isNewSlot(int acquiredSlot) {
+        return acquiredSlot < 0;
+    }
+
+    /** {@link Stripe#acquireSlot} 결과를 슬롯 번호로 변환한다. */
+    public static int toSlot(int acquiredSlot) {
+        return acquiredSlot < 0 ? ~acquiredSlot : acquiredSlot;
+    }
+
+    /**
+     *
+     *
+     * <h3>문자열 64bit 해시(FNV-1a)</h3>
+     *
+     * 문자열을 복사하지 않고 해시하며, seed 로 여러 값을 이어서 해시할 수 있다.
+     *
+     * @param seed 이전 해시값(처음인 경우 0)
+     * @param value 해시할 문자열, null 인 경우 seed 를 그대로 반환한다.
+     * @return 64bit 해시
+     */
+    public static long hash(long seed, CharSequence value) {
+        var hash = seed == 0 ? FNV_OFFSET_BASIS : seed;
+        if (value == null) {
+            return hash;
+        }
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /** 두 long 값을 섞어 하나의 키로 만든다. */
+    public static long hash(long seed, long value) {
+        var hash = seed == 0 ? FNV_OFFSET_BASIS : seed;
+        return spread(hash ^ spread(value)) * FNV_PRIME;
+    }
+
+    private static long spread(long key) {
+        // murmur3 fmix64
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     *
+     *
+     * <h3>Stripe</h3>
+     *
+     * stripe 내부 슬롯 배열. 모든 메소드는 호출자가 stripe 를 동기화한 상태에서 호출해야 한다.
+     */
+    public static final class Stripe {
+
+        private final long[] keys;
+        private final long[] expiresAt;
+        private final long[] fields;
+        private final int fieldCount;
+        private final int mask;
+
+        private int size;
+        private long evictionCount;
+
+        private Stripe(int slotCount, int fieldCount) {
+            this.keys = new long[slotCount];
+            this.expiresAt = new long[slotCount];
+            this.fields = new long[slotCount * fieldCount];
+            this.fieldCount = fieldCount;
+            this.mask = slotCount - 1;
+        }
+
+        /**
+         *
+         *
+         * <h3>슬롯 획득</h3>
+         *
+         * <pre>
+         *  1. 키가 있는 슬롯을 찾으면 만료시간을 갱신하고 반환한다.
+         *  2. 없는 경우 빈 슬롯(또는 만료된 슬롯)을 할당한다.
+         *  3. 탐색 범위 내 빈 슬롯이 없으면 만료시간이 가장 이른 슬롯을 제거하고 할당한다.
+         * </pre>
+         *
+         * @param key 키
+         * @param now 현재 시간(단위는 호출자 기준), 슬롯 별 만료시간과 비교한다.
+         * @param expiresAt 획득한 슬롯의 새 만료시간(now + 키의 유지시간)
+         * @return 기존 슬롯인 경우 슬롯 번호, 새로 할당된 경우 ~슬롯 번호(음수)
+         */
+        public int acquireSlot(long key, long now, long expiresAt) {
+            var storedKey = key == EMPTY_KEY ? 1L : key;
+            var start = (int) spread(storedKey) & mask;
+            var freeSlot = -1;
+            var earliestSlot = start;
+            for (int probe = 0; probe < MAX_PROBE; probe++) {
+                var slot = (start + probe) & mask;
+                var slotKey = keys[slot];
+                if (slotKey == storedKey) {
+                    var expired = isExpired(slot, now);
+                    this.expiresAt[slot] = expiresAt;
+                    if (expired) {
+                        // 만료된 슬롯은 같은 키라도 새로 할당한 것으로 취급한다.
+                        clearFields(slot);
+                        return ~slot;
+                    }
+                    return slot;
+                }
+                if (freeSlot < 0 && (slotKey == EMPTY_KEY || isExpired(slot, now))) {
+                    freeSlot = slot;
+                }
+                if (this.expiresAt[slot] - now < this.expiresAt[earliestSlot] - now) {
+                    earliestSlot = slot;
+                }
+            }
+            if (freeSlot < 0) {
+                freeSlot = earliestSlot;
+                evictionCount++;
+            } else if (keys[freeSlot] == EMPTY_KEY) {
+                size++;
+            }
+            keys[freeSlot] = storedKey;
+            this.expiresAt[freeSlot] = expiresAt;
+            clearFields(freeSlot);
+            return ~freeSlot;
+        }
+
+        public long get(int slot, int field) {
+            return fields[slot * fieldCount + field];
+        }
+
+        public void set(int slot, int field, long value) {
+            fields[slot * fieldCount + field] = value;
+        }
+
+        /** System.nanoTime 처럼 음수일 수 있는 시간도 비교할 수 있도록 차이로 비교한다. */
+        private boolean isExpired(int slot, long now) {
+            return expiresAt[slot] - now < 0;
+        }
+
+        private void clearFields(int slot) {
+            var offset = slot * fieldCount;
+            for (int i = 0; i < fieldCount; i++) {
+                fields[offset + i] = 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.dykim.base.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import java.time.Instant;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ *
+ *
+ * <h3>Json Line Encoder</h3>
+ *
+ * 로그 이벤트를 한 줄 JSON 으로 변환한다.
+ *
+ * <pre>
+ * 예)
+ *  {"timestamp":"2024-01-01T00:00:00.123Z","level":"INFO","thread":"http-nio-8080-exec-1",
+ *   "logger":"com.dykim.base.filter.RequestTimingFilter","requestId":"5f0c1e2a9b3d4c7e",
+ *   "message":"...","mdc":{...},"exception":"java.lang.IllegalStateException: ...\n\tat ..."}
+ * </pre>
+ *
+ * <pre>
+ *  - requestId 는 MDC 에서 꺼내 최상위 필드로 기록하며, 나머지 MDC 값은 mdc 객체로 기록한다.
+ *  - 예외 스택은 문자열 1개로 기록한다.(줄바꿈은 \n 으로 이스케이프)
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonLineEncoder {
+
+    public static final String MDC_REQUEST_ID = "requestId";
+
+    /**
+     * 로그 이벤트를 JSON 한 줄(줄바꿈 포함)로 추가한다.
+     *
+     * @param builder 출력 버퍼
+     * @param event 로그 이벤트
+     */
+    public static void encode(StringBuilder builder, ILoggingEvent event) {
+        builder.append("{\"timestamp\":\"")
+                .append(Instant.ofEpochMilli(event.getTimeStamp()))
+                .append('"');
+        field(builder, "level", event.getLevel().toString());
+        field(builder, "thread", event.getThreadName());
+        field(builder, "logger", event.getLoggerName());
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        var requestId = mdc != null ? mdc.get(MDC_REQUEST_ID) : null;
+        if (requestId != null) {
+            field(builder, MDC_REQUEST_ID, requestId);
+        }
+        field(builder, "message", event.getFormattedMessage());
+        if (mdc != null && mdc.size() > (requestId != null ? 1 : 0)) {
+            builder.append(",\"mdc\":{");
+            var first = true;
+            for (var entry : mdc.entrySet()) {
+                if (MDC_REQUEST_ID.equals(entry.getKey())) {
+                    continue;
+                }
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                builder.append('"');
+                escape(builder, entry.getKey());
+                builder.append("\":\"");
+                escape(builder, String.valueOf(entry.getValue()));
+                builder.append('"');
+            }
+            builder.append('}');
+        }
+        if (event.getThrowableProxy() != null) {
+            field(builder, "exception", ThrowableProxyUtil.asString(event.getThrowableProxy()));
+        }
+        builder.append("}\n");
+    }
+
+    /** 필드 이름, 값으로 JSON 한 줄을 만든다.(파이프라인 내부 알림용) */
+    static void encode(StringBuilder builder, long timestamp, String level, String message) {
+        builder.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(timestamp)).append('"');
+        field(builder, "level", level);
+        field(builder, "logger", RingBufferJsonAppender.class.getName());
+        field(builder, "message", message);
+        builder.append("}\n");
+    }
+
+    /** 문자열 필드 추가, 값이 null 인 경우 null 로 기록한다. */
+    private static void field(StringBuilder builder, String name, String value) {
+        builder.append(",\"").append(name).append("\":");
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        escape(builder, value);
+        builder.append('"');
+    }
+
+    private static void escape(StringBuilder builder, String value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+    }
+}
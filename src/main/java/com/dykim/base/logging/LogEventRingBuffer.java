@@ -0,0 +1,99 @@
+package com.dykim.base.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *
+ *
+ * <h3>Log Event Ring Buffer</h3>
+ *
+ * 고정 크기 lock-free 링 버퍼(다중 생산자, 단일 소비자)
+ *
+ * <pre>
+ *  - 슬롯 별 시퀀스로 생산자 간 위치를 CAS 로 선점한다.(D. Vyukov bounded queue)
+ *    ㄴ 시퀀스 == 위치: 빈 슬롯, 시퀀스 == 위치 + 1: 값이 기록된 슬롯
+ *  - 소비자는 1개 쓰레드만 허용하며, 꺼낸 슬롯의 시퀀스를 위치 + 용량으로 갱신하여 다음 바퀴에 재사용한다.
+ *  - 가득 찬 경우 대기하지 않고 실패를 반환한다.(대기 여부는 호출자가 결정)
+ * </pre>
+ *
+ * @param <E> 원소 타입
+ */
+public final class LogEventRingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /** @param capacity 용량(2의 거듭제곱으로 올림) */
+    public LogEventRingBuffer(int capacity) {
+        this.capacity = capacity <= 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.elements = new Object[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소 추가(다중 생산자)
+     *
+     * @return 가득 찬 경우 false
+     */
+    public boolean offer(E element) {
+        var position = tail.get();
+        while (true) {
+            var index = (int) position & mask;
+            var difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    // 시퀀스 기록(volatile)으로 원소를 소비자에게 공개한다.
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 원소 꺼내기(단일 소비자)
+     *
+     * @return 비어있는 경우 null
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        var position = head;
+        var index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        var element = (E) elements[index];
+        elements[index] = null;
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    /** 현재 원소 수(근사치) */
+    public int size() {
+        return (int) Math.max(tail.get() - head, 0);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
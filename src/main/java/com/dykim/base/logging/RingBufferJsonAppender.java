@@ -0,0 +1,214 @@
+package com.dykim.base.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ *
+ *
+ * <h3>Ring Buffer Json Appender</h3>
+ *
+ * 요청 쓰레드에서 로그 포맷팅, 파일 I/O 를 분리하는 비동기 JSON line 어펜더
+ *
+ * <pre>
+ *  1. 요청 쓰레드 - 메시지 치환, MDC / 쓰레드명 복사 후 {@link LogEventRingBuffer} 에 추가한다.(잠금 없음)
+ *    ㄴ 버퍼 사용량이 discardingThreshold 이상이면 TRACE, DEBUG 이벤트부터 버린다.
+ *    ㄴ 버퍼가 가득 찬 경우 overflowPolicy 에 따라 버리거나(DROP), 빈 슬롯이 생길때까지 대기한다.(BLOCK)
+ *  2. 기록 쓰레드(1개) - 최대 batchSize 개씩 꺼내 JSON line 으로 변환 후 한번에 기록한다.
+ *    ㄴ 버퍼가 비면 flush 하고 maxFlushDelayMillis 동안 대기한다.
+ *    ㄴ 버린 이벤트가 있으면 버린 수를 WARN 이벤트로 기록한다.
+ *  3. 종료 - 남은 이벤트를 모두 기록한 후 파일을 닫는다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 호출 위치(메소드명, 라인)는 수집하지 않는다.</b>
+ *  - 호출 위치 수집은 요청 쓰레드에서 스택을 생성해야 하므로 비용이 크다.
+ *  - 요청 단위 추적은 MDC requestId(RequestIdFilter)로 한다.
+ * </pre>
+ */
+public class RingBufferJsonAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    /** 버퍼가 가득 찬 경우 처리 */
+    public enum OverflowPolicy {
+        /** 이벤트를 버린다. */
+        DROP,
+        /** 빈 슬롯이 생길때까지 요청 쓰레드가 대기한다. */
+        BLOCK
+    }
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /** 기록 파일 경로, 없는 경우 표준출력 */
+    @Getter @Setter private String file;
+
+    @Getter @Setter private int capacity = 8192;
+
+    @Getter @Setter private int batchSize = 256;
+
+    @Getter @Setter private double discardingThreshold = 0.8;
+
+    @Getter @Setter private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    @Getter @Setter private long maxFlushDelayMillis = 50;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private LogEventRingBuffer<ILoggingEvent> buffer;
+    private int discardingSize;
+    private OutputStream outputStream;
+    private Thread worker;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        buffer = new LogEventRingBuffer<>(capacity);
+        discardingSize = (int) (buffer.capacity() * Math.min(Math.max(discardingThreshold, 0), 1));
+        try {
+            outputStream = openOutputStream();
+        } catch (IOException e) {
+            addError("Failed to open log file: " + file, e);
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "log-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (file != null) {
+                outputStream.close();
+            } else {
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            addError("Failed to close log output", e);
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (buffer.size() >= discardingSize && event.getLevel().toInt() <= Level.DEBUG_INT) {
+            dropped.incrementAndGet();
+            return;
+        }
+        // 인자의 toString 은 요청 쓰레드에서 수행하여, 변경 가능한 객체가 다른 쓰레드에서 읽히지 않도록 한다.
+        event.prepareForDeferredProcessing();
+        while (!buffer.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.DROP || !isStarted()) {
+                dropped.incrementAndGet();
+                return;
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+
+    /** 버린 이벤트 누적 수 */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        var builder = new StringBuilder(batchSize * 256);
+        var reportedDropped = 0L;
+        var flushDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxFlushDelayMillis, 1));
+        var pending = false;
+        while (true) {
+            var count = 0;
+            ILoggingEvent event;
+            while (count < batchSize && (event = buffer.poll()) != null) {
+                try {
+                    JsonLineEncoder.encode(builder, event);
+                } catch (RuntimeException e) {
+                    addError("Failed to encode log event", e);
+                }
+                count++;
+            }
+            var droppedCount = dropped.get();
+            if (droppedCount > reportedDropped) {
+                JsonLineEncoder.encode(
+                        builder,
+                        System.currentTimeMillis(),
+                        Level.WARN.toString(),
+                        (droppedCount - reportedDropped) + " log events dropped by overflow");
+                reportedDropped = droppedCount;
+            }
+            if (builder.length() > 0) {
+                write(builder);
+                pending = true;
+            }
+            if (count < batchSize) {
+                // 버퍼를 모두 비운 경우에만 flush 하여 부하 상황에서 I/O 호출 수를 줄인다.
+                if (pending) {
+                    flush();
+                    pending = false;
+                }
+                if (!running && buffer.isEmpty()) {
+                    return;
+                }
+                if (count == 0) {
+                    LockSupport.parkNanos(this, flushDelayNanos);
+                }
+            }
+        }
+    }
+
+    private void write(StringBuilder builder) {
+        try {
+            outputStream.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            addError("Failed to write log events", e);
+        }
+        builder.setLength(0);
+    }
+
+    private void flush() {
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            addError("Failed to flush log events", e);
+        }
+    }
+
+    private OutputStream openOutputStream() throws IOException {
+        if (file == null || file.isBlank()) {
+            file = null;
+            return new BufferedOutputStream(System.out, 64 * 1024);
+        }
+        var logFile = new File(file);
+        var parent = logFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Failed to create log directory: " + parent);
+        }
+        return new BufferedOutputStream(new FileOutputStream(logFile, true), 64 * 1024);
+    }
+}
@@ -0,0 +1,67 @@
+package com.dykim.base.metrics;
+
+import lombok.Getter;
+
+/**
+ *
+ *
+ * <h3>Histogram Snapshot</h3>
+ *
+ * {@link LogLinearHistogram} 복사본, 백분위 계산 및 병합(구간 합산)에 사용한다.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+
+    @Getter private final long count;
+    @Getter private final long sum;
+    @Getter private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /** 빈 스냅샷 */
+    public static HistogramSnapshot empty() {
+        return new HistogramSnapshot(new long[LogLinearHistogram.BUCKET_COUNT], 0, 0, 0);
+    }
+
+    /**
+     * 백분위 값
+     *
+     * @param percentile 백분위(0 ~ 100)
+     * @return 해당 백분위 구간의 최대값(최대 기록값을 넘지 않음), 기록이 없는 경우 0
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        var rank = Math.max((long) Math.ceil(count * Math.min(percentile, 100) / 100d), 1);
+        var accumulated = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= rank) {
+                return Math.min(LogLinearHistogram.highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /** 평균, 기록이 없는 경우 0 */
+    public long mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /** 두 스냅샷을 합산한 새 스냅샷 */
+    public HistogramSnapshot merge(HistogramSnapshot other) {
+        var mergedCounts = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            mergedCounts[i] = counts[i] + other.counts[i];
+        }
+        return new HistogramSnapshot(
+                mergedCounts, count + other.count, sum + other.sum, Math.max(max, other.max));
+    }
+}
@@ -0,0 +1,94 @@
+package com.dykim.base.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *
+ *
+ * <h3>Log-Linear Histogram</h3>
+ *
+ * 고정 메모리, 락 없는 지연시간(ns) 히스토그램(HDR 방식)
+ *
+ * <pre>
+ *  - 2의 거듭제곱 구간마다 16개의 선형 하위 구간으로 나누어 기록한다.
+ *    ㄴ 상대 오차 최대 1/16(6.25%), 16ns 미만은 정확한 값으로 기록된다.
+ *  - 기록 범위는 2^40ns(약 18분)까지이며, 초과한 값은 마지막 구간에 기록한다.(최대값은 정확히 유지)
+ *  - 기록은 AtomicLongArray 증가 1회 + 합계/최대값 갱신으로 객체를 생성하지 않는다.
+ *  - 조회는 {@link #snapshot()} 으로 복사한 뒤 백분위를 계산한다.
+ * </pre>
+ */
+public final class LogLinearHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_MAGNITUDE = 40;
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 값 기록
+     *
+     * @param value 기록할 값(ns), 음수는 0 으로 기록한다.
+     */
+    public void record(long value) {
+        var recordValue = Math.max(value, 0);
+        counts.incrementAndGet(bucketIndex(recordValue));
+        sum.addAndGet(recordValue);
+        var currentMax = max.get();
+        while (recordValue > currentMax && !max.compareAndSet(currentMax, recordValue)) {
+            currentMax = max.get();
+        }
+    }
+
+    /** 현재까지 기록된 값의 복사본 */
+    public HistogramSnapshot snapshot() {
+        var snapshotCounts = new long[BUCKET_COUNT];
+        var totalCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshotCounts[i] = counts.get(i);
+            totalCount += snapshotCounts[i];
+        }
+        return new HistogramSnapshot(snapshotCounts, totalCount, sum.get(), max.get());
+    }
+
+    /**
+     * 기록 초기화
+     *
+     * <p>초기화 중 기록된 값은 일부 누락될 수 있다.(구간 재사용 용도로 근사치 허용)
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        sum.set(0);
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        var magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        var shift = magnitude - SUB_BUCKET_BITS;
+        var subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /** 구간에 기록된 값 중 가장 큰 값 */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        var shift = index / SUB_BUCKET_COUNT - 1;
+        var subBucket = index % SUB_BUCKET_COUNT;
+        var lowest = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,152 @@
+package com.dykim.base.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.Getter;
+
+/**
+ *
+ *
+ * <h3>Phase Recorder</h3>
+ *
+ * 쓰레드 단위 단계별 처리시간 기록기
+ *
+ * <pre>
+ *  - 쓰레드마다 미리 할당한 nanoTime 슬롯 배열({@link Timing})을 재사용하여 요청 당 객체를 생성하지 않는다.
+ *  - 단계 종료 시각만 기록하고, end() 시점에 단계별 소요시간을 히스토그램에 합산한다.
+ *    ㄴ 도달하지 않은 단계(조기 반환)는 기록하지 않는다.
+ *    ㄴ 전체 소요시간(begin ~ 마지막 단계)은 "total" 로 함께 기록한다.
+ *  - 이름 별로 한번만 등록되며, {@link #all()} 로 집계 결과를 조회한다.
+ * </pre>
+ *
+ * <pre>
+ * 사용 예)
+ *  private static final PhaseRecorder RECORDER =
+ *          PhaseRecorder.register("debounce", "check", "acquire");
+ *  private static final int PHASE_CHECK = 0;
+ *  private static final int PHASE_ACQUIRE = 1;
+ *
+ *  var timing = RECORDER.begin();
+ *  try {
+ *      ...
+ *      timing.mark(PHASE_CHECK);
+ *      ...
+ *      timing.mark(PHASE_ACQUIRE);
+ *  } finally {
+ *      timing.end();
+ *  }
+ * </pre>
+ *
+ * <p><b>참고) 같은 기록기를 한 쓰레드에서 중첩하여 사용할 수 없다.(슬롯을 공유함)</b>
+ */
+public final class PhaseRecorder {
+
+    public static final String TOTAL = "total";
+
+    private static final Map<String, PhaseRecorder> REGISTRY = new ConcurrentSkipListMap<>();
+
+    @Getter private final String name;
+
+    private final String[] phases;
+    private final LogLinearHistogram[] histograms;
+    private final ThreadLocal<Timing> timings;
+
+    private PhaseRecorder(String name, String[] phases) {
+        this.name = name;
+        this.phases = phases;
+        this.histograms = new LogLinearHistogram[phases.length + 1];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LogLinearHistogram();
+        }
+        this.timings = ThreadLocal.withInitial(() -> new Timing(this));
+    }
+
+    /**
+     * 기록기 등록, 이미 등록된 이름인 경우 기존 기록기를 반환한다.
+     *
+     * @param name 기록기 이름
+     * @param phases 단계 이름(순서대로)
+     * @return 기록기
+     */
+    public static PhaseRecorder register(String name, String... phases) {
+        return REGISTRY.computeIfAbsent(name, key -> new PhaseRecorder(key, phases.clone()));
+    }
+
+    /** 등록된 모든 기록기(이름순) */
+    public static Collection<PhaseRecorder> all() {
+        return Collections.unmodifiableCollection(REGISTRY.values());
+    }
+
+    /** 현재 쓰레드의 기록을 시작한다. */
+    public Timing begin() {
+        var timing = timings.get();
+        timing.begin();
+        return timing;
+    }
+
+    /** 단계 이름 목록(마지막은 total) */
+    public List<String> getPhases() {
+        var phaseNames = new ArrayList<>(Arrays.asList(phases));
+        phaseNames.add(TOTAL);
+        return phaseNames;
+    }
+
+    /**
+     * 단계별 집계 결과
+     *
+     * @param phase 단계 번호, phases.length 는 total
+     */
+    public HistogramSnapshot snapshot(int phase) {
+        return histograms[phase].snapshot();
+    }
+
+    /**
+     *
+     *
+     * <h3>Timing</h3>
+     *
+     * 쓰레드 전용 nanoTime 슬롯. slots[0] 은 시작 시각, slots[i + 1] 은 i 단계 종료 시각이다.
+     */
+    public static final class Timing {
+
+        private final PhaseRecorder recorder;
+        private final long[] slots;
+
+        private Timing(PhaseRecorder recorder) {
+            this.recorder = recorder;
+            this.slots = new long[recorder.phases.length + 1];
+        }
+
+        private void begin() {
+            Arrays.fill(slots, 0L);
+            slots[0] = System.nanoTime();
+        }
+
+        /** 단계 종료 시각 기록 */
+        public void mark(int phase) {
+            slots[phase + 1] = System.nanoTime();
+        }
+
+        /** 기록된 단계별 소요시간을 히스토그램에 합산한다. */
+        public void end() {
+            var start = slots[0];
+            if (start == 0) {
+                return;
+            }
+            var previous = start;
+            for (int i = 1; i < slots.length; i++) {
+                if (slots[i] != 0) {
+                    recorder.histograms[i - 1].record(slots[i] - previous);
+                    previous = slots[i];
+                }
+            }
+            recorder.histograms[recorder.phases.length].record(previous - start);
+            slots[0] = 0;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.dykim.base.metrics;
+
+import javax.servlet.ServletRequest;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>Request Timing</h3>
+ *
+ * 요청 처리 단계 별 시각(nanoTime) 기록
+ *
+ * <pre>
+ *  start         : RequestTimingFilter 진입
+ *  handlerStart  : PerformanceInterceptor.preHandle (모든 인터셉터 preHandle 통과)
+ *  handlerEnd    : PerformanceInterceptor.postHandle (핸들러 정상 종료)
+ *  resolveStart  : RequestTimingExceptionResolver (예외 발생, 어드바이스 처리 시작)
+ *  completion    : PerformanceInterceptor.afterCompletion (뷰 렌더링, 예외 처리 이후)
+ *  end           : RequestTimingFilter 종료
+ *
+ *  단계
+ *   - PRE_HANDLE : start ~ handlerStart(인터셉터에서 예외 발생 시 resolveStart)
+ *   - HANDLER    : handlerStart ~ handlerEnd(예외 발생 시 resolveStart)
+ *   - VIEW       : handlerEnd ~ completion(렌더링 중 예외 발생 시 resolveStart)
+ *   - ADVICE     : resolveStart ~ completion
+ *   - total      : start ~ end
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 요청 쓰레드에서만 접근하므로 동기화하지 않는다.</b>
+ * </pre>
+ */
+public final class RequestTiming {
+
+    public static final String ATTRIBUTE = RequestTiming.class.getName();
+
+    private static final long NOT_REACHED = -1L;
+
+    /** 측정 단계 */
+    @Getter
+    public enum Phase {
+        PRE_HANDLE("preHandle"),
+        HANDLER("handler"),
+        VIEW("view"),
+        ADVICE("advice");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private final long startNanos;
+    private long handlerStartNanos;
+    private long handlerEndNanos;
+    private long resolveStartNanos;
+    private long completionNanos;
+    private long endNanos;
+
+    @Getter @Nullable private String exception;
+
+    private long allocationThreadId;
+    private long allocationStartBytes = -1;
+
+    /** 핸들러 구간 힙 할당량(byte), 측정하지 못한 경우 -1 */
+    @Getter private long allocatedBytes = -1;
+
+    private RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /** 측정 시작, 요청 속성으로 저장한다. */
+    public static RequestTiming start(ServletRequest request) {
+        var timing = new RequestTiming(System.nanoTime());
+        request.setAttribute(ATTRIBUTE, timing);
+        return timing;
+    }
+
+    /** 요청 속성에 저장된 측정 정보, RequestTimingFilter 를 거치지 않은 경우 null */
+    @Nullable
+    public static RequestTiming from(ServletRequest request) {
+        var timing = request.getAttribute(ATTRIBUTE);
+        return timing instanceof RequestTiming ? (RequestTiming) timing : null;
+    }
+
+    public void markHandlerStart() {
+        handlerStartNanos = System.nanoTime();
+    }
+
+    public void markHandlerEnd() {
+        handlerEndNanos = System.nanoTime();
+    }
+
+    /** 핸들러 구간 할당량 측정 시작 */
+    public void markAllocationStart() {
+        allocationThreadId = Thread.currentThread().getId();
+        allocationStartBytes = ThreadAllocation.currentThreadAllocatedBytes();
+    }
+
+    /** 핸들러 구간 할당량 측정 종료, 시작과 같은 쓰레드인 경우만 기록한다. */
+    public void markAllocationEnd() {
+        if (allocationStartBytes < 0 || allocationThreadId != Thread.currentThread().getId()) {
+            return;
+        }
+        var endBytes = ThreadAllocation.currentThreadAllocatedBytes();
+        if (endBytes >= allocationStartBytes) {
+            allocatedBytes = endBytes - allocationStartBytes;
+        }
+    }
+
+    /** 예외 처리 시작, 최초 예외만 기록한다. */
+    public void markResolveStart(Exception ex) {
+        if (resolveStartNanos == 0) {
+            resolveStartNanos = System.nanoTime();
+            exception = ex.getClass().getSimpleName();
+        }
+    }
+
+    public void markCompletion() {
+        completionNanos = System.nanoTime();
+    }
+
+    /** 측정 종료, afterCompletion 이 호출되지 않은 경우 종료 시각을 완료 시각으로 사용한다. */
+    public void end() {
+        endNanos = System.nanoTime();
+        if (completionNanos == 0) {
+            completionNanos = endNanos;
+        }
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getHandlerStartNanos() {
+        return handlerStartNanos;
+    }
+
+    long getHandlerEndNanos() {
+        return handlerEndNanos;
+    }
+
+    /** 전체 처리시간(ns) */
+    public long totalNanos() {
+        return endNanos - startNanos;
+    }
+
+    /**
+     * 단계 별 처리시간
+     *
+     * @param phase 단계
+     * @return 처리시간(ns), 도달하지 않은 단계인 경우 -1
+     */
+    public long phaseNanos(Phase phase) {
+        switch (phase) {
+            case PRE_HANDLE:
+                return between(startNanos, firstOf(handlerStartNanos, resolveStartNanos));
+            case HANDLER:
+                return between(handlerStartNanos, firstOf(handlerEndNanos, resolveStartNanos));
+            case VIEW:
+                return between(
+                        handlerEndNanos,
+                        resolveStartNanos > handlerEndNanos ? resolveStartNanos : completionNanos);
+            case ADVICE:
+                return between(resolveStartNanos, completionNanos);
+            default:
+                return NOT_REACHED;
+        }
+    }
+
+    private static long firstOf(long nanos, long fallbackNanos) {
+        return nanos != 0 ? nanos : fallbackNanos;
+    }
+
+    private static long between(long fromNanos, long toNanos) {
+        return fromNanos == 0 || toNanos == 0 ? NOT_REACHED : toNanos - fromNanos;
+    }
+}
@@ -0,0 +1,69 @@
+package com.dykim.base.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *
+ *
+ * <h3>Rolling Histogram</h3>
+ *
+ * 1분 단위 히스토그램 링(최대 15분)
+ *
+ * <pre>
+ *  - 분(epoch minute) 별로 {@link LogLinearHistogram} 칸을 순환 사용한다.
+ *  - 새로운 분에 처음 기록할 때 해당 칸을 초기화하여 재사용한다.(메모리 고정: 15 x 히스토그램)
+ *  - N분 구간 조회 = 진행중인 현재 분을 포함한 최근 N개 칸의 합산
+ * </pre>
+ */
+public final class RollingHistogram {
+
+    public static final int MAX_WINDOW_MINUTES = 15;
+
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final LogLinearHistogram[] slots = new LogLinearHistogram[MAX_WINDOW_MINUTES];
+    private final AtomicLongArray slotMinutes = new AtomicLongArray(MAX_WINDOW_MINUTES);
+
+    public RollingHistogram() {
+        for (int i = 0; i < MAX_WINDOW_MINUTES; i++) {
+            slots[i] = new LogLinearHistogram();
+            slotMinutes.set(i, -1);
+        }
+    }
+
+    /**
+     * 값 기록
+     *
+     * @param value 기록할 값(ns)
+     * @param currentTimeMillis 현재 시간(ms)
+     */
+    public void record(long value, long currentTimeMillis) {
+        var minute = currentTimeMillis / MINUTE_MILLIS;
+        var index = (int) (minute % MAX_WINDOW_MINUTES);
+        var slotMinute = slotMinutes.get(index);
+        if (slotMinute != minute && slotMinutes.compareAndSet(index, slotMinute, minute)) {
+            // 칸을 선점한 쓰레드만 초기화한다. 초기화 중 기록된 값은 일부 누락될 수 있다.
+            slots[index].reset();
+        }
+        slots[index].record(value);
+    }
+
+    /**
+     * 최근 N분 합산
+     *
+     * @param windowMinutes 조회 구간(분, 1 ~ 15)
+     * @param currentTimeMillis 현재 시간(ms)
+     */
+    public HistogramSnapshot snapshot(int windowMinutes, long currentTimeMillis) {
+        var minute = currentTimeMillis / MINUTE_MILLIS;
+        var merged = HistogramSnapshot.empty();
+        var window = Math.min(Math.max(windowMinutes, 1), MAX_WINDOW_MINUTES);
+        for (int i = 0; i < MAX_WINDOW_MINUTES; i++) {
+            var slotMinute = slotMinutes.get(i);
+            if (slotMinute > minute - window && slotMinute <= minute) {
+                merged = merged.merge(slots[i].snapshot());
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,93 @@
+package com.dykim.base.metrics;
+
+import com.dykim.base.metrics.RequestTiming.Phase;
+import com.dykim.base.metrics.sql.SqlStats;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>Route Latency</h3>
+ *
+ * 라우트 키 하나의 처리시간 기록
+ *
+ * <pre>
+ *  - 전체 처리시간: {@link RollingHistogram}(최근 15분)
+ *  - 단계 별 처리시간: {@link LogLinearHistogram}(기동 이후 누적)
+ *    ㄴ 단계 별로 15분 링을 두면 키 당 메모리가 단계 수만큼 늘어나므로 누적으로만 유지한다.
+ *  - 요청 당 SQL 실행 수, 행 수, JDBC 시간: {@link LogLinearHistogram}(기동 이후 누적)
+ *  - 요청 당 핸들러 구간 힙 할당량: {@link LogLinearHistogram}(기동 이후 누적)
+ *  - 요청 수: 기동 이후 누적(조회 시점 간 차이로 처리량을 계산한다.)
+ * </pre>
+ */
+public final class RouteLatency {
+
+    private final RollingHistogram total = new RollingHistogram();
+    private final LogLinearHistogram[] phases = new LogLinearHistogram[Phase.values().length];
+    private final LogLinearHistogram sqlStatements = new LogLinearHistogram();
+    private final LogLinearHistogram sqlRows = new LogLinearHistogram();
+    private final LogLinearHistogram jdbcNanos = new LogLinearHistogram();
+    private final LogLinearHistogram allocatedBytes = new LogLinearHistogram();
+    private final LongAdder count = new LongAdder();
+
+    RouteLatency() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LogLinearHistogram();
+        }
+    }
+
+    void record(RequestTiming timing, @Nullable SqlStats sqlStats, long currentTimeMillis) {
+        count.increment();
+        total.record(timing.totalNanos(), currentTimeMillis);
+        for (Phase phase : Phase.values()) {
+            var phaseNanos = timing.phaseNanos(phase);
+            if (phaseNanos >= 0) {
+                phases[phase.ordinal()].record(phaseNanos);
+            }
+        }
+        if (timing.getAllocatedBytes() >= 0) {
+            allocatedBytes.record(timing.getAllocatedBytes());
+        }
+        if (sqlStats != null) {
+            sqlStatements.record(sqlStats.getStatements());
+            sqlRows.record(sqlStats.getRows());
+            jdbcNanos.record(sqlStats.getJdbcNanos());
+        }
+    }
+
+    /** 기동 이후 누적 요청 수 */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /** 전체 처리시간 최근 N분 합산 */
+    public HistogramSnapshot snapshot(int windowMinutes, long currentTimeMillis) {
+        return total.snapshot(windowMinutes, currentTimeMillis);
+    }
+
+    /** 단계 별 누적 처리시간 */
+    public HistogramSnapshot snapshot(Phase phase) {
+        return phases[phase.ordinal()].snapshot();
+    }
+
+    /** 요청 당 SQL 실행 수 누적 */
+    public HistogramSnapshot sqlStatementsSnapshot() {
+        return sqlStatements.snapshot();
+    }
+
+    /** 요청 당 SQL 행 수(조회 + 변경) 누적 */
+    public HistogramSnapshot sqlRowsSnapshot() {
+        return sqlRows.snapshot();
+    }
+
+    /** 요청 당 JDBC 실행 시간(ns) 누적 */
+    public HistogramSnapshot jdbcNanosSnapshot() {
+        return jdbcNanos.snapshot();
+    }
+
+    /** 요청 당 핸들러 구간 힙 할당량(byte) 누적 */
+    public HistogramSnapshot allocatedBytesSnapshot() {
+        return allocatedBytes.snapshot();
+    }
+}
@@ -0,0 +1,177 @@
+package com.dykim.base.metrics;
+
+import com.dykim.base.interceptor.plan.HandlerPlan;
+import com.dykim.base.metrics.sql.SqlStats;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ *
+ *
+ * <h3>Route Latency Registry</h3>
+ *
+ * 라우트(HTTP 메소드 + 라우트 템플릿) x 상태코드 분류(2xx, 4xx ...) x 예외 별 처리시간 저장소
+ *
+ * <pre>
+ *  - 키마다 {@link RouteLatency}(전체 최근 15분 + 단계 별 누적)를 유지한다.
+ *  - 라우트 템플릿 기준이므로 경로변수 값이 달라도 키가 늘어나지 않는다.
+ *  - 예외는 클래스명으로 구분하며, 예외가 없는 경우 null 이다.
+ *  - 메모리: 키 당 약 95KB((15 + 4) x 608 구간 x 8byte)
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 인증 전 요청도 기록하므로 클라이언트가 키를 늘릴 수 없게 제한한다.</b>
+ *  - HTTP 메소드: {@link HttpMethod} 에 없는 메소드는 OTHER 로 기록한다.
+ *  - 매칭되지 않은 요청(UNMAPPED): 메소드, 예외를 구분하지 않고 상태코드 분류로만 기록한다.
+ *  - 최대 키 수(base.performance.route-latency.max-keys): 초과 시 새 키는 OVERFLOW 라우트로 기록한다.
+ *    ㄴ OVERFLOW, UNMAPPED 키는 상태코드 분류 수만큼만 생긴다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RouteLatencyRegistry {
+
+    public static final String OTHER_METHOD = "OTHER";
+    public static final String OVERFLOW_ROUTE = "OVERFLOW";
+
+    private static final int DEFAULT_MAX_KEYS = 512;
+
+    private final Map<RouteKey, RouteLatency> latencies = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final AtomicInteger keyCount = new AtomicInteger();
+    private final AtomicBoolean overflowLogged = new AtomicBoolean();
+
+    /** 기본 최대 키 수로 생성한다. */
+    public RouteLatencyRegistry() {
+        this(DEFAULT_MAX_KEYS);
+    }
+
+    @Autowired
+    public RouteLatencyRegistry(
+            @Value("${base.performance.route-latency.max-keys:512}") int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /** {@link HttpMethod} 에 없는 메소드는 OTHER 로 정규화한다. */
+    public static String normalizeMethod(@Nullable String method) {
+        var httpMethod = method != null ? HttpMethod.resolve(method) : null;
+        return httpMethod != null ? httpMethod.name() : OTHER_METHOD;
+    }
+
+    /**
+     * 처리시간 기록
+     *
+     * @param method HTTP 메소드
+     * @param route 라우트 템플릿
+     * @param status 응답 상태코드(어드바이스 처리 이후)
+     * @param timing 종료된 요청 측정 정보
+     * @param sqlStats 종료된 요청 SQL 통계, 없는 경우 null
+     */
+    public void record(
+            String method,
+            String route,
+            int status,
+            RequestTiming timing,
+            @Nullable SqlStats sqlStats) {
+        var statusClass = status / 100;
+        var unmapped = HandlerPlan.UNMAPPED_ROUTE.equals(route);
+        var key =
+                unmapped
+                        ? new RouteKey(OTHER_METHOD, route, statusClass, null)
+                        : new RouteKey(
+                                normalizeMethod(method),
+                                route,
+                                statusClass,
+                                timing.getException());
+        var latency = latencies.get(key);
+        if (latency == null) {
+            latency =
+                    latencies.computeIfAbsent(
+                            key, k -> unmapped || reserveKey() ? new RouteLatency() : null);
+        }
+        if (latency == null) {
+            latency =
+                    latencies.computeIfAbsent(
+                            new RouteKey(OTHER_METHOD, OVERFLOW_ROUTE, statusClass, null),
+                            k -> new RouteLatency());
+        }
+        latency.record(timing, sqlStats, System.currentTimeMillis());
+    }
+
+    /** 최대 키 수 이내인 경우 키 자리를 예약한다.(OVERFLOW, UNMAPPED 키 제외) */
+    private boolean reserveKey() {
+        int count;
+        do {
+            count = keyCount.get();
+            if (count >= maxKeys) {
+                if (overflowLogged.compareAndSet(false, true)) {
+                    log.warn(
+                            "Route latency keys exceeded {}. New routes are recorded as {}.",
+                            maxKeys,
+                            OVERFLOW_ROUTE);
+                }
+                return false;
+            }
+        } while (!keyCount.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /** 키 별 처리시간(읽기 전용) */
+    public Map<RouteKey, RouteLatency> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /** 라우트 x 상태코드 분류 x 예외 키 */
+    @Getter
+    public static final class RouteKey {
+
+        private final String method;
+        private final String route;
+        private final int statusClass;
+        @Nullable private final String exception;
+
+        private RouteKey(
+                String method, String route, int statusClass, @Nullable String exception) {
+            this.method = method;
+            this.route = route;
+            this.statusClass = statusClass;
+            this.exception = exception;
+        }
+
+        /** 상태코드 분류 문자열(예: 2xx) */
+        public String getStatus() {
+            return statusClass + "xx";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RouteKey)) {
+                return false;
+            }
+            var other = (RouteKey) o;
+            return statusClass == other.statusClass
+                    && method.equals(other.method)
+                    && route.equals(other.route)
+                    && Objects.equals(exception, other.exception);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, route, statusClass, exception);
+        }
+    }
+}
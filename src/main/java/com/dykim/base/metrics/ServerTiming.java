@@ -0,0 +1,166 @@
+package com.dykim.base.metrics;
+
+import com.dykim.base.metrics.sql.SqlStats;
+import javax.servlet.ServletRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ *
+ *
+ * <h3>Server Timing</h3>
+ *
+ * 요청 처리 단계 별 시간을 Server-Timing 응답 헤더 값으로 만든다.
+ *
+ * <pre>
+ *  - filter            : 필터 진입 ~ 인터셉터 체인 시작(스프링 시큐리티 필터 포함)
+ *  - auth              : AuthenticationProvider 인증 시간(로그인 요청의 비밀번호 비교 포함)
+ *  - 인터셉터 별 preHandle : 예) sessionValidation, debounce (PlannedInterceptorChain 에서 기록)
+ *  - handler           : PerformanceInterceptor.preHandle ~ 응답 직렬화 시작(또는 핸들러 종료)
+ *  - sql               : 헤더 작성 시점까지의 JDBC 실행 시간, 실행 수
+ *  - ser               : 응답 직렬화 시작(ResponseBodyAdvice) ~ 헤더 작성
+ *  - total             : 필터 진입 ~ 헤더 작성
+ *
+ *  예) Server-Timing: filter;dur=1.20, sessionValidation;dur=0.01, debounce;dur=0.03,
+ *       handler;dur=12.50, sql;dur=4.10;desc="3 statements", ser;dur=0.40, total;dur=14.60
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 헤더는 응답이 커밋되기 직전에 작성되므로 커밋 이후 단계(대용량 응답의 나머지 전송 등)는 포함하지 않는다.</b>
+ *  - ServerTimingFilter 를 거친 요청만 생성되며, 요청 쓰레드에서만 접근하므로 동기화하지 않는다.
+ *  - 로그인 요청(폼 로그인 등)은 인터셉터 체인을 거치지 않으므로 filter 대신 auth 로 확인한다.
+ * </pre>
+ */
+public final class ServerTiming {
+
+    public static final String ATTRIBUTE = ServerTiming.class.getName();
+
+    private static final int MAX_ENTRIES = 16;
+
+    private static final ClassValue<String> INTERCEPTOR_NAMES =
+            new ClassValue<>() {
+                @Override
+                protected String computeValue(Class<?> type) {
+                    var name = type.getSimpleName().replace("Interceptor", "");
+                    return name.isEmpty()
+                            ? "interceptor"
+                            : Character.toLowerCase(name.charAt(0)) + name.substring(1);
+                }
+            };
+
+    private final long startNanos;
+    private long interceptorsStartNanos;
+    private long serializationStartNanos;
+
+    private final String[] names = new String[MAX_ENTRIES];
+    private final long[] durations = new long[MAX_ENTRIES];
+    private int size;
+
+    private ServerTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /** 측정 시작, 요청 속성으로 저장한다. */
+    public static ServerTiming start(ServletRequest request) {
+        var serverTiming = new ServerTiming(System.nanoTime());
+        request.setAttribute(ATTRIBUTE, serverTiming);
+        return serverTiming;
+    }
+
+    /** 요청 속성에 저장된 측정 정보, Server-Timing 대상이 아닌 요청인 경우 null */
+    @Nullable
+    public static ServerTiming from(ServletRequest request) {
+        var serverTiming = request.getAttribute(ATTRIBUTE);
+        return serverTiming instanceof ServerTiming ? (ServerTiming) serverTiming : null;
+    }
+
+    /**
+     * 현재 요청의 측정 정보, 요청 속성에 접근할 수 없는 곳(AuthenticationProvider 등)에서 사용한다.
+     *
+     * @return Server-Timing 대상이 아니거나 요청 쓰레드가 아닌 경우 null
+     */
+    @Nullable
+    public static ServerTiming current() {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes instanceof ServletRequestAttributes
+                ? from(((ServletRequestAttributes) requestAttributes).getRequest())
+                : null;
+    }
+
+    /** 인터셉터 체인 시작, 최초 1회만 기록한다. */
+    public void markInterceptorsStart() {
+        if (interceptorsStartNanos == 0) {
+            interceptorsStartNanos = System.nanoTime();
+        }
+    }
+
+    /** 인터셉터 preHandle 시간 기록, 이름은 클래스명에서 Interceptor 를 제외한 값 */
+    public void addInterceptor(Object interceptor, long elapsedNanos) {
+        add(INTERCEPTOR_NAMES.get(interceptor.getClass()), elapsedNanos);
+    }
+
+    /** 단계 시간 기록, 최대 16개까지 기록한다. */
+    public void add(String name, long elapsedNanos) {
+        if (size < MAX_ENTRIES) {
+            names[size] = name;
+            durations[size] = elapsedNanos;
+            size++;
+        }
+    }
+
+    /** 응답 직렬화 시작, 최초 1회만 기록한다. */
+    public void markSerializationStart() {
+        if (serializationStartNanos == 0) {
+            serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Server-Timing 헤더 값 생성
+     *
+     * @param timing 요청 측정 정보(핸들러 시작/종료), 없는 경우 handler 항목 제외
+     * @param sqlStats 요청 SQL 통계, 없는 경우 sql 항목 제외
+     * @return 헤더 값
+     */
+    public String toHeaderValue(@Nullable RequestTiming timing, @Nullable SqlStats sqlStats) {
+        var now = System.nanoTime();
+        var builder = new StringBuilder(256);
+        if (interceptorsStartNanos != 0) {
+            appendMetric(builder, "filter", interceptorsStartNanos - startNanos);
+        }
+        for (int i = 0; i < size; i++) {
+            appendMetric(builder, names[i], durations[i]);
+        }
+        if (timing != null && timing.getHandlerStartNanos() != 0) {
+            var handlerEndNanos =
+                    serializationStartNanos != 0
+                            ? serializationStartNanos
+                            : timing.getHandlerEndNanos() != 0 ? timing.getHandlerEndNanos() : now;
+            appendMetric(builder, "handler", handlerEndNanos - timing.getHandlerStartNanos());
+        }
+        if (sqlStats != null && sqlStats.getStatements() > 0) {
+            appendMetric(builder, "sql", sqlStats.getJdbcNanos());
+            builder.append(";desc=\"").append(sqlStats.getStatements()).append(" statements\"");
+        }
+        if (serializationStartNanos != 0) {
+            appendMetric(builder, "ser", now - serializationStartNanos);
+        }
+        appendMetric(builder, "total", now - startNanos);
+        return builder.toString();
+    }
+
+    /** name;dur=밀리초(소수점 2자리) */
+    private static void appendMetric(StringBuilder builder, String name, long nanos) {
+        if (builder.length() > 0) {
+            builder.append(", ");
+        }
+        var hundredthMillis = Math.max(nanos, 0) / 10_000;
+        builder.append(name)
+                .append(";dur=")
+                .append(hundredthMillis / 100)
+                .append('.')
+                .append(hundredthMillis % 100 < 10 ? "0" : "")
+                .append(hundredthMillis % 100);
+    }
+}
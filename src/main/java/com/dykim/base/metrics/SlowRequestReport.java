@@ -0,0 +1,42 @@
+package com.dykim.base.metrics;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>Slow Request Report</h3>
+ *
+ * 임계시간을 넘긴 요청 1건의 처리 정보와 처리 중 수집한 스택 샘플(불변)
+ *
+ * @see SlowRequestWatchdog
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SlowRequestReport {
+
+    private final String method;
+    private final String route;
+    private final String uri;
+    private final String threadName;
+    private final long startedAtMillis;
+    private final long elapsedMillis;
+    private final int status;
+    @Nullable private final String exception;
+    private final List<StackSample> samples;
+
+    /** 스택 샘플 */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class StackSample {
+
+        /** 요청 시작 이후 경과시간(ms) */
+        private final long offsetMillis;
+
+        /** 호출 스택(최상단부터, 최대 깊이까지) */
+        private final List<String> frames;
+    }
+}
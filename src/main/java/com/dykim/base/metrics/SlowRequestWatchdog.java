@@ -0,0 +1,297 @@
+package com.dykim.base.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>Slow Request Watchdog</h3>
+ *
+ * 처리중인 요청이 임계시간을 넘기면 처리 쓰레드의 스택을 주기적으로 샘플링하는 감시자
+ *
+ * <pre>
+ *  1. 요청 시작 - {@link #begin} 으로 처리 쓰레드의 감시 항목(Watch)에 시작 시각을 기록한다.
+ *    ㄴ Watch 는 쓰레드 당 1개를 재사용하므로 요청마다 객체를 생성하지 않는다.
+ *  2. 샘플링 - 단일 데몬 쓰레드가 sampleIntervalMillis 주기로 처리중인 Watch 를 확인하고,
+ *     임계시간을 넘긴 요청의 쓰레드 스택을 요청 당 최대 maxSamples 회 수집한다.
+ *  3. 요청 종료 - {@link #end} 에서 임계시간을 넘긴 요청만 리포트로 만들어 고정 크기 링 버퍼에 저장한다.
+ *    ㄴ 링 버퍼가 가득 차면 가장 오래된 리포트를 덮어쓴다.
+ *    ㄴ 비동기 처리가 시작된 요청은 {@link #detach} 로 리포트 없이 감시를 해제한다.
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 처리시간이 임계시간 미만인 요청은 시작/종료 시각 기록 외 추가 비용이 없다.</b>
+ *  - 스택 수집(Thread.getStackTrace)은 대상 쓰레드를 잠시 멈추므로(safepoint) 느린 요청에만 수행한다.
+ * </pre>
+ */
+@Slf4j
+public final class SlowRequestWatchdog implements AutoCloseable {
+
+    private static final String THREAD_NAME = "slow-request-watchdog";
+
+    private final long thresholdNanos;
+    private final long sampleIntervalMillis;
+    private final int maxSamples;
+    private final int maxDepth;
+
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Watch> threadWatch;
+    private final AtomicReferenceArray<SlowRequestReport> reports;
+    private final AtomicLong reportSequence = new AtomicLong();
+
+    private volatile boolean closed;
+    private volatile Thread sampler;
+
+    /**
+     * @param thresholdMillis 느린 요청 임계시간(ms)
+     * @param sampleIntervalMillis 스택 샘플링 주기(ms)
+     * @param maxSamples 요청 당 최대 샘플 수
+     * @param maxDepth 샘플 당 최대 스택 깊이
+     * @param capacity 보관할 최근 리포트 수
+     */
+    public SlowRequestWatchdog(
+            long thresholdMillis,
+            long sampleIntervalMillis,
+            int maxSamples,
+            int maxDepth,
+            int capacity) {
+        if (thresholdMillis <= 0 || sampleIntervalMillis <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException(
+                    "thresholdMillis, sampleIntervalMillis, capacity must be greater than zero");
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.maxSamples = Math.max(maxSamples, 0);
+        this.maxDepth = Math.max(maxDepth, 1);
+        this.reports = new AtomicReferenceArray<>(capacity);
+        this.threadWatch =
+                ThreadLocal.withInitial(
+                        () -> {
+                            var watch = new Watch(Thread.currentThread(), this.maxSamples);
+                            watches.add(watch);
+                            return watch;
+                        });
+    }
+
+    /**
+     * 요청 감시 시작
+     *
+     * @param method HTTP 메소드
+     * @param route 라우트 템플릿
+     * @param uri 요청 URI
+     * @return 현재 쓰레드의 감시 항목, {@link #end} 에 전달한다.
+     */
+    public Watch begin(String method, String route, String uri) {
+        var watch = threadWatch.get();
+        watch.method = method;
+        watch.route = route;
+        watch.uri = uri;
+        watch.startedAtMillis = System.currentTimeMillis();
+        // 다른 필드 기록 후 마지막에 기록하여 샘플링 쓰레드에 함께 공개한다.(volatile)
+        watch.startNanos = System.nanoTime();
+        if (sampler == null) {
+            startSampler();
+        }
+        return watch;
+    }
+
+    /**
+     * 요청 감시 종료, 임계시간을 넘긴 경우 리포트를 저장한다.
+     *
+     * @param watch {@link #begin} 에서 반환된 감시 항목
+     * @param status 응답 상태코드
+     * @param exception 예외 클래스명, 예외가 없는 경우 null
+     */
+    public void end(Watch watch, int status, @Nullable String exception) {
+        var endNanos = System.nanoTime();
+        var startNanos = watch.startNanos;
+        if (startNanos == 0) {
+            return;
+        }
+        watch.startNanos = 0;
+        var elapsedNanos = endNanos - startNanos;
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        var report =
+                new SlowRequestReport(
+                        watch.method,
+                        watch.route,
+                        watch.uri,
+                        watch.thread.getName(),
+                        watch.startedAtMillis,
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        status,
+                        exception,
+                        watch.drainSamples(startNanos));
+        var sequence = reportSequence.getAndIncrement();
+        reports.set((int) (sequence % reports.length()), report);
+        log.warn(
+                "Slow request. {} {} took {}ms (status: {}, samples: {})",
+                report.getMethod(),
+                report.getRoute(),
+                report.getElapsedMillis(),
+                status,
+                report.getSamples().size());
+    }
+
+    /**
+     * 리포트 없이 요청 감시 해제
+     *
+     * <p>비동기 처리(SSE, DeferredResult 등)가 시작되어 쓰레드가 풀로 반환되는 경우 호출한다. 이후 같은 쓰레드의
+     * 다른 작업이 샘플링되지 않는다.
+     *
+     * @param watch {@link #begin} 에서 반환된 감시 항목
+     */
+    public void detach(Watch watch) {
+        watch.startNanos = 0;
+    }
+
+    /** 최근 리포트 목록(최신순) */
+    public List<SlowRequestReport> recentReports() {
+        var sequence = reportSequence.get();
+        var count = (int) Math.min(sequence, reports.length());
+        var recentReports = new ArrayList<SlowRequestReport>(count);
+        for (long i = sequence - 1; i >= sequence - count; i--) {
+            var report = reports.get((int) (i % reports.length()));
+            if (report != null) {
+                recentReports.add(report);
+            }
+        }
+        return Collections.unmodifiableList(recentReports);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        var thread = sampler;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private synchronized void startSampler() {
+        if (sampler != null || closed) {
+            return;
+        }
+        var thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        sampler = thread;
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                Thread.sleep(sampleIntervalMillis);
+            } catch (InterruptedException e) {
+                if (closed) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            try {
+                sample();
+            } catch (RuntimeException e) {
+                log.error("Slow request sampling failed.", e);
+            }
+        }
+    }
+
+    /** 샘플링 쓰레드 전용 */
+    void sample() {
+        var now = System.nanoTime();
+        for (Watch watch : watches) {
+            if (!watch.thread.isAlive()) {
+                watches.remove(watch);
+                continue;
+            }
+            var startNanos = watch.startNanos;
+            if (startNanos == 0 || now - startNanos < thresholdNanos || maxSamples == 0) {
+                continue;
+            }
+            if (watch.sampleCount(startNanos) >= maxSamples) {
+                continue;
+            }
+            var stackTrace = watch.thread.getStackTrace();
+            var frames = new ArrayList<String>(Math.min(stackTrace.length, maxDepth));
+            for (int i = 0; i < stackTrace.length && i < maxDepth; i++) {
+                frames.add(stackTrace[i].toString());
+            }
+            var offsetMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            watch.addSample(
+                    startNanos,
+                    new SlowRequestReport.StackSample(
+                            offsetMillis, Collections.unmodifiableList(frames)));
+        }
+    }
+
+    /**
+     *
+     *
+     * <h3>Watch</h3>
+     *
+     * 쓰레드 당 감시 항목. 샘플은 요청 시작 시각(startNanos)으로 구분하여, 종료된 요청의 샘플이 다음 요청에 섞이지
+     * 않는다.
+     */
+    public static final class Watch {
+
+        private final Thread thread;
+        private final SlowRequestReport.StackSample[] samples;
+
+        private String method;
+        private String route;
+        private String uri;
+        private long startedAtMillis;
+        private volatile long startNanos;
+
+        /** 샘플이 속한 요청의 시작 시각, this 로 동기화 */
+        private long sampledStartNanos;
+
+        private int sampleCount;
+
+        private Watch(Thread thread, int maxSamples) {
+            this.thread = thread;
+            this.samples = new SlowRequestReport.StackSample[maxSamples];
+        }
+
+        private synchronized int sampleCount(long requestStartNanos) {
+            return sampledStartNanos == requestStartNanos ? sampleCount : 0;
+        }
+
+        private synchronized void addSample(
+                long requestStartNanos, SlowRequestReport.StackSample sample) {
+            // 샘플 수집 중 요청이 종료된 경우 버린다.
+            if (startNanos != requestStartNanos) {
+                return;
+            }
+            if (sampledStartNanos != requestStartNanos) {
+                sampledStartNanos = requestStartNanos;
+                sampleCount = 0;
+            }
+            if (sampleCount < samples.length) {
+                samples[sampleCount++] = sample;
+            }
+        }
+
+        private synchronized List<SlowRequestReport.StackSample> drainSamples(
+                long requestStartNanos) {
+            if (sampledStartNanos != requestStartNanos || sampleCount == 0) {
+                return Collections.emptyList();
+            }
+            var drained = List.of(Arrays.copyOf(samples, sampleCount));
+            sampleCount = 0;
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dykim.base.metrics;
+
+import java.lang.management.ManagementFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ *
+ *
+ * <h3>Thread Allocation</h3>
+ *
+ * 현재 쓰레드의 누적 힙 할당량 조회
+ *
+ * <pre>
+ *  - com.sun.management.ThreadMXBean(HotSpot) 을 사용하며, 지원하지 않는 JVM 에서는 -1 을 반환한다.
+ *  - 쓰레드 로컬 할당 카운터를 읽으므로 GC 나 힙 덤프 없이 요청 구간의 할당량을 측정할 수 있다.
+ *    ㄴ 두 시점의 차이 = 해당 구간에서 현재 쓰레드가 할당한 바이트(TLAB 단위 근사치)
+ * </pre>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ThreadAllocation {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMxBean();
+
+    /** 할당량 측정 지원 여부 */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /** 현재 쓰레드의 누적 할당량(byte), 지원하지 않는 경우 -1 */
+    public static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadMxBean() {
+        try {
+            var threadMxBean = ManagementFactory.getThreadMXBean();
+            if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            var hotspotThreadMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+            if (!hotspotThreadMxBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!hotspotThreadMxBean.isThreadAllocatedMemoryEnabled()) {
+                hotspotThreadMxBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return hotspotThreadMxBean;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            log.warn("Thread allocated memory is not supported. {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.dykim.base.metrics.dashboard;
+
+import com.dykim.base.dto.performance.DashboardRspDto;
+import java.io.IOException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ *
+ *
+ * <h3>Dashboard Broadcaster</h3>
+ *
+ * 성능 대시보드 구독자에게 지표를 Server-Sent Events 로 전송한다.
+ *
+ * <pre>
+ *  1. 구독 - {@link #subscribe} 로 SseEmitter 를 등록한다.
+ *    ㄴ 구독자 수는 maxSubscribers 로 제한하며, 초과 시 가장 오래된 구독을 종료한다.
+ *    ㄴ 첫 구독자인 경우 {@link DashboardMetrics#reset} 으로 차이 계산 기준점을 갱신한다.
+ *  2. 전송 - base.performance.dashboard.interval-millis 주기로 1회 수집하여 모든 구독자에게 전송한다.
+ *    ㄴ 구독자가 없으면 수집하지 않는다.
+ *    ㄴ 전송 실패(연결 종료) 시 구독을 제거한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class DashboardBroadcaster {
+
+    public static final String EVENT_NAME = "metrics";
+
+    private final CopyOnWriteArrayList<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final DashboardMetrics dashboardMetrics;
+
+    private final long timeoutMillis;
+
+    private final int maxSubscribers;
+
+    public DashboardBroadcaster(
+            DashboardMetrics dashboardMetrics,
+            @Value("${base.performance.dashboard.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${base.performance.dashboard.max-subscribers:10}") int maxSubscribers) {
+        this.dashboardMetrics = dashboardMetrics;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = Math.max(maxSubscribers, 1);
+    }
+
+    /**
+     * 대시보드 구독
+     *
+     * @return 응답으로 반환할 SseEmitter
+     */
+    public SseEmitter subscribe() {
+        var emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        if (emitters.isEmpty()) {
+            dashboardMetrics.reset();
+        }
+        emitters.add(emitter);
+        while (emitters.size() > maxSubscribers) {
+            var oldest = emitters.remove(0);
+            oldest.complete();
+        }
+        return emitter;
+    }
+
+    /** 현재 구독자 수 */
+    public int subscriberCount() {
+        return emitters.size();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${base.performance.dashboard.interval-millis:2000}",
+            initialDelayString = "${base.performance.dashboard.interval-millis:2000}")
+    public void broadcast() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        var dashboard = new DashboardRspDto(dashboardMetrics.sample());
+        for (var emitter : emitters) {
+            try {
+                emitter.send(
+                        SseEmitter.event()
+                                .name(EVENT_NAME)
+                                .data(dashboard, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dashboard subscriber disconnected. {}", e.getMessage());
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.dykim.base.metrics.dashboard;
+
+import com.dykim.base.advice.common.exception.HandlerDebounceException;
+import com.dykim.base.metrics.HistogramSnapshot;
+import com.dykim.base.metrics.RouteLatencyRegistry;
+import com.dykim.base.metrics.RouteLatencyRegistry.RouteKey;
+import com.dykim.base.metrics.dashboard.DashboardSnapshot.JvmStat;
+import com.dykim.base.metrics.dashboard.DashboardSnapshot.PoolStat;
+import com.dykim.base.metrics.dashboard.DashboardSnapshot.RouteStat;
+import com.zaxxer.hikari.HikariDataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ *
+ *
+ * <h3>Dashboard Metrics</h3>
+ *
+ * 성능 대시보드용 인메모리 지표 수집기
+ *
+ * <pre>
+ *  - 라우트 처리량 / 오류(5xx): {@link RouteLatencyRegistry} 누적 요청 수의 직전 수집 대비 차이
+ *  - 라우트 처리시간 백분위: 최근 1분 히스토그램을 상태코드 분류, 예외 구분 없이 합산
+ *  - 디바운스 차단: HandlerDebounceException 으로 기록된 요청 수의 차이
+ *  - 로그인 성공 / 실패: 스프링 시큐리티 인증 이벤트 수
+ *  - 커넥션 풀: HikariCP 풀 MXBean(Hikari 가 아닌 경우 생략)
+ *  - 힙 / GC: JVM MXBean
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) 초당 값은 수집 주기와 관계없이 직전 {@link #sample} 호출과의 실제 경과시간으로 나눈다.</b>
+ *  - 수집은 구독자가 있는 경우에만 수행하므로, 구독 시작 시 {@link #reset} 으로 기준점을 갱신한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class DashboardMetrics {
+
+    private static final String DEBOUNCE_EXCEPTION = HandlerDebounceException.class.getSimpleName();
+
+    private final RouteLatencyRegistry routeLatencyRegistry;
+    private final ObjectProvider<DataSource> dataSource;
+
+    private final LongAdder loginSuccess = new LongAdder();
+    private final LongAdder loginFailure = new LongAdder();
+
+    private Map<RouteKey, Long> lastRouteCounts = new HashMap<>();
+    private long lastLoginSuccess;
+    private long lastLoginFailure;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastSampleNanos;
+
+    public DashboardMetrics(
+            RouteLatencyRegistry routeLatencyRegistry, ObjectProvider<DataSource> dataSource) {
+        this.routeLatencyRegistry = routeLatencyRegistry;
+        this.dataSource = dataSource;
+    }
+
+    @EventListener
+    public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        loginSuccess.increment();
+    }
+
+    @EventListener
+    public void onAuthenticationFailure(AbstractAuthenticationFailureEvent event) {
+        loginFailure.increment();
+    }
+
+    /** 차이 계산 기준점을 현재 값으로 갱신한다. */
+    public synchronized void reset() {
+        sample();
+    }
+
+    /**
+     * 지표 수집
+     *
+     * @return 현재 지표, 초당 값은 직전 수집 이후 기준
+     */
+    public synchronized DashboardSnapshot sample() {
+        var currentTimeMillis = System.currentTimeMillis();
+        var nanos = System.nanoTime();
+        var elapsedNanos = lastSampleNanos == 0 ? 0 : nanos - lastSampleNanos;
+        var elapsedSeconds = elapsedNanos / 1_000_000_000d;
+        lastSampleNanos = nanos;
+
+        // 1. 라우트 별 처리량, 처리시간
+        var routeCounts = new HashMap<RouteKey, Long>();
+        var routes = new HashMap<String, RouteAccumulator>();
+        var debounceRejections = 0L;
+        for (var entry : routeLatencyRegistry.getLatencies().entrySet()) {
+            var key = entry.getKey();
+            var count = entry.getValue().getCount();
+            var delta = count - lastRouteCounts.getOrDefault(key, 0L);
+            routeCounts.put(key, count);
+
+            var accumulator =
+                    routes.computeIfAbsent(
+                            key.getMethod() + ' ' + key.getRoute(),
+                            name -> new RouteAccumulator(key.getMethod(), key.getRoute()));
+            accumulator.requests += delta;
+            if (key.getStatusClass() == 5) {
+                accumulator.errors += delta;
+            }
+            accumulator.latency =
+                    accumulator.latency.merge(entry.getValue().snapshot(1, currentTimeMillis));
+            if (DEBOUNCE_EXCEPTION.equals(key.getException())) {
+                debounceRejections += delta;
+            }
+        }
+        lastRouteCounts = routeCounts;
+        var routeStats = new ArrayList<RouteStat>(routes.size());
+        for (var accumulator : routes.values()) {
+            routeStats.add(
+                    new RouteStat(
+                            accumulator.method,
+                            accumulator.route,
+                            perSecond(accumulator.requests, elapsedSeconds),
+                            perSecond(accumulator.errors, elapsedSeconds),
+                            accumulator.latency));
+        }
+        routeStats.sort(
+                Comparator.comparingDouble(RouteStat::getRequestsPerSecond)
+                        .reversed()
+                        .thenComparing(RouteStat::getRoute));
+
+        // 2. 로그인
+        var success = loginSuccess.sum();
+        var failure = loginFailure.sum();
+        var loginSuccessPerSecond = perSecond(success - lastLoginSuccess, elapsedSeconds);
+        var loginFailurePerSecond = perSecond(failure - lastLoginFailure, elapsedSeconds);
+        lastLoginSuccess = success;
+        lastLoginFailure = failure;
+
+        // 3. 커넥션 풀, JVM
+        return new DashboardSnapshot(
+                currentTimeMillis,
+                elapsedNanos / 1_000_000,
+                routeStats,
+                perSecond(debounceRejections, elapsedSeconds),
+                loginSuccessPerSecond,
+                loginFailurePerSecond,
+                samplePool(),
+                sampleJvm());
+    }
+
+    @Nullable
+    private PoolStat samplePool() {
+        var source = dataSource.getIfAvailable();
+        if (source == null) {
+            return null;
+        }
+        try {
+            if (!source.isWrapperFor(HikariDataSource.class)) {
+                return null;
+            }
+            var hikari = source.unwrap(HikariDataSource.class);
+            var pool = hikari.getHikariPoolMXBean();
+            if (pool == null) {
+                return null;
+            }
+            return new PoolStat(
+                    pool.getActiveConnections(),
+                    pool.getIdleConnections(),
+                    pool.getTotalConnections(),
+                    hikari.getMaximumPoolSize(),
+                    pool.getThreadsAwaitingConnection());
+        } catch (SQLException e) {
+            log.debug("Connection pool is not available. {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private JvmStat sampleJvm() {
+        var gcCount = 0L;
+        var gcMillis = 0L;
+        for (var gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(gc.getCollectionCount(), 0);
+            gcMillis += Math.max(gc.getCollectionTime(), 0);
+        }
+        var heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        var jvm =
+                new JvmStat(
+                        heap.getUsed(),
+                        heap.getMax(),
+                        gcCount,
+                        gcMillis,
+                        gcCount - lastGcCount,
+                        gcMillis - lastGcMillis);
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        return jvm;
+    }
+
+    private static double perSecond(long delta, double elapsedSeconds) {
+        return elapsedSeconds > 0 ? Math.max(delta, 0) / elapsedSeconds : 0;
+    }
+
+    private static final class RouteAccumulator {
+
+        private final String method;
+        private final String route;
+        private long requests;
+        private long errors;
+        private HistogramSnapshot latency = HistogramSnapshot.empty();
+
+        private RouteAccumulator(String method, String route) {
+            this.method = method;
+            this.route = route;
+        }
+    }
+}
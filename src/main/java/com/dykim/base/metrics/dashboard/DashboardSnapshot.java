@@ -0,0 +1,65 @@
+package com.dykim.base.metrics.dashboard;
+
+import com.dykim.base.metrics.HistogramSnapshot;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>Dashboard Snapshot</h3>
+ *
+ * {@link DashboardMetrics#sample} 시점의 지표, 초당 값은 직전 수집 시점과의 차이로 계산한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class DashboardSnapshot {
+
+    private final long timestampMillis;
+    private final long elapsedMillis;
+    private final List<RouteStat> routes;
+    private final double debounceRejectionsPerSecond;
+    private final double loginSuccessPerSecond;
+    private final double loginFailurePerSecond;
+    @Nullable private final PoolStat pool;
+    private final JvmStat jvm;
+
+    /** 라우트(메소드 + 라우트 템플릿) 별 처리량, 최근 1분 처리시간 */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class RouteStat {
+
+        private final String method;
+        private final String route;
+        private final double requestsPerSecond;
+        private final double errorsPerSecond;
+        private final HistogramSnapshot latency;
+    }
+
+    /** 커넥션 풀 사용량 */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class PoolStat {
+
+        private final int active;
+        private final int idle;
+        private final int total;
+        private final int max;
+        private final int pending;
+    }
+
+    /** 힙, GC 지표 */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class JvmStat {
+
+        private final long heapUsedBytes;
+        private final long heapMaxBytes;
+        private final long gcCount;
+        private final long gcMillis;
+        private final long gcCountDelta;
+        private final long gcMillisDelta;
+    }
+}
@@ -0,0 +1,101 @@
+package com.dykim.base.metrics.jfr;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import lombok.Getter;
+
+/**
+ *
+ *
+ * <h3>Collapsed Stacks</h3>
+ *
+ * 스택 별 가중치(샘플 수, 할당 바이트) 집계
+ *
+ * <pre>
+ *  - 스택은 루트 프레임부터 ';' 로 이어 붙인 문자열(collapsed stack)을 키로 집계한다.
+ *  - 프레임은 클래스명.메소드명 형식이며, 라인 번호는 포함하지 않는다.
+ *  - {@link #toCollapsed()} 결과는 flamegraph.pl 등 외부 도구 입력으로 그대로 사용할 수 있다.
+ * </pre>
+ *
+ * <pre>
+ * 예)
+ *  java.lang.Thread.run;com.dykim.base.service.MemberService.update 12
+ * </pre>
+ */
+public final class CollapsedStacks {
+
+    private final Map<String, long[]> weights = new HashMap<>();
+
+    @Getter private long total;
+
+    /**
+     * 스택 가중치 추가
+     *
+     * @param stackTrace JFR 스택, null 인 경우 무시한다.
+     * @param weight 가중치
+     */
+    public void add(RecordedStackTrace stackTrace, long weight) {
+        if (stackTrace == null || weight <= 0) {
+            return;
+        }
+        var frames = stackTrace.getFrames();
+        var builder = new StringBuilder(frames.size() * 48);
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            if (builder.length() > 0) {
+                builder.append(';');
+            }
+            appendFrame(builder, frames.get(i));
+        }
+        add(builder.toString(), weight);
+    }
+
+    /**
+     * 스택 가중치 추가
+     *
+     * @param stack 루트 프레임부터 ';' 로 이어 붙인 스택
+     * @param weight 가중치
+     */
+    public void add(String stack, long weight) {
+        weights.computeIfAbsent(stack, key -> new long[1])[0] += weight;
+        total += weight;
+    }
+
+    /** 집계된 스택 수 */
+    public int size() {
+        return weights.size();
+    }
+
+    /** 가중치 내림차순 collapsed stack 목록 */
+    public List<Map.Entry<String, Long>> entries() {
+        var entries = new ArrayList<Map.Entry<String, Long>>(weights.size());
+        weights.forEach((stack, weight) -> entries.add(Map.entry(stack, weight[0])));
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        return entries;
+    }
+
+    /** 한 줄에 "스택 가중치" 형식의 collapsed stack 문자열 */
+    public String toCollapsed() {
+        var builder = new StringBuilder();
+        for (var entry : entries()) {
+            builder.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static void appendFrame(StringBuilder builder, RecordedFrame frame) {
+        var method = frame.getMethod();
+        if (method == null) {
+            builder.append("[unknown]");
+            return;
+        }
+        var type = method.getType();
+        if (type != null) {
+            builder.append(type.getName()).append('.');
+        }
+        builder.append(method.getName());
+    }
+}
@@ -0,0 +1,44 @@
+package com.dykim.base.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ *
+ *
+ * <h3>Debounce Decision Event</h3>
+ *
+ * DebounceInterceptor 의 디바운스 획득(통과 / 차단) JFR 이벤트, 지속시간은 저장소 조회 시간이다.
+ */
+@Name("com.dykim.base.DebounceDecision")
+@Label("Debounce Decision")
+@Category({"Base Project", "Web"})
+@Description("Debounce store acquire result of DebounceInterceptor")
+@StackTrace(false)
+public class DebounceDecisionEvent extends Event {
+
+    @Label("Key")
+    @Description("Debounce key, route template with key variables")
+    public String key;
+
+    @Label("Passed")
+    public boolean passed;
+
+    @Label("Remaining")
+    @Description("Remaining debounce time when rejected, 0 if passed")
+    @Timespan(Timespan.MILLISECONDS)
+    public long remaining;
+
+    @Label("Debounce Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long debounce;
+
+    @Label("Sessionless")
+    @Description("Acquired by client fingerprint instead of session")
+    public boolean sessionless;
+}
@@ -0,0 +1,178 @@
+package com.dykim.base.metrics.jfr;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ *
+ *
+ * <h3>Flame Graph Html</h3>
+ *
+ * {@link CollapsedStacks} 를 스크립트, 외부 리소스 없는 단일 HTML 플레임 그래프로 변환한다.
+ *
+ * <pre>
+ *  1. collapsed stack 을 프레임 트리로 합친다.
+ *  2. 루트부터 깊이 우선으로 가로 위치(비율)와 너비(가중치 비율)를 계산한다.
+ *  3. 프레임 당 절대 위치 div 1개로 그리며, 아래에서 위로 쌓는다.
+ *    ㄴ 전체 가중치의 MIN_WIDTH_RATIO 미만인 프레임은 생략하여 문서 크기를 제한한다.
+ *    ㄴ 프레임 이름, 가중치, 비율은 title(마우스 오버)로 확인한다.
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FlameGraphHtml {
+
+    private static final double MIN_WIDTH_RATIO = 0.0005;
+    private static final int FRAME_HEIGHT = 17;
+
+    private static final String STYLE =
+            "body{font:12px sans-serif;margin:16px}"
+                    + ".g{position:relative;width:100%;margin-bottom:32px;"
+                    + "border-bottom:1px solid #ccc}"
+                    + ".f{position:absolute;height:16px;overflow:hidden;white-space:nowrap;"
+                    + "box-sizing:border-box;border:1px solid #fff;padding-left:2px;"
+                    + "font:11px monospace;line-height:14px;cursor:default}"
+                    + ".f:hover{border-color:#000}";
+
+    /**
+     * 플레임 그래프 HTML 문서 생성
+     *
+     * @param title 문서 제목
+     * @param graphs 제목 별 플레임 그래프(가중치 단위 포함)
+     * @return HTML 문서
+     */
+    public static String render(String title, Map<String, CollapsedStacks> graphs) {
+        var html = new StringBuilder(64 * 1024);
+        html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>")
+                .append(escape(title))
+                .append("</title><style>")
+                .append(STYLE)
+                .append("</style></head><body><h2>")
+                .append(escape(title))
+                .append("</h2>");
+        graphs.forEach((name, stacks) -> renderGraph(html, name, stacks));
+        return html.append("</body></html>").toString();
+    }
+
+    private static void renderGraph(StringBuilder html, String name, CollapsedStacks stacks) {
+        html.append("<h3>")
+                .append(escape(name))
+                .append(" (total: ")
+                .append(stacks.getTotal())
+                .append(", stacks: ")
+                .append(stacks.size())
+                .append(")</h3>");
+        if (stacks.getTotal() == 0) {
+            html.append("<p>No samples.</p>");
+            return;
+        }
+        var root = new Node("all");
+        for (var entry : stacks.entries()) {
+            var node = root;
+            node.weight += entry.getValue();
+            for (var frame : entry.getKey().split(";")) {
+                node = node.children.computeIfAbsent(frame, Node::new);
+                node.weight += entry.getValue();
+            }
+        }
+        var minWeight = (long) Math.ceil(root.weight * MIN_WIDTH_RATIO);
+        var frames = new StringBuilder();
+        var maxDepth = renderNode(frames, root, root.weight, minWeight, 0, 0);
+        html.append("<div class=\"g\" style=\"height:")
+                .append((maxDepth + 1) * FRAME_HEIGHT)
+                .append("px\">")
+                .append(frames)
+                .append("</div>");
+    }
+
+    /** 프레임과 하위 프레임을 그리고 가장 깊은 깊이를 반환한다. */
+    private static int renderNode(
+            StringBuilder html, Node node, long total, long minWeight, long offset, int depth) {
+        var ratio = (double) node.weight / total;
+        html.append("<div class=\"f\" style=\"left:")
+                .append(percent((double) offset / total))
+                .append("%;width:")
+                .append(percent(ratio))
+                .append("%;bottom:")
+                .append(depth * FRAME_HEIGHT)
+                .append("px;background:")
+                .append(color(node.name))
+                .append("\" title=\"")
+                .append(escape(node.name))
+                .append(" (")
+                .append(node.weight)
+                .append(", ")
+                .append(percent(ratio))
+                .append("%)\">")
+                .append(escape(shortName(node.name)))
+                .append("</div>");
+        var maxDepth = depth;
+        var childOffset = offset;
+        for (var child : node.children.values()) {
+            if (child.weight >= minWeight) {
+                maxDepth =
+                        Math.max(
+                                maxDepth,
+                                renderNode(html, child, total, minWeight, childOffset, depth + 1));
+            }
+            childOffset += child.weight;
+        }
+        return maxDepth;
+    }
+
+    private static String percent(double ratio) {
+        return String.format(Locale.ROOT, "%.3f", ratio * 100);
+    }
+
+    /** 패키지명을 제외한 클래스명.메소드명 */
+    private static String shortName(String frame) {
+        var methodIndex = frame.lastIndexOf('.');
+        var classIndex = methodIndex > 0 ? frame.lastIndexOf('.', methodIndex - 1) : -1;
+        return classIndex >= 0 ? frame.substring(classIndex + 1) : frame;
+    }
+
+    /** 프레임 이름 별로 고정된 난색 계열 색상 */
+    private static String color(String frame) {
+        var hash = frame.hashCode() & 0x7fffffff;
+        var hue = hash % 50;
+        var lightness = 55 + (hash >>> 8) % 20;
+        return "hsl(" + hue + ",85%," + lightness + "%)";
+    }
+
+    private static String escape(String value) {
+        var builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    builder.append("&lt;");
+                    break;
+                case '>':
+                    builder.append("&gt;");
+                    break;
+                case '&':
+                    builder.append("&amp;");
+                    break;
+                case '"':
+                    builder.append("&quot;");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static final class Node {
+
+        private final String name;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private long weight;
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+}
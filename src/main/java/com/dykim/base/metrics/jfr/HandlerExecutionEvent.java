@@ -0,0 +1,43 @@
+package com.dykim.base.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ *
+ *
+ * <h3>Handler Execution Event</h3>
+ *
+ * 요청 1건의 처리(필터 진입 ~ 종료) JFR 이벤트, RequestTimingFilter 에서 기록한다.
+ */
+@Name("com.dykim.base.HandlerExecution")
+@Label("Handler Execution")
+@Category({"Base Project", "Web"})
+@Description("HTTP request handled by a controller, from filter entry to completion")
+@StackTrace(false)
+public class HandlerExecutionEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("Route template, e.g. /api/member/v1/{mbrId}")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Exception")
+    @Description("Exception class resolved by controller advice, null if none")
+    public String exception;
+
+    @Label("Handler Duration")
+    @Description("Time spent in the handler method, -1 if not reached")
+    @Timespan(Timespan.NANOSECONDS)
+    public long handlerDuration;
+}
@@ -0,0 +1,220 @@
+package com.dykim.base.metrics.jfr;
+
+import com.dykim.base.advice.common.exception.InvalidProfilingDurationException;
+import com.dykim.base.advice.common.exception.ProfilingInProgressException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ *
+ *
+ * <h3>JFR Profiler</h3>
+ *
+ * 요청 시점에 JFR 녹화를 일정 시간 수행하고, 녹화 파일을 프로세스 안에서 분석하여 스택 별로 집계한다.
+ *
+ * <pre>
+ *  1. 녹화 시작 - 선택한 JFR 설정(default | profile)으로 임시 파일에 녹화한다.
+ *    ㄴ 동시에 1개의 녹화만 허용하며, 녹화 중 요청은 ProfilingInProgressException(409)
+ *    ㄴ 녹화 시간은 1초 ~ base.performance.jfr.max-duration-seconds 로 제한한다.
+ *    ㄴ 요청 값은 {@link #durationOf} 로 검증하며, 범위를 벗어난 경우 InvalidProfilingDurationException(400)
+ *  2. 녹화 종료 후 jdk.jfr.consumer 로 이벤트를 순차적으로 읽어 집계한다.
+ *    ㄴ CPU: jdk.ExecutionSample 샘플 수
+ *    ㄴ 할당: jdk.ObjectAllocationSample(JDK 16+) weight,
+ *       jdk.ObjectAllocationInNewTLAB / OutsideTLAB 할당 바이트
+ *  3. 임시 파일 삭제
+ * </pre>
+ *
+ * <pre>
+ * <b>참고) JDK 11 ~ 15 는 default 설정에서 할당 이벤트가 비활성화되어 있어 profile 설정을 사용해야 한다.</b>
+ * 쉘 접근이나 외부 에이전트 없이 운영 호스트에서 프로파일링하기 위한 용도로,
+ * 요청 쓰레드는 녹화 시간동안 대기한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class JfrProfiler {
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String ALLOCATION_IN_NEW_TLAB = "jdk.ObjectAllocationInNewTLAB";
+    private static final String ALLOCATION_OUTSIDE_TLAB = "jdk.ObjectAllocationOutsideTLAB";
+
+    private static final Duration MIN_DURATION = Duration.ofSeconds(1);
+
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    private final long maxDurationSeconds;
+
+    public JfrProfiler(
+            @Value("${base.performance.jfr.max-duration-seconds:60}") long maxDurationSeconds) {
+        this.maxDurationSeconds = Math.max(maxDurationSeconds, 1);
+    }
+
+    /**
+     * JFR 녹화 및 스택 집계
+     *
+     * @param settings JFR 설정
+     * @param duration 녹화 시간(1초 ~ 최대 녹화 시간으로 보정)
+     * @return CPU, 할당 스택 집계
+     * @throws ProfilingInProgressException 이미 녹화 중인 경우
+     */
+    public Profile profile(Settings settings, Duration duration) throws IOException {
+        if (!recording.compareAndSet(false, true)) {
+            throw new ProfilingInProgressException("JFR profiling is already in progress.");
+        }
+        Path file = null;
+        try {
+            file = Files.createTempFile("base-profile-", ".jfr");
+            record(settings, clamp(duration), file);
+            return parse(settings, file);
+        } finally {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+            recording.set(false);
+        }
+    }
+
+    /**
+     * 요청 녹화 시간(초) 검증
+     *
+     * @param durationSeconds 녹화 시간(초)
+     * @return 녹화 시간
+     * @throws InvalidProfilingDurationException 1초 ~ 최대 녹화 시간을 벗어난 경우
+     */
+    public Duration durationOf(long durationSeconds) {
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new InvalidProfilingDurationException(
+                    "JFR profiling duration must be between 1 and "
+                            + maxDurationSeconds
+                            + " seconds. durationSeconds: "
+                            + durationSeconds);
+        }
+        return Duration.ofSeconds(durationSeconds);
+    }
+
+    /** 녹화 진행 여부 */
+    public boolean isRecording() {
+        return recording.get();
+    }
+
+    /** 밀리초 변환 시 overflow 가 없도록 Duration 으로 비교한다. */
+    private Duration clamp(Duration duration) {
+        if (duration.compareTo(MIN_DURATION) < 0) {
+            return MIN_DURATION;
+        }
+        var maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        return duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+    }
+
+    private static void record(Settings settings, Duration duration, Path file)
+            throws IOException {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings.getConfigurationName());
+        } catch (ParseException e) {
+            throw new IOException("Invalid JFR configuration: " + settings, e);
+        }
+        try (var jfr = new Recording(configuration)) {
+            jfr.setName("base-profile");
+            jfr.setToDisk(true);
+            jfr.setDestination(file);
+            log.info("JFR profiling started. settings: {}, duration: {}", settings, duration);
+            jfr.start();
+            try {
+                Thread.sleep(duration.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("JFR profiling interrupted. Stop recording.");
+            }
+            jfr.stop();
+        }
+    }
+
+    private static Profile parse(Settings settings, Path file) throws IOException {
+        var cpu = new CollapsedStacks();
+        var allocation = new CollapsedStacks();
+        try (var recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                var event = recordingFile.readEvent();
+                switch (event.getEventType().getName()) {
+                    case EXECUTION_SAMPLE:
+                        cpu.add(event.getStackTrace(), 1);
+                        break;
+                    case ALLOCATION_SAMPLE:
+                        allocation.add(event.getStackTrace(), longField(event, "weight"));
+                        break;
+                    case ALLOCATION_IN_NEW_TLAB:
+                        allocation.add(event.getStackTrace(), longField(event, "tlabSize"));
+                        break;
+                    case ALLOCATION_OUTSIDE_TLAB:
+                        allocation.add(event.getStackTrace(), longField(event, "allocationSize"));
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        log.info(
+                "JFR profiling finished. cpu samples: {}, allocation bytes: {}",
+                cpu.getTotal(),
+                allocation.getTotal());
+        return new Profile(settings, cpu, allocation);
+    }
+
+    private static long longField(RecordedEvent event, String name) {
+        return event.hasField(name) ? event.getLong(name) : 0L;
+    }
+
+    /** JFR 설정(JDK 기본 제공 설정 파일) */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Settings {
+        /** 상시 녹화용 저비용 설정(약 1% 미만) */
+        DEFAULT("default"),
+        /** 짧은 분석용 설정(샘플링 주기 단축, TLAB 할당 이벤트 포함) */
+        PROFILE("profile");
+
+        private final String configurationName;
+    }
+
+    /** 녹화 결과 */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Profile {
+
+        private final Settings settings;
+        private final CollapsedStacks cpu;
+        private final CollapsedStacks allocation;
+
+        /** 플레임 그래프 HTML */
+        public String toHtml() {
+            var graphs = new LinkedHashMap<String, CollapsedStacks>();
+            graphs.put("CPU samples", cpu);
+            graphs.put("Allocation bytes", allocation);
+            return FlameGraphHtml.render("JFR profile (" + settings + ")", graphs);
+        }
+
+        /** collapsed stack 텍스트, 구분 주석 아래에 CPU, 할당 순으로 작성한다. */
+        public String toCollapsed() {
+            return "# cpu samples\n"
+                    + cpu.toCollapsed()
+                    + "# allocation bytes\n"
+                    + allocation.toCollapsed();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dykim.base.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ *
+ *
+ * <h3>Password Verification Event</h3>
+ *
+ * PasswordEncoder.matches(비밀번호 해시 비교) JFR 이벤트
+ */
+@Name("com.dykim.base.PasswordVerification")
+@Label("Password Verification")
+@Category({"Base Project", "Security"})
+@Description("PasswordEncoder.matches, dominated by hash cost (e.g. bcrypt)")
+@StackTrace(false)
+public class PasswordVerificationEvent extends Event {
+
+    @Label("Encoder")
+    public String encoder;
+
+    @Label("Matched")
+    public boolean matched;
+}
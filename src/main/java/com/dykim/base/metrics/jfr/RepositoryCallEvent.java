@@ -0,0 +1,30 @@
+package com.dykim.base.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ *
+ *
+ * <h3>Repository Call Event</h3>
+ *
+ * Spring Data 레포지토리 메소드 호출 JFR 이벤트, RepositoryEventAspect 에서 기록한다.
+ */
+@Name("com.dykim.base.RepositoryCall")
+@Label("Repository Call")
+@Category({"Base Project", "Data"})
+@Description("Spring Data repository method invocation")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
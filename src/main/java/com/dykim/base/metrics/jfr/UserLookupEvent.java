@@ -0,0 +1,32 @@
+package com.dykim.base.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ *
+ *
+ * <h3>User Lookup Event</h3>
+ *
+ * UserDetailsServiceImpl.loadUserByUsername JFR 이벤트
+ *
+ * <pre>
+ * <b>참고) 녹화 파일이 외부로 전달될 수 있으므로 사용자 식별값(이메일)은 기록하지 않는다.</b>
+ * </pre>
+ */
+@Name("com.dykim.base.UserLookup")
+@Label("User Lookup")
+@Category({"Base Project", "Security"})
+@Description("UserDetailsService.loadUserByUsername")
+public class UserLookupEvent extends Event {
+
+    @Label("Found")
+    public boolean found;
+
+    @Label("Cached")
+    @Description("UserDetailsCache 에서 조회된 경우 true")
+    public boolean cached;
+}
@@ -0,0 +1,162 @@
+package com.dykim.base.metrics.sql;
+
+import com.dykim.base.advice.common.exception.SqlBudgetExceededException;
+import com.dykim.base.config.annotation.SqlBudget;
+import java.util.Arrays;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>SQL Stats</h3>
+ *
+ * 요청 단위 SQL 실행 통계(쓰레드 당 1개 재사용)
+ *
+ * <pre>
+ *  - {@link SqlStatsDataSource} 가 SQL 실행 시 현재 쓰레드의 통계에 기록한다.
+ *    ㄴ statements: 실행 수(배치는 1회)
+ *    ㄴ rows: 조회 행 수(ResultSet.next) + 변경 행 수
+ *    ㄴ jdbcNanos: execute* 호출 시간 합계(행 조회 시간 제외)
+ *  - 같은 SQL 반복 실행 수를 고정 크기 테이블(64)로 집계하여 N+1 의심 SQL 을 찾는다.
+ *  - {@link #begin()} ~ {@link #end()} 사이에서만 기록하며, 그 외 실행(스케줄러 등)은 기록하지 않는다.
+ * </pre>
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = ThreadLocal.withInitial(SqlStats::new);
+
+    private static final int REPEAT_TABLE_SIZE = 64;
+    private static final int REPEAT_TABLE_MASK = REPEAT_TABLE_SIZE - 1;
+
+    private boolean active;
+
+    @Getter private int statements;
+    @Getter private long rows;
+    @Getter private long jdbcNanos;
+
+    /** 가장 많이 반복된 SQL 과 반복 수 */
+    @Getter @Nullable private String mostRepeatedSql;
+
+    @Getter private int mostRepeatedCount;
+
+    @Nullable private SqlBudget budget;
+    private boolean failOnExceeded;
+    @Getter private boolean budgetExceeded;
+
+    private final String[] repeatSqls = new String[REPEAT_TABLE_SIZE];
+    private final int[] repeatCounts = new int[REPEAT_TABLE_SIZE];
+
+    private SqlStats() {}
+
+    /** 현재 쓰레드의 통계를 초기화하고 기록을 시작한다. */
+    public static SqlStats begin() {
+        var stats = CURRENT.get();
+        stats.reset();
+        stats.active = true;
+        return stats;
+    }
+
+    /** 기록중인 현재 쓰레드의 통계, 기록중이 아닌 경우 null */
+    @Nullable
+    public static SqlStats current() {
+        var stats = CURRENT.get();
+        return stats.active ? stats : null;
+    }
+
+    /** 기록 종료, 다음 {@link #begin()} 전까지 값을 조회할 수 있다. */
+    public void end() {
+        active = false;
+    }
+
+    /**
+     * 요청의 SQL 허용량 설정
+     *
+     * @param budget 허용량
+     * @param failOnExceeded 초과 시 예외 발생 여부(false 인 경우 {@link #isBudgetExceeded()} 만 표시)
+     */
+    public void budget(SqlBudget budget, boolean failOnExceeded) {
+        this.budget = budget;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    @Nullable
+    public SqlBudget getBudget() {
+        return budget;
+    }
+
+    /** SQL 실행 전 호출, 허용량 초과 시 실행하지 않도록 예외를 발생시킬 수 있다. */
+    void beforeStatement(@Nullable String sql) {
+        statements++;
+        var repeatCount = sql != null ? countRepeat(sql) : 0;
+        if (budget == null) {
+            return;
+        }
+        var statementExceeded = statements > budget.maxStatements();
+        var repeatExceeded = budget.maxRepeats() > 0 && repeatCount > budget.maxRepeats();
+        if (!statementExceeded && !repeatExceeded) {
+            return;
+        }
+        budgetExceeded = true;
+        if (failOnExceeded) {
+            throw new SqlBudgetExceededException(
+                    statementExceeded
+                            ? String.format(
+                                    "Sql budget exceeded. statements: %d > %d",
+                                    statements, budget.maxStatements())
+                            : String.format(
+                                    "Sql budget exceeded. repeats: %d > %d, sql: %s",
+                                    repeatCount, budget.maxRepeats(), sql));
+        }
+    }
+
+    void afterStatement(long elapsedNanos, long affectedRows) {
+        jdbcNanos += elapsedNanos;
+        if (affectedRows > 0) {
+            rows += affectedRows;
+        }
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    private int countRepeat(String sql) {
+        var index = sql.hashCode() & REPEAT_TABLE_MASK;
+        for (int probe = 0; probe < REPEAT_TABLE_SIZE; probe++) {
+            var slot = (index + probe) & REPEAT_TABLE_MASK;
+            var slotSql = repeatSqls[slot];
+            if (slotSql == null) {
+                repeatSqls[slot] = sql;
+                repeatCounts[slot] = 1;
+                return updateMostRepeated(sql, 1);
+            }
+            if (slotSql == sql || slotSql.equals(sql)) {
+                return updateMostRepeated(slotSql, ++repeatCounts[slot]);
+            }
+        }
+        // 서로 다른 SQL 이 64개를 넘는 경우 반복 집계에서 제외한다.
+        return 0;
+    }
+
+    private int updateMostRepeated(String sql, int count) {
+        if (count > mostRepeatedCount) {
+            mostRepeatedCount = count;
+            mostRepeatedSql = sql;
+        }
+        return count;
+    }
+
+    private void reset() {
+        statements = 0;
+        rows = 0;
+        jdbcNanos = 0;
+        mostRepeatedSql = null;
+        mostRepeatedCount = 0;
+        budget = null;
+        failOnExceeded = false;
+        budgetExceeded = false;
+        Arrays.fill(repeatSqls, null);
+        Arrays.fill(repeatCounts, 0);
+    }
+}
@@ -0,0 +1,225 @@
+package com.dykim.base.metrics.sql;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.NonNull;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.Nullable;
+
+/**
+ *
+ *
+ * <h3>SqlStats DataSource</h3>
+ *
+ * SQL 실행을 {@link SqlStats} 에 기록하는 DataSource 프록시
+ *
+ * <pre>
+ *  - Connection, Statement, ResultSet 을 JDK 동적 프록시로 감싼다.
+ *    ㄴ Statement.execute* : 실행 수, 실행 시간, 변경 행 수 기록
+ *    ㄴ ResultSet.next     : 조회 행 수 기록
+ *  - 기록중인 통계가 없는 쓰레드의 실행은 원본을 그대로 호출한다.
+ *  - 프록시 객체의 equals / hashCode 는 동일성 기준으로 동작한다.
+ *    ㄴ Hibernate 가 Statement 를 Map 의 키로 관리하므로 원본에 위임하지 않는다.
+ * </pre>
+ *
+ * @see SqlStatsDataSourcePostProcessor
+ */
+public class SqlStatsDataSource extends DelegatingDataSource implements Closeable {
+
+    private static final ClassLoader CLASS_LOADER = SqlStatsDataSource.class.getClassLoader();
+
+    public SqlStatsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password)
+            throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /** 원본 DataSource 종료(커넥션 풀 종료) */
+    @Override
+    public void close() throws IOException {
+        var targetDataSource = getTargetDataSource();
+        if (targetDataSource instanceof Closeable) {
+            ((Closeable) targetDataSource).close();
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection)
+                Proxy.newProxyInstance(
+                        CLASS_LOADER,
+                        new Class<?>[] {Connection.class},
+                        new ConnectionHandler(connection));
+    }
+
+    private static Statement wrapStatement(Statement statement, @Nullable String sql) {
+        Class<?> statementInterface =
+                statement instanceof CallableStatement
+                        ? CallableStatement.class
+                        : statement instanceof PreparedStatement
+                                ? PreparedStatement.class
+                                : Statement.class;
+        return (Statement)
+                Proxy.newProxyInstance(
+                        CLASS_LOADER,
+                        new Class<?>[] {statementInterface},
+                        new StatementHandler(statement, sql));
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return (ResultSet)
+                Proxy.newProxyInstance(
+                        CLASS_LOADER,
+                        new Class<?>[] {ResultSet.class},
+                        new ResultSetHandler(resultSet));
+    }
+
+    /** 원본 호출 후 예외를 원래 타입으로 전달한다. */
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        protected final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return getClass().getSimpleName() + "[" + target + "]";
+                default:
+                    return handle(method, args);
+            }
+        }
+
+        protected abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        protected Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection connection) {
+            super(connection);
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            var result = delegate(method, args);
+            if (result instanceof Statement) {
+                // prepareStatement, prepareCall 은 첫번째 인자가 SQL
+                var sql =
+                        args != null && args.length > 0 && args[0] instanceof String
+                                ? (String) args[0]
+                                : null;
+                return wrapStatement((Statement) result, sql);
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        @Nullable private final String sql;
+
+        StatementHandler(Statement statement, @Nullable String sql) {
+            super(statement);
+            this.sql = sql;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            var name = method.getName();
+            if ("getResultSet".equals(name) || "getGeneratedKeys".equals(name)) {
+                var resultSet = (ResultSet) delegate(method, args);
+                return resultSet != null && SqlStats.current() != null
+                        ? wrapResultSet(resultSet)
+                        : resultSet;
+            }
+            var stats = name.startsWith("execute") ? SqlStats.current() : null;
+            if (stats == null) {
+                return delegate(method, args);
+            }
+            stats.beforeStatement(
+                    args != null && args.length > 0 && args[0] instanceof String
+                            ? (String) args[0]
+                            : sql);
+            var startNanos = System.nanoTime();
+            Object result = null;
+            try {
+                result = delegate(method, args);
+            } finally {
+                stats.afterStatement(System.nanoTime() - startNanos, affectedRows(result));
+            }
+            return result instanceof ResultSet ? wrapResultSet((ResultSet) result) : result;
+        }
+
+        private static long affectedRows(@Nullable Object result) {
+            if (result instanceof Number) {
+                return ((Number) result).longValue();
+            }
+            var rows = 0L;
+            if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rows += Math.max(count, 0);
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        ResultSetHandler(ResultSet resultSet) {
+            super(resultSet);
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            var result = delegate(method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                var stats = SqlStats.current();
+                if (stats != null) {
+                    stats.addRow();
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dykim.base.metrics.sql;
+
+import javax.sql.DataSource;
+import lombok.NonNull;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ *
+ *
+ * <h3>SqlStats DataSource PostProcessor</h3>
+ *
+ * 등록된 모든 DataSource 빈을 {@link SqlStatsDataSource} 로 감싼다.
+ *
+ * <pre>
+ *  - JPA(Hibernate), JdbcTemplate 모두 감싼 DataSource 를 주입받는다.
+ *  - 원본(HikariDataSource 등)은 unwrap 으로 조회할 수 있고, 종료 시 함께 종료된다.
+ * </pre>
+ */
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof SqlStatsDataSource)) {
+            return new SqlStatsDataSource((DataSource) bean);
+        }
+        return bean;
+    }
+}
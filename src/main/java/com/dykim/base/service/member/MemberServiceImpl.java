@@ -2,6 +2,7 @@ package com.dykim.base.service.member;
 
 import com.dykim.base.advice.common.exception.AlreadyExistsException;
 import com.dykim.base.advice.common.exception.EntityNotFoundException;
+import com.dykim.base.config.security.UserDetailsCache;
 import com.dykim.base.dto.member.MemberDeleteRspDto;
 import com.dykim.base.dto.member.MemberInsertReqDto;
 import com.dykim.base.dto.member.MemberInsertRspDto;
@@ -13,6 +14,7 @@ import com.dykim.base.entity.member.Member;
 import com.dykim.base.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -21,6 +23,7 @@ import org.springframework.stereotype.Service;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
+    private final UserDetailsCache userDetailsCache;
 
     public MemberInsertRspDto insert(MemberInsertReqDto reqDto) {
         memberRepository
@@ -32,7 +35,8 @@ public class MemberServiceImpl implements MemberService {
                                     String.format("Member email '%s' already exists.", reqDto.getEmail()));
                         });
         var member = reqDto.toEntity().insert();
-        return new MemberInsertRspDto(memberRepository.save(member));
+        // 없는 회원으로 캐시된 이메일 무효화
+        return new MemberInsertRspDto(invalidateUserDetails(memberRepository.save(member)));
     }
 
     public MemberSelectRspDto select(Long mbrId) {
@@ -54,6 +58,11 @@ public class MemberServiceImpl implements MemberService {
                 .findByIdAndUseYn(mbrId, "Y")
                 .map(member -> member.update(reqDto))
                 .map(memberRepository::save)
+                .map(
+                        member ->
+                                StringUtils.isNoneBlank(reqDto.getPassword())
+                                        ? invalidateUserDetails(member)
+                                        : member)
                 .map(MemberUpdateRspDto::new)
                 .orElseThrow(() -> new EntityNotFoundException("Not found used member. mbrId: " + mbrId));
     }
@@ -63,7 +72,14 @@ public class MemberServiceImpl implements MemberService {
                 .findByIdAndUseYn(mbrId, "Y")
                 .map(Member::delete)
                 .map(memberRepository::save)
+                .map(this::invalidateUserDetails)
                 .map(MemberDeleteRspDto::new)
                 .orElseThrow(() -> new EntityNotFoundException("Not found used member. mbrId: " + mbrId));
     }
+
+    /** 인증에 사용하는 값(비밀번호, 사용여부)이 변경된 회원의 UserDetails 캐시를 무효화한다. */
+    private Member invalidateUserDetails(Member member) {
+        userDetailsCache.invalidate(member.getEmail());
+        return member;
+    }
 }
@@ -0,0 +1,158 @@
+package com.dykim.base.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>SingleFlight 테스트</h3>
+ *
+ * 같은 키의 동시 호출이 한번만 수행되고 결과(예외)를 공유하는지 확인한다.
+ *
+ * @see SingleFlight
+ */
+class SingleFlightTest {
+
+    private static final int CALLER_COUNT = 8;
+
+    @Test
+    void execute_concurrent_same_key_share_one_execution() throws Exception {
+        // given
+        var singleFlight = new SingleFlight();
+        var executed = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(CALLER_COUNT);
+
+        // when
+        var futures = new ArrayList<Future<Object>>();
+        try {
+            for (int i = 0; i < CALLER_COUNT; i++) {
+                futures.add(
+                        executor.submit(
+                                () ->
+                                        singleFlight.execute(
+                                                "member:1",
+                                                () -> {
+                                                    executed.incrementAndGet();
+                                                    await(release);
+                                                    return new Object();
+                                                })));
+            }
+            // 모든 호출이 진입할 때까지 대기 후 수행 완료
+            while (singleFlight.getCoalescedCount() < CALLER_COUNT - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            var first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (var future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(executed.get()).isEqualTo(1);
+            assertThat(singleFlight.getInFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_after_completion_execute_again() {
+        // given
+        var singleFlight = new SingleFlight();
+        var executed = new AtomicInteger();
+
+        // when
+        singleFlight.execute("member:1", executed::incrementAndGet);
+        singleFlight.execute("member:1", executed::incrementAndGet);
+
+        // then
+        assertThat(executed.get()).isEqualTo(2);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void execute_propagate_exception_to_waiters() throws Exception {
+        // given
+        var singleFlight = new SingleFlight();
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            var leader =
+                    executor.submit(
+                            () ->
+                                    singleFlight.execute(
+                                            "member:1",
+                                            () -> {
+                                                await(release);
+                                                throw new IllegalStateException("not found");
+                                            }));
+            while (singleFlight.getInFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            var waiter = executor.submit(() -> singleFlight.execute("member:1", () -> "waiter"));
+            while (singleFlight.getCoalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_waiter_over_max_wait_execute_directly() throws Exception {
+        // given
+        var singleFlight = new SingleFlight(50);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+
+        // when
+        try {
+            executor.submit(
+                    () ->
+                            singleFlight.execute(
+                                    "member:1",
+                                    () -> {
+                                        await(release);
+                                        return "leader";
+                                    }));
+            while (singleFlight.getInFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            var result = singleFlight.execute("member:1", () -> "waiter");
+
+            // then
+            assertThat(result).isEqualTo("waiter");
+            assertThat(singleFlight.getTimeoutCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
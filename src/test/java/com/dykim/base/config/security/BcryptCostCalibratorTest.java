@@ -0,0 +1,84 @@
+package com.dykim.base.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>BcryptCostCalibrator 테스트</h3>
+ *
+ * cost 별 측정값을 직접 전달하여 예산 안의 가장 높은 cost 를 선택하는지 확인한다.
+ *
+ * @see BcryptCostCalibrator
+ */
+class BcryptCostCalibratorTest {
+
+    private static final long BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** cost 10 = 20ms, 이후 cost 가 1 오를 때마다 2배 */
+    private static long verifyNanos(int cost) {
+        return TimeUnit.MILLISECONDS.toNanos(20L << (cost - 10));
+    }
+
+    @Test
+    void calibrate_select_highest_cost_within_budget() {
+        // given
+        var calibrator = new BcryptCostCalibrator(BUDGET_NANOS, 10, 16, 1);
+        var measured = new ArrayList<Integer>();
+
+        // when
+        var cost =
+                calibrator.calibrate(
+                        candidate -> {
+                            measured.add(candidate);
+                            return verifyNanos(candidate);
+                        });
+
+        // then - 12(80ms) 선택, 13(160ms)은 측정하지 않는다.
+        assertThat(cost).isEqualTo(12);
+        assertThat(measured).containsExactly(10, 11, 12);
+    }
+
+    @Test
+    void calibrate_min_cost_over_budget_return_min_cost() {
+        // given
+        var calibrator = new BcryptCostCalibrator(TimeUnit.MILLISECONDS.toNanos(10), 10, 16, 1);
+
+        // when
+        var cost = calibrator.calibrate(BcryptCostCalibratorTest::verifyNanos);
+
+        // then
+        assertThat(cost).isEqualTo(10);
+    }
+
+    @Test
+    void calibrate_stop_at_max_cost() {
+        // given
+        var calibrator = new BcryptCostCalibrator(TimeUnit.SECONDS.toNanos(10), 10, 11, 1);
+
+        // when
+        var cost = calibrator.calibrate(BcryptCostCalibratorTest::verifyNanos);
+
+        // then
+        assertThat(cost).isEqualTo(11);
+    }
+
+    @Test
+    void upgradeEncoding_true_when_cost_differs() {
+        // given
+        var passwordEncoder = new CostAwareBCryptPasswordEncoder(5);
+        var lowerCost = new CostAwareBCryptPasswordEncoder(4).encode("pswd");
+        var higherCost = new CostAwareBCryptPasswordEncoder(6).encode("pswd");
+        var sameCost = passwordEncoder.encode("pswd");
+
+        // when-then
+        assertThat(passwordEncoder.upgradeEncoding(lowerCost)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(higherCost)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(sameCost)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("plain-password")).isFalse();
+    }
+}
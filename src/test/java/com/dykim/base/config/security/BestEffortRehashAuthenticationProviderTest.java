@@ -0,0 +1,126 @@
+package com.dykim.base.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.dykim.base.advice.common.exception.PasswordHashingRejectedException;
+import com.dykim.base.metrics.ServerTiming;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ *
+ *
+ * <h3>BestEffortRehashAuthenticationProvider 테스트</h3>
+ *
+ * 재암호화가 거부되어도 로그인은 성공하고, 비밀번호 비교가 거부된 경우는 그대로 전달되는지 확인한다.
+ *
+ * @see BestEffortRehashAuthenticationProvider
+ */
+class BestEffortRehashAuthenticationProviderTest {
+
+    private static final String USERNAME = "admin@email.com";
+    private static final String PASSWORD = "pswd";
+
+    private final AtomicInteger updatedCount = new AtomicInteger();
+
+    @AfterEach
+    void clear() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void rehash_rejected_authenticate_without_update() {
+        // given
+        var provider = provider(rehashRejectingEncoder(false));
+
+        // when
+        var authentication =
+                provider.authenticate(
+                        UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, PASSWORD));
+
+        // then
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getName()).isEqualTo(USERNAME);
+        assertThat(updatedCount).hasValue(0);
+    }
+
+    @Test
+    void matches_rejected_throw_PasswordHashingRejectedException() {
+        // given
+        var provider = provider(rehashRejectingEncoder(true));
+
+        // when-then
+        assertThrows(
+                PasswordHashingRejectedException.class,
+                () ->
+                        provider.authenticate(
+                                UsernamePasswordAuthenticationToken.unauthenticated(
+                                        USERNAME, PASSWORD)));
+    }
+
+    @Test
+    void authenticate_record_server_timing_auth() {
+        // given
+        var provider = provider(rehashRejectingEncoder(false));
+        var request = new MockHttpServletRequest("POST", "/login");
+        var serverTiming = ServerTiming.start(request);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when
+        provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, PASSWORD));
+
+        // then - 인터셉터 체인을 거치지 않는 로그인 요청도 auth 단계가 기록된다.
+        assertThat(serverTiming.toHeaderValue(null, null)).startsWith("auth;dur=");
+    }
+
+    private BestEffortRehashAuthenticationProvider provider(PasswordEncoder passwordEncoder) {
+        UserDetails user =
+                User.withUsername(USERNAME).password(PASSWORD).authorities("USER").build();
+        var provider = new BestEffortRehashAuthenticationProvider();
+        provider.setUserDetailsService(username -> user);
+        provider.setUserDetailsPasswordService(
+                (userDetails, newPassword) -> {
+                    updatedCount.incrementAndGet();
+                    return userDetails;
+                });
+        provider.setPasswordEncoder(passwordEncoder);
+        return provider;
+    }
+
+    /** 항상 재암호화 대상으로 판단하고, 로그인 비밀번호 재암호화(encode)는 거부하는 PasswordEncoder */
+    private static PasswordEncoder rehashRejectingEncoder(boolean rejectMatches) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                // 사용자 미존재 시 타이밍 공격 방지용 encode 는 허용한다.
+                if (!PASSWORD.contentEquals(rawPassword)) {
+                    return rawPassword.toString();
+                }
+                throw new PasswordHashingRejectedException("Password hashing queue is full.");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                if (rejectMatches) {
+                    throw new PasswordHashingRejectedException("Password hashing queue is full.");
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.dykim.base.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.dykim.base.advice.common.exception.PasswordHashingRejectedException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ *
+ *
+ * <h3>BoundedPasswordEncoder 테스트</h3>
+ *
+ * 쓰레드풀과 대기열이 가득 찬 경우 즉시 거부되는지 확인한다.
+ *
+ * @see BoundedPasswordEncoder
+ */
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void matches_delegate_and_record_execution() {
+        // given
+        try (var passwordEncoder =
+                new BoundedPasswordEncoder(plainEncoder(), 1, 1, 1000)) {
+
+            // when
+            var matched = passwordEncoder.matches("pswd", "pswd");
+            var notMatched = passwordEncoder.matches("pswd", "other");
+
+            // then
+            assertThat(matched).isTrue();
+            assertThat(notMatched).isFalse();
+            assertThat(passwordEncoder.executionSnapshot().getCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void matches_saturated_throw_PasswordHashingRejectedException() throws Exception {
+        // given - 쓰레드 1개 실행중, 대기열 1개 사용중
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var caller = Executors.newFixedThreadPool(2);
+        try (var passwordEncoder =
+                new BoundedPasswordEncoder(blockingEncoder(started, release), 1, 1, 5000)) {
+            caller.submit(() -> passwordEncoder.matches("pswd", "pswd"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            caller.submit(() -> passwordEncoder.matches("pswd", "pswd"));
+            while (passwordEncoder.getQueueDepth() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // when-then
+            assertThrows(
+                    PasswordHashingRejectedException.class,
+                    () -> passwordEncoder.matches("pswd", "pswd"));
+            assertThat(passwordEncoder.getRejectedCount()).isEqualTo(1);
+            release.countDown();
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void matches_over_maxWait_throw_PasswordHashingRejectedException() {
+        // given
+        var release = new CountDownLatch(1);
+        try (var passwordEncoder =
+                new BoundedPasswordEncoder(
+                        blockingEncoder(new CountDownLatch(1), release), 1, 1, 50)) {
+
+            // when-then
+            assertThrows(
+                    PasswordHashingRejectedException.class,
+                    () -> passwordEncoder.matches("pswd", "pswd"));
+            assertThat(passwordEncoder.getTimeoutCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /** 평문 그대로 비교하는 PasswordEncoder */
+    private static PasswordEncoder plainEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    /** release 될 때까지 비교를 끝내지 않는 PasswordEncoder */
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.dykim.base.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dykim.base.entity.member.Member;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>UserDetailsCache 테스트</h3>
+ *
+ * 조회 조건과 같은 키 사용, 없는 회원 캐시 및 무효화 중 조회된 결과를 버리는지 확인한다.
+ *
+ * @see UserDetailsCache
+ */
+class UserDetailsCacheTest {
+
+    private static final String EMAIL = "admin@email.com";
+
+    private final Member member =
+            Member.builder().email(EMAIL).password("pswd").roleList("ADMIN").useYn("Y").build();
+
+    @Test
+    void get_same_email_return_cached_userDetails() {
+        // given
+        var userDetailsCache = new UserDetailsCache(true, 100, 300, 30);
+        userDetailsCache.put(EMAIL, new UserDetailsImpl(member), userDetailsCache.stamp());
+
+        // when
+        var cached = userDetailsCache.get(EMAIL);
+
+        // then - 다른 표기는 DB 조회 결과를 따르도록 캐시에서 찾지 않는다.
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getUsername()).isEqualTo(EMAIL);
+        assertThat(userDetailsCache.get("Admin@Email.COM")).isNull();
+        assertThat(userDetailsCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_userDetails_found_by_other_case_is_ignored() {
+        // given - 대소문자를 구분하지 않는 DB(MySQL)에서 다른 표기로 조회된 경우
+        var userDetailsCache = new UserDetailsCache(true, 100, 300, 30);
+
+        // when
+        userDetailsCache.put(
+                "Admin@Email.COM", new UserDetailsImpl(member), userDetailsCache.stamp());
+
+        // then - 회원 이메일로 무효화할 수 없는 키로 저장하지 않는다.
+        assertThat(userDetailsCache.size()).isZero();
+    }
+
+    @Test
+    void get_unknown_email_return_empty_after_negative_put() {
+        // given
+        var userDetailsCache = new UserDetailsCache(true, 100, 300, 30);
+        assertThat(userDetailsCache.get("unknown@email.com")).isNull();
+        userDetailsCache.put("unknown@email.com", null, userDetailsCache.stamp());
+
+        // when
+        var cached = userDetailsCache.get("unknown@email.com");
+
+        // then
+        assertThat(cached).isEmpty();
+        assertThat(userDetailsCache.getNegativeHitCount()).isEqualTo(1);
+        assertThat(userDetailsCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_after_invalidate_is_ignored() {
+        // given - 조회 중 비밀번호가 변경된 경우
+        var userDetailsCache = new UserDetailsCache(true, 100, 300, 30);
+        var stamp = userDetailsCache.stamp();
+        userDetailsCache.invalidate(EMAIL);
+
+        // when
+        userDetailsCache.put(EMAIL, new UserDetailsImpl(member), stamp);
+
+        // then
+        assertThat(userDetailsCache.get(EMAIL)).isNull();
+    }
+
+    @Test
+    void disabled_cache_always_miss() {
+        // given
+        var userDetailsCache = new UserDetailsCache(false, 100, 300, 30);
+        userDetailsCache.put(EMAIL, new UserDetailsImpl(member), userDetailsCache.stamp());
+
+        // when
+        var cached = userDetailsCache.get(EMAIL);
+
+        // then
+        assertThat(cached).isNull();
+    }
+}
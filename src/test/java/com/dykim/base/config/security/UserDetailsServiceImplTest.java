@@ -0,0 +1,77 @@
+package com.dykim.base.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+import com.dykim.base.entity.member.Member;
+import com.dykim.base.repository.member.MemberRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ *
+ *
+ * <h3>UserDetailsServiceImpl 테스트</h3>
+ *
+ * 캐시 키와 DB 조회 조건이 같아, 다른 표기의 로그인 결과가 원래 회원에 영향을 주지 않는지 확인한다.
+ *
+ * @see UserDetailsServiceImpl
+ * @see UserDetailsCache
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    private static final String EMAIL = "admin@email.com";
+    private static final String MIXED_CASE_EMAIL = "Admin@Email.com";
+
+    private final Member member =
+            Member.builder().email(EMAIL).password("pswd").roleList("ADMIN").useYn("Y").build();
+
+    @Mock private MemberRepository memberRepository;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setup() {
+        userDetailsService =
+                new UserDetailsServiceImpl(
+                        memberRepository, new UserDetailsCache(true, 100, 300, 30));
+    }
+
+    @Test
+    void mixed_case_not_found_not_block_canonical_email() {
+        // given - 대소문자를 구분하는 DB(H2)
+        given(memberRepository.findByEmailAndUseYn(MIXED_CASE_EMAIL, "Y"))
+                .willReturn(Optional.empty());
+        given(memberRepository.findByEmailAndUseYn(EMAIL, "Y")).willReturn(Optional.of(member));
+        assertThrows(
+                UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername(MIXED_CASE_EMAIL));
+
+        // when
+        var userDetails = userDetailsService.loadUserByUsername(EMAIL);
+
+        // then
+        assertThat(userDetails.getUsername()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    void canonical_email_cached_not_found_by_mixed_case() {
+        // given - 대소문자를 구분하는 DB(H2)
+        given(memberRepository.findByEmailAndUseYn(EMAIL, "Y")).willReturn(Optional.of(member));
+        given(memberRepository.findByEmailAndUseYn(MIXED_CASE_EMAIL, "Y"))
+                .willReturn(Optional.empty());
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        // when-then - 캐시된 원래 회원으로 다른 표기가 로그인되지 않는다.
+        assertThrows(
+                UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername(MIXED_CASE_EMAIL));
+    }
+}
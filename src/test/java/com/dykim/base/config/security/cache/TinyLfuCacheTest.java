@@ -0,0 +1,95 @@
+package com.dykim.base.config.security.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>TinyLfuCache 테스트</h3>
+ *
+ * 시간을 직접 전달하여 만료, 최대 건수 및 빈도 기반 입장을 확인한다.
+ *
+ * @see TinyLfuCache
+ */
+class TinyLfuCacheTest {
+
+    private static final long EXPIRE_AT = Long.MAX_VALUE / 2;
+
+    @Test
+    void getIfPresent_return_value_until_expired() {
+        // given
+        var cache = new TinyLfuCache<String, String>(100);
+        cache.put("key", "value", 1000);
+
+        // when
+        var beforeExpired = cache.getIfPresent("key", 999);
+        var afterExpired = cache.getIfPresent("key", 1000);
+
+        // then
+        assertThat(beforeExpired).isEqualTo("value");
+        assertThat(afterExpired).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_remove_entry() {
+        // given
+        var cache = new TinyLfuCache<String, String>(100);
+        cache.put("key", "value", EXPIRE_AT);
+
+        // when
+        cache.invalidate("key");
+
+        // then
+        assertThat(cache.getIfPresent("key", 0)).isNull();
+    }
+
+    @Test
+    void put_over_maximumSize_keep_size_bounded() {
+        // given
+        var cache = new TinyLfuCache<Integer, Integer>(100);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i, EXPIRE_AT);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getEvictionCount()).isEqualTo(900);
+    }
+
+    @Test
+    void frequently_accessed_keys_survive_scan() {
+        // given - 자주 조회되는 키
+        var cache = new TinyLfuCache<Integer, Integer>(100);
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 50; key++) {
+                if (cache.getIfPresent(key, 0) == null) {
+                    cache.put(key, key, EXPIRE_AT);
+                }
+            }
+        }
+
+        // when - 한번만 조회되는 키
+        for (int key = 1000; key < 11000; key++) {
+            if (cache.getIfPresent(key, 0) == null) {
+                cache.put(key, key, EXPIRE_AT);
+            }
+        }
+
+        // then
+        var survived = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.getIfPresent(key, 0) != null) {
+                survived++;
+            }
+        }
+        assertThat(survived).isGreaterThanOrEqualTo(45);
+        assertThat(cache.getRejectionCount()).isPositive();
+    }
+}
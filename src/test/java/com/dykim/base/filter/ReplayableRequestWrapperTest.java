@@ -0,0 +1,79 @@
+package com.dykim.base.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ReadListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ *
+ *
+ * <h3>ReplayableRequestWrapper 테스트</h3>
+ *
+ * 읽어둔 본문을 스트림, 비동기 리스너로 다시 읽을 수 있는지 확인한다.
+ *
+ * @see ReplayableRequestWrapper
+ */
+class ReplayableRequestWrapperTest {
+
+    private static final String BODY = "{\"email\":\"admin@email.com\"}";
+
+    @Test
+    void getBody_then_getInputStream_replay_body() throws Exception {
+        // given
+        var wrapper = new ReplayableRequestWrapper(request());
+        wrapper.getBody();
+
+        // when
+        var body = new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(body).isEqualTo(BODY);
+    }
+
+    @Test
+    void setReadListener_notify_available_and_all_read() throws Exception {
+        // given
+        var wrapper = new ReplayableRequestWrapper(request());
+        wrapper.getBody();
+        var inputStream = wrapper.getInputStream();
+        var read = new ByteArrayOutputStream();
+        var allDataRead = new boolean[1];
+
+        // when
+        inputStream.setReadListener(
+                new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        while (inputStream.isReady() && !inputStream.isFinished()) {
+                            read.write(inputStream.read());
+                        }
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        allDataRead[0] = true;
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        throw new UncheckedIOException(new IOException(t));
+                    }
+                });
+
+        // then
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(allDataRead[0]).isTrue();
+    }
+
+    private static MockHttpServletRequest request() {
+        var request = new MockHttpServletRequest();
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
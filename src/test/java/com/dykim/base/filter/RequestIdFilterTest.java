@@ -0,0 +1,63 @@
+package com.dykim.base.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dykim.base.logging.JsonLineEncoder;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.servlet.http.HttpServlet;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ *
+ *
+ * <h3>RequestIdFilter 테스트</h3>
+ *
+ * 요청 헤더의 requestId 재사용, 유효하지 않은 값 대체, 처리 후 MDC 제거를 확인한다.
+ *
+ * @see RequestIdFilter
+ */
+class RequestIdFilterTest {
+
+    private final RequestIdFilter requestIdFilter = new RequestIdFilter();
+
+    @Test
+    void doFilter_use_valid_request_header() throws Exception {
+        // given
+        var request = new MockHttpServletRequest();
+        request.addHeader(RequestIdFilter.HEADER_REQUEST_ID, "abc-123");
+        var response = new MockHttpServletResponse();
+        var requestIdInChain = new AtomicReference<String>();
+
+        // when
+        requestIdFilter.doFilter(
+                request,
+                response,
+                new MockFilterChain(
+                        new HttpServlet() {},
+                        (req, res, chain) ->
+                                requestIdInChain.set(MDC.get(JsonLineEncoder.MDC_REQUEST_ID))));
+
+        // then
+        assertThat(requestIdInChain.get()).isEqualTo("abc-123");
+        assertThat(response.getHeader(RequestIdFilter.HEADER_REQUEST_ID)).isEqualTo("abc-123");
+        assertThat(MDC.get(JsonLineEncoder.MDC_REQUEST_ID)).isNull();
+    }
+
+    @Test
+    void doFilter_replace_invalid_request_header() throws Exception {
+        // given
+        var request = new MockHttpServletRequest();
+        request.addHeader(RequestIdFilter.HEADER_REQUEST_ID, "bad\nvalue");
+        var response = new MockHttpServletResponse();
+
+        // when
+        requestIdFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeader(RequestIdFilter.HEADER_REQUEST_ID)).matches("[0-9a-f]{16}");
+    }
+}
@@ -0,0 +1,100 @@
+package com.dykim.base.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dykim.base.metrics.ServerTiming;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ *
+ *
+ * <h3>ServerTimingFilter 테스트</h3>
+ *
+ * 동작 방식 별 대상 여부와, 응답 커밋 전에 단계 별 시간이 헤더로 작성되는지 확인한다.
+ *
+ * @see ServerTimingFilter
+ * @see ServerTimingResponseWrapper
+ */
+class ServerTimingFilterTest {
+
+    private static final String REQUEST_HEADER = "X-Server-Timing";
+
+    @Test
+    void header_mode_write_only_requested() throws Exception {
+        // given
+        var filter = new ServerTimingFilter(ServerTimingFilter.Mode.HEADER, REQUEST_HEADER);
+        var requested = new MockHttpServletRequest();
+        requested.addHeader(REQUEST_HEADER, "1");
+        var requestedResponse = new MockHttpServletResponse();
+        var notRequestedResponse = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(requested, requestedResponse, new MockFilterChain());
+        filter.doFilter(
+                new MockHttpServletRequest(), notRequestedResponse, new MockFilterChain());
+
+        // then
+        assertThat(requestedResponse.getHeader(ServerTimingResponseWrapper.HEADER_SERVER_TIMING))
+                .contains("total;dur=");
+        assertThat(
+                        notRequestedResponse.getHeader(
+                                ServerTimingResponseWrapper.HEADER_SERVER_TIMING))
+                .isNull();
+    }
+
+    @Test
+    void always_mode_write_before_body_flush() throws Exception {
+        // given
+        var filter = new ServerTimingFilter(ServerTimingFilter.Mode.ALWAYS, REQUEST_HEADER);
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+        var chain =
+                new MockFilterChain(
+                        new HttpServlet() {
+                            @Override
+                            protected void service(
+                                    HttpServletRequest req, HttpServletResponse res)
+                                    throws IOException {
+                                var serverTiming = ServerTiming.from(req);
+                                serverTiming.markInterceptorsStart();
+                                serverTiming.add("debounce", 30_000);
+                                serverTiming.markSerializationStart();
+                                var out = res.getOutputStream();
+                                out.write("{}".getBytes(StandardCharsets.UTF_8));
+                                out.flush();
+                            }
+                        });
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        var header = response.getHeader(ServerTimingResponseWrapper.HEADER_SERVER_TIMING);
+        assertThat(header).startsWith("filter;dur=").contains("debounce;dur=0.03", "ser;dur=");
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+    }
+
+    @Test
+    void off_mode_not_write() throws Exception {
+        // given
+        var filter = new ServerTimingFilter(ServerTimingFilter.Mode.OFF, REQUEST_HEADER);
+        var request = new MockHttpServletRequest();
+        request.addHeader(REQUEST_HEADER, "1");
+        var response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeader(ServerTimingResponseWrapper.HEADER_SERVER_TIMING)).isNull();
+    }
+}
@@ -0,0 +1,110 @@
+package com.dykim.base.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ *
+ *
+ * <h3>TeeRequestWrapper 테스트</h3>
+ *
+ * 읽힌 본문 앞부분만 복사되고, 로그용 본문에서 비밀번호 필드가 가려지는지 확인한다.
+ *
+ * @see TeeRequestWrapper
+ */
+class TeeRequestWrapperTest {
+
+    @Test
+    void read_body_capture_prefix_with_password_redacted() throws Exception {
+        // given
+        var request = new MockHttpServletRequest();
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(
+                "{\"email\":\"admin@email.com\",\"password\":\"secret\"}"
+                        .getBytes(StandardCharsets.UTF_8));
+        var wrapper = new TeeRequestWrapper(request, new BufferPool(1024, 1));
+
+        // when
+        var body = new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(body).contains("secret");
+        assertThat(wrapper.getBodyForLog())
+                .isEqualTo("{\"email\":\"admin@email.com\",\"password\":\"****\"}");
+    }
+
+    @Test
+    void oversized_body_capture_only_buffer_size() throws Exception {
+        // given
+        var request = new MockHttpServletRequest();
+        request.setContent(new byte[10_000]);
+        var wrapper = new TeeRequestWrapper(request, new BufferPool(16, 1));
+
+        // when
+        wrapper.getInputStream().readAllBytes();
+
+        // then
+        assertThat(wrapper.getBodyForLog()).endsWith("...(truncated, 10000 bytes read)");
+    }
+
+    @Test
+    void unread_body_is_not_captured() {
+        // given
+        var request = new MockHttpServletRequest();
+        request.setContent("not read".getBytes(StandardCharsets.UTF_8));
+        var wrapper = new TeeRequestWrapper(request, new BufferPool(16, 1));
+
+        // when
+        var body = wrapper.getBodyForLog();
+
+        // then
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    void form_request_use_parameters_with_password_redacted() {
+        // given
+        var request = new MockHttpServletRequest();
+        request.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+        request.addParameter("username", "admin@email.com");
+        request.addParameter("password", "secret");
+        var wrapper = new TeeRequestWrapper(request, new BufferPool(1024, 1));
+
+        // when
+        var body = wrapper.getBodyForLog();
+
+        // then
+        assertThat(body).isEqualTo("username=admin@email.com&password=****");
+    }
+
+    @Test
+    void form_password_with_delimiters_is_fully_redacted() {
+        // given
+        var request = new MockHttpServletRequest();
+        request.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+        request.addParameter("username", "admin");
+        request.addParameter("password", "se&cret=x");
+        var wrapper = new TeeRequestWrapper(request, new BufferPool(1024, 1));
+
+        // when
+        var body = wrapper.getBodyForLog();
+
+        // then
+        assertThat(body).isEqualTo("username=admin&password=****");
+        assertThat(body).doesNotContain("cret");
+    }
+
+    @Test
+    void redact_truncated_json_password() {
+        // when
+        var redacted = TeeRequestWrapper.redact("{\"newPassword\":\"sec");
+
+        // then
+        assertThat(redacted).isEqualTo("{\"newPassword\":\"****\"");
+    }
+}
@@ -0,0 +1,150 @@
+package com.dykim.base.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ *
+ *
+ * <h3>TeeResponseWrapper 테스트</h3>
+ *
+ * 본문은 모두 전달되고 앞부분만 복사되며, 복사 버퍼가 풀에 반납되는지 확인한다.
+ *
+ * @see TeeResponseWrapper
+ */
+class TeeResponseWrapperTest {
+
+    @Test
+    void outputStream_pass_through_and_capture_prefix() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+        var wrapper = new TeeResponseWrapper(response, new BufferPool(4, 1));
+
+        // when
+        wrapper.getOutputStream().write("0123456789".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(wrapper.getPrefixAsString()).isEqualTo("0123...(truncated, 10 bytes)");
+        assertThat(wrapper.getTotalLength()).isEqualTo(10);
+    }
+
+    @Test
+    void writer_encode_with_response_charset() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        var wrapper = new TeeResponseWrapper(response, new BufferPool(64, 1));
+
+        // when
+        wrapper.getWriter().write("{\"data\":\"인증 실패\"}");
+
+        // then
+        assertThat(wrapper.getPrefixAsString()).isEqualTo("{\"data\":\"인증 실패\"}");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"data\":\"인증 실패\"}");
+    }
+
+    @Test
+    void reset_discard_buffered_writer_chars_and_prefix() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+        var wrapper = new TeeResponseWrapper(response, new BufferPool(64, 1));
+        wrapper.getOutputStream().write("partial".getBytes(StandardCharsets.UTF_8));
+        var staleWriter = wrapper.getWriter();
+        staleWriter.write("stale");
+
+        // when
+        wrapper.reset();
+        wrapper.getWriter().write("error");
+        staleWriter.flush();
+        wrapper.release(false);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("error");
+    }
+
+    @Test
+    void resetBuffer_discard_prefix() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+        var wrapper = new TeeResponseWrapper(response, new BufferPool(64, 1));
+        wrapper.getWriter().write("partial");
+
+        // when
+        wrapper.resetBuffer();
+        wrapper.getWriter().write("error");
+
+        // then
+        assertThat(wrapper.getPrefixAsString()).isEqualTo("error");
+        assertThat(wrapper.getTotalLength()).isEqualTo(5);
+        assertThat(response.getContentAsString()).isEqualTo("error");
+    }
+
+    @Test
+    void release_async_while_writing_from_other_thread() throws Exception {
+        // given
+        var bufferPool = new BufferPool(16, 1);
+        var wrapper = new TeeResponseWrapper(new MockHttpServletResponse(), bufferPool);
+        var outputStream = wrapper.getOutputStream();
+        var writing =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                for (int i = 0; i < 10_000; i++) {
+                                    outputStream.write('e');
+                                }
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+
+        // when
+        wrapper.release(true);
+        writing.get(5, TimeUnit.SECONDS);
+
+        // then - 예외 없이 쓰기가 끝나고, 반납 이후에는 복사하지 않는다.
+        assertThat(wrapper.getTotalLength()).isEqualTo(10_000);
+        assertThat(wrapper.getPrefixAsString()).isEmpty();
+    }
+
+    @Test
+    void release_return_buffer_to_pool() throws Exception {
+        // given
+        var bufferPool = new BufferPool(16, 1);
+        var wrapper = new TeeResponseWrapper(new MockHttpServletResponse(), bufferPool);
+        wrapper.getOutputStream().write(1);
+
+        // when
+        wrapper.release(false);
+        var second = new TeeResponseWrapper(new MockHttpServletResponse(), bufferPool);
+        second.getOutputStream().write(2);
+
+        // then - 반납된 버퍼 재사용
+        assertThat(bufferPool.acquire()).isNotNull();
+        assertThat(wrapper.getPrefixAsString()).isEmpty();
+        assertThat(second.getPrefixAsString()).isEqualTo("\u0002");
+    }
+
+    @Test
+    void release_async_stop_capture() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+        var wrapper = new TeeResponseWrapper(response, new BufferPool(16, 1));
+
+        // when
+        wrapper.release(true);
+        wrapper.getOutputStream().write("event".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("event");
+        assertThat(wrapper.getPrefixAsString()).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.dykim.base.filter.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ *
+ *
+ * <h3>ConcurrencyLimitFilter 테스트</h3>
+ *
+ * 허용량 초과 시 503, Retry-After, ApiResult 에러 형식으로 응답하고 필터체인을 수행하지 않는지 확인한다.
+ *
+ * @see ConcurrencyLimitFilter
+ */
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void doFilter_reject_over_limit() throws Exception {
+        // given
+        var limiter = new GradientConcurrencyLimiter(1, 1, 1, 0.2, 1.5, 1000, 1);
+        var filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), 3);
+        limiter.tryAcquire();
+        var response = new MockHttpServletResponse();
+        var filterChain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/sample/v1"), response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getContentAsString())
+                .contains("\"name\":\"ConcurrencyLimitExceededException\"");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_release_after_chain() throws Exception {
+        // given
+        var limiter = new GradientConcurrencyLimiter(1, 1, 1, 0.2, 1.5, 1000, 1);
+        var filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), 1);
+        var filterChain = new MockFilterChain();
+
+        // when
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/sample/v1"),
+                new MockHttpServletResponse(),
+                filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getRejectedCount()).isZero();
+    }
+}
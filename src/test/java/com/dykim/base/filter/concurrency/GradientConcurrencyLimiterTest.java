@@ -0,0 +1,97 @@
+package com.dykim.base.filter.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>GradientConcurrencyLimiter 테스트</h3>
+ *
+ * 시각, RTT 를 직접 전달하여 허용량 초과 거부와 RTT 변화에 따른 허용량 증감을 확인한다.
+ *
+ * @see GradientConcurrencyLimiter
+ */
+class GradientConcurrencyLimiterTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void tryAcquire_reject_over_limit() {
+        // given
+        var limiter = new GradientConcurrencyLimiter(2, 1, 10, 0.2, 1.5, 1000, 1);
+
+        // when
+        var first = limiter.tryAcquire();
+        var second = limiter.tryAcquire();
+        var third = limiter.tryAcquire();
+        limiter.release(-1, 2, 0);
+        var fourth = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(fourth).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void limit_increase_while_saturated_with_stable_rtt() {
+        // given
+        var limiter = new GradientConcurrencyLimiter(10, 1, 100, 0.5, 1.5, 1000, 1);
+
+        // when
+        for (int window = 1; window <= 5; window++) {
+            sample(limiter, RTT_NANOS, limiter.getLimit(), window);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    void limit_not_increase_while_idle() {
+        // given
+        var limiter = new GradientConcurrencyLimiter(10, 1, 100, 0.5, 1.5, 1000, 1);
+
+        // when
+        for (int window = 1; window <= 5; window++) {
+            sample(limiter, RTT_NANOS, 1, window);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void limit_decrease_when_rtt_grows() {
+        // given
+        var limiter = new GradientConcurrencyLimiter(50, 5, 100, 0.5, 1.5, 1000, 1);
+        sample(limiter, RTT_NANOS, 50, 1);
+
+        // when - 기준 RTT 의 10배
+        for (int window = 2; window <= 6; window++) {
+            sample(limiter, RTT_NANOS * 10, limiter.getLimit(), window);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(50);
+        assertThat(limiter.getShortRttNanos()).isEqualTo(RTT_NANOS * 10);
+        assertThat(limiter.getLongRttNanos()).isLessThan(RTT_NANOS * 10);
+    }
+
+    /** 구간 시작, 종료 시점에 표본 1건씩 기록하여 구간을 종료한다. */
+    private static void sample(
+            GradientConcurrencyLimiter limiter, long rttNanos, int inFlight, int window) {
+        var windowStart = window * WINDOW_NANOS * 2;
+        limiter.tryAcquire();
+        limiter.release(rttNanos, inFlight, windowStart);
+        limiter.tryAcquire();
+        limiter.release(rttNanos, inFlight, windowStart + WINDOW_NANOS);
+    }
+}
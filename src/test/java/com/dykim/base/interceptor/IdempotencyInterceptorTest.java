@@ -0,0 +1,223 @@
+package com.dykim.base.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dykim.base.advice.common.CommonControllerAdvice;
+import com.dykim.base.advice.common.exception.RateLimitExceededException;
+import com.dykim.base.consts.uris.MemberApiUris;
+import com.dykim.base.controller.api.member.MemberController;
+import com.dykim.base.dto.member.MemberInsertReqDto;
+import com.dykim.base.dto.member.MemberInsertRspDto;
+import com.dykim.base.entity.member.Member;
+import com.dykim.base.filter.IdempotencyFilter;
+import com.dykim.base.interceptor.idempotency.IdempotencyStore;
+import com.dykim.base.service.member.MemberService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ *
+ *
+ * <h3>IdempotencyInterceptor 테스트</h3>
+ *
+ * 같은 Idempotency-Key 재시도 시 핸들러를 다시 실행하지 않고 최초 응답을 재전송하는지 확인한다.
+ *
+ * @see IdempotencyInterceptor
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyInterceptorTest {
+
+    private static final long WAIT_MILLIS = 200;
+
+    @Mock private MemberService memberService;
+
+    private MockMvc mockMvc;
+    private MemberInsertReqDto reqDto;
+    private String reqJson;
+
+    @BeforeEach
+    void setup() throws Exception {
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(new MemberController(memberService))
+                        .addFilters(new IdempotencyFilter())
+                        .addInterceptors(
+                                new IdempotencyInterceptor(
+                                        new IdempotencyStore(100, Duration.ofMinutes(1)),
+                                        WAIT_MILLIS))
+                        .setControllerAdvice(new CommonControllerAdvice())
+                        .build();
+        reqDto = insertReqDto("email@base.com");
+        reqJson = new ObjectMapper().writeValueAsString(reqDto);
+    }
+
+    @Test
+    void insert_retry_with_same_key_replay_first_response() throws Exception {
+        // given
+        givenInsertReturnsMember();
+        var first =
+                mockMvc.perform(insertRequest("key-1", reqJson))
+                        .andExpect(status().isOk())
+                        .andExpect(header().doesNotExist(IdempotencyInterceptor.HEADER_REPLAYED))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray();
+
+        // when
+        mockMvc.perform(insertRequest("key-1", reqJson))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyInterceptor.HEADER_REPLAYED, "true"))
+                .andExpect(content().bytes(first));
+        verify(memberService, times(1)).insert(any());
+    }
+
+    @Test
+    void insert_retry_with_same_key_and_different_body_return_422() throws Exception {
+        // given
+        givenInsertReturnsMember();
+        mockMvc.perform(insertRequest("key-1", reqJson)).andExpect(status().isOk());
+        var otherJson = new ObjectMapper().writeValueAsString(insertReqDto("other@base.com"));
+
+        // when
+        mockMvc.perform(insertRequest("key-1", otherJson))
+                // then
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(IdempotencyInterceptor.HEADER_REPLAYED));
+        verify(memberService, times(1)).insert(any());
+    }
+
+    @Test
+    void insert_retry_while_in_progress_return_409() throws Exception {
+        // given
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        given(memberService.insert(any()))
+                .willAnswer(
+                        invocation -> {
+                            started.countDown();
+                            release.await(5, TimeUnit.SECONDS);
+                            return new MemberInsertRspDto(member());
+                        });
+        var first =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return mockMvc.perform(insertRequest("key-1", reqJson))
+                                        .andReturn()
+                                        .getResponse()
+                                        .getStatus();
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        mockMvc.perform(insertRequest("key-1", reqJson))
+                // then
+                .andExpect(status().isConflict());
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+        verify(memberService, times(1)).insert(any());
+    }
+
+    @Test
+    void insert_retry_after_429_execute_handler_again() throws Exception {
+        // given
+        given(memberService.insert(any()))
+                .willThrow(new RateLimitExceededException("Api called over rate limit.", 1, 1))
+                .willReturn(new MemberInsertRspDto(member()));
+        mockMvc.perform(insertRequest("key-1", reqJson)).andExpect(status().isTooManyRequests());
+
+        // when
+        mockMvc.perform(insertRequest("key-1", reqJson))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyInterceptor.HEADER_REPLAYED));
+        verify(memberService, times(2)).insert(any());
+    }
+
+    @Test
+    void insert_each_key_execute_handler() throws Exception {
+        // given
+        givenInsertReturnsMember();
+
+        // when
+        for (var key : new String[] {"key-1", "key-2"}) {
+            mockMvc.perform(insertRequest(key, reqJson))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(IdempotencyInterceptor.HEADER_REPLAYED));
+        }
+
+        // then
+        verify(memberService, times(2)).insert(any());
+    }
+
+    @Test
+    void insert_without_key_execute_handler_every_time() throws Exception {
+        // given
+        givenInsertReturnsMember();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(insertRequest(null, reqJson)).andExpect(status().isOk());
+        }
+
+        // then
+        verify(memberService, times(2)).insert(any());
+    }
+
+    private void givenInsertReturnsMember() {
+        given(memberService.insert(any())).willReturn(new MemberInsertRspDto(member()));
+    }
+
+    private Member member() {
+        return Member.builder()
+                .email(reqDto.getEmail())
+                .password(reqDto.getPassword())
+                .name(reqDto.getName())
+                .useYn("Y")
+                .build();
+    }
+
+    private static MemberInsertReqDto insertReqDto(String email) {
+        return MemberInsertReqDto.builder()
+                .email(email)
+                .password("pswd")
+                .name("name")
+                .phoneNo("01234567890")
+                .roadNameAddress("road address")
+                .detailAddress("detail address")
+                .build();
+    }
+
+    private static MockHttpServletRequestBuilder insertRequest(String key, String json) {
+        var request =
+                put(MemberApiUris.INSERT)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(json);
+        return key != null
+                ? request.header(IdempotencyInterceptor.HEADER_IDEMPOTENCY_KEY, key)
+                : request;
+    }
+}
@@ -0,0 +1,136 @@
+package com.dykim.base.interceptor.debounce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+/**
+ *
+ *
+ * <h3>DebounceState 처리량 벤치마크</h3>
+ *
+ * 요청 쓰레드 수에 따른 디바운스 처리량을 측정한다.
+ *
+ * <pre>
+ *  - 쓰레드마다 독립된 세션을 사용한다.(세션 별 최초 호출이 몰리는 로그인 폭주 상황)
+ *  - legacy: 기존 전역 synchronized 블록 + HashMap 방식
+ *  - state: DebounceState(세션 뮤텍스 + CAS) 방식
+ *  - 실행: ./gradlew benchmark
+ * </pre>
+ *
+ * @see DebounceState
+ */
+@Slf4j
+@Tag("benchmark")
+class DebounceStateBenchmarkTest {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final long MEASURE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final int SESSION_ROTATION = 64;
+    private static final String[] URIS = {
+        "/api/sample/v1/debounce", "/api/sample/v1/dto", "/api/member/v1", "/api/sample/v1"
+    };
+
+    private static final String LEGACY_LOCK = "api-call-debounce-map";
+
+    @Test
+    void tryAcquire_throughput_by_thread_count() throws Exception {
+        log.info("threads | legacy ops/s | state ops/s | state scale");
+        var singleThreadOps = 0d;
+        for (int threadCount : THREAD_COUNTS) {
+            var legacyOps = measure(threadCount, DebounceStateBenchmarkTest::legacyAcquire);
+            var stateOps = measure(threadCount, DebounceStateBenchmarkTest::stateAcquire);
+            if (threadCount == 1) {
+                singleThreadOps = stateOps;
+            }
+            log.info(
+                    String.format(
+                            "%7d | %12.0f | %11.0f | %10.2fx",
+                            threadCount, legacyOps, stateOps, stateOps / singleThreadOps));
+            assertThat(stateOps).isPositive();
+        }
+    }
+
+    private static void stateAcquire(HttpSession session) {
+        var now = System.currentTimeMillis();
+        for (String uri : URIS) {
+            DebounceState.from(session).tryAcquire(uri, 3000, now);
+        }
+    }
+
+    /** 기존 DebounceInterceptor 의 세션 맵 처리 방식을 그대로 재현한다. */
+    @SuppressWarnings("unchecked")
+    private static void legacyAcquire(HttpSession session) {
+        var now = System.currentTimeMillis();
+        for (String uri : URIS) {
+            var debounceMapObject = session.getAttribute(LEGACY_LOCK);
+            if (debounceMapObject == null) {
+                synchronized (LEGACY_LOCK) {
+                    debounceMapObject = session.getAttribute(LEGACY_LOCK);
+                    if (debounceMapObject == null) {
+                        var debounceMap = new HashMap<String, Long>();
+                        debounceMap.put(uri, now);
+                        session.setAttribute(LEGACY_LOCK, debounceMap);
+                    }
+                }
+            }
+            var debounceMap = (HashMap<String, Long>) session.getAttribute(LEGACY_LOCK);
+            debounceMap.get(uri);
+            debounceMap.put(uri, now);
+            session.setAttribute(LEGACY_LOCK, debounceMap);
+        }
+    }
+
+    /**
+     * 쓰레드 별로 세션을 순환 생성하며 측정시간 동안 수행된 호출 수를 초당 처리량으로 환산한다.
+     *
+     * @return ops/s
+     */
+    private static double measure(int threadCount, Consumer<HttpSession> operation)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            var startLatch = new CountDownLatch(1);
+            var futures = new ArrayList<Future<Long>>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    startLatch.await();
+                                    var deadline = System.nanoTime() + MEASURE_NANOS;
+                                    var operationCount = 0L;
+                                    var session = new MockHttpSession();
+                                    while (System.nanoTime() < deadline) {
+                                        // 일정 횟수마다 새 세션으로 교체하여 최초 호출 경로를 계속 발생시킨다.
+                                        if (operationCount % SESSION_ROTATION == 0) {
+                                            session = new MockHttpSession();
+                                        }
+                                        operation.accept(session);
+                                        operationCount++;
+                                    }
+                                    return operationCount;
+                                }));
+            }
+            startLatch.countDown();
+            var totalCount = 0L;
+            for (Future<Long> future : futures) {
+                totalCount += future.get();
+            }
+            return totalCount * URIS.length / (MEASURE_NANOS / 1_000_000_000d);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
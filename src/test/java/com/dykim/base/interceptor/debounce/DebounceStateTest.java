@@ -0,0 +1,62 @@
+package com.dykim.base.interceptor.debounce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dykim.base.interceptor.support.HierarchicalTimingWheel;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>DebounceState 테스트</h3>
+ *
+ * 세션 당 키 수 제한(LRU)과 타이밍 휠 만료를 확인한다.
+ *
+ * @see DebounceState
+ */
+class DebounceStateTest {
+
+    private static final long DEBOUNCE_MILLIS = 3000;
+
+    @Test
+    void tryAcquire_over_max_entries_evict_oldest_key() {
+        // given
+        var state = new DebounceState();
+        state.tryAcquire("/api/sample/v1/{id}", DEBOUNCE_MILLIS, 1000, 2, null);
+        state.tryAcquire("/api/member/v1/{mbrId}", DEBOUNCE_MILLIS, 2000, 2, null);
+
+        // when
+        state.tryAcquire("/api/sample/v1/debounce", DEBOUNCE_MILLIS, 3000, 2, null);
+
+        // then - 가장 오래된 키가 제거되어 디바운스 시간 내 재호출도 허용된다.
+        assertThat(state.size()).isEqualTo(2);
+        assertThat(state.tryAcquire("/api/member/v1/{mbrId}", DEBOUNCE_MILLIS, 3500, 3, null))
+                .isPositive();
+        assertThat(state.tryAcquire("/api/sample/v1/{id}", DEBOUNCE_MILLIS, 3500, 3, null))
+                .isZero();
+    }
+
+    @Test
+    void tryAcquire_expired_key_removed_by_timing_wheel() throws Exception {
+        // given
+        var debounceMillis = 50L;
+        var state = new DebounceState();
+        try (var timingWheel = new HierarchicalTimingWheel(5, "debounce-state-test")) {
+            // when
+            state.tryAcquire(
+                    "/api/sample/v1/debounce",
+                    debounceMillis,
+                    System.currentTimeMillis(),
+                    DebounceState.DEFAULT_MAX_ENTRIES,
+                    timingWheel);
+            assertThat(state.size()).isEqualTo(1);
+
+            // then
+            var deadline = System.currentTimeMillis() + 1000;
+            while (state.size() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(state.size()).isZero();
+        }
+    }
+}
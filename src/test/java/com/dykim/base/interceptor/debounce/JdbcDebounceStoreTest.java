@@ -0,0 +1,166 @@
+package com.dykim.base.interceptor.debounce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ *
+ *
+ * <h3>JdbcDebounceStore 테스트</h3>
+ *
+ * H2(MySQL 모드) 에서 조건부 삽입/갱신 쿼리의 영향받은 행 수로 디바운싱되는지 확인한다.<br>
+ * 세션 대신 인증 사용자, 클라이언트 식별값으로 키를 만들어 다른 노드에서도 같은 상태를 사용하는지 확인한다.
+ *
+ * @see JdbcDebounceStore
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("internal")
+@SpringBootTest
+class JdbcDebounceStoreTest {
+
+    private static final String KEY = "/api/sample/v1/debounce";
+    private static final long DEBOUNCE_MILLIS = 3000;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private JdbcDebounceStore jdbcDebounceStore;
+
+    @BeforeAll
+    void setup() {
+        jdbcDebounceStore = newStore();
+    }
+
+    @AfterEach
+    void clearAllDebounce() {
+        jdbcTemplate.update("DELETE FROM api_debounce");
+    }
+
+    @Test
+    void tryAcquire_first_call_return_zero() {
+        // given
+        var request = clientRequest("10.0.0.1");
+
+        // when
+        var remainingTimeMillis = jdbcDebounceStore.tryAcquire(request, KEY, DEBOUNCE_MILLIS, 1000);
+
+        // then
+        assertThat(remainingTimeMillis).isZero();
+    }
+
+    @Test
+    void tryAcquire_within_debounce_time_return_remaining() {
+        // given
+        var request = clientRequest("10.0.0.1");
+        jdbcDebounceStore.tryAcquire(request, KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis = jdbcDebounceStore.tryAcquire(request, KEY, DEBOUNCE_MILLIS, 2000);
+
+        // then
+        assertThat(remainingTimeMillis).isEqualTo(DEBOUNCE_MILLIS);
+    }
+
+    @Test
+    void tryAcquire_after_debounce_time_return_zero() {
+        // given
+        var request = clientRequest("10.0.0.1");
+        jdbcDebounceStore.tryAcquire(request, KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                jdbcDebounceStore.tryAcquire(request, KEY, DEBOUNCE_MILLIS, 1000 + DEBOUNCE_MILLIS);
+
+        // then
+        assertThat(remainingTimeMillis).isZero();
+    }
+
+    @Test
+    void tryAcquire_each_client_return_zero() {
+        // given
+        jdbcDebounceStore.tryAcquire(clientRequest("10.0.0.1"), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                jdbcDebounceStore.tryAcquire(
+                        clientRequest("10.0.0.2"), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // then
+        assertThat(remainingTimeMillis).isZero();
+    }
+
+    @Test
+    void tryAcquire_same_client_on_other_node_without_session_return_remaining() {
+        // given
+        var otherNodeStore = newStore();
+        jdbcDebounceStore.tryAcquire(clientRequest("10.0.0.1"), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                otherNodeStore.tryAcquire(clientRequest("10.0.0.1"), KEY, DEBOUNCE_MILLIS, 2000);
+
+        // then
+        assertThat(remainingTimeMillis).isEqualTo(DEBOUNCE_MILLIS);
+    }
+
+    @Test
+    void tryAcquire_same_principal_from_other_client_return_remaining() {
+        // given
+        jdbcDebounceStore.tryAcquire(
+                principalRequest("10.0.0.1", "admin"), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                jdbcDebounceStore.tryAcquire(
+                        principalRequest("10.0.0.2", "admin"), KEY, DEBOUNCE_MILLIS, 2000);
+
+        // then
+        assertThat(remainingTimeMillis).isEqualTo(DEBOUNCE_MILLIS);
+    }
+
+    @Test
+    void deleteExpired_delete_all_expired_rows_by_batch() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            jdbcDebounceStore.tryAcquire(clientRequest("10.0.0." + i), KEY, DEBOUNCE_MILLIS, 1000);
+        }
+
+        // when
+        var deleted = jdbcDebounceStore.deleteExpired();
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM api_debounce", Long.class))
+                .isZero();
+    }
+
+    private JdbcDebounceStore newStore() {
+        return new JdbcDebounceStore(
+                jdbcTemplate,
+                2,
+                new ClientFingerprint(
+                        SessionlessDebounceStore.Fingerprint.IP_USER_AGENT, "X-Client-Id"));
+    }
+
+    private static MockHttpServletRequest clientRequest(String remoteAddr) {
+        var request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("User-Agent", "junit");
+        return request;
+    }
+
+    private static MockHttpServletRequest principalRequest(String remoteAddr, String username) {
+        var request = clientRequest(remoteAddr);
+        request.setUserPrincipal(new TestingAuthenticationToken(username, null));
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package com.dykim.base.interceptor.debounce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ *
+ *
+ * <h3>SessionlessDebounceStore 테스트</h3>
+ *
+ * 세션 없이 클라이언트 식별값 기준으로 디바운싱되는지 확인한다.
+ *
+ * @see SessionlessDebounceStore
+ */
+class SessionlessDebounceStoreTest {
+
+    private static final String KEY = "/api/sample/v1/debounce";
+    private static final long DEBOUNCE_MILLIS = 3000;
+    private static final long TTL_MILLIS = 60000;
+
+    @Test
+    void tryAcquire_same_client_within_debounce_time_return_remaining() {
+        // given
+        var store = newStore(SessionlessDebounceStore.Fingerprint.IP_USER_AGENT);
+        store.tryAcquire(request("10.0.0.1", "curl/8.0", null), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                store.tryAcquire(request("10.0.0.1", "curl/8.0", null), KEY, DEBOUNCE_MILLIS, 2000);
+
+        // then
+        assertThat(remainingTimeMillis).isEqualTo(2000);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_each_user_agent_return_zero() {
+        // given
+        var store = newStore(SessionlessDebounceStore.Fingerprint.IP_USER_AGENT);
+        store.tryAcquire(request("10.0.0.1", "curl/8.0", null), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                store.tryAcquire(
+                        request("10.0.0.1", "Mozilla/5.0", null), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // then
+        assertThat(remainingTimeMillis).isZero();
+    }
+
+    @Test
+    void tryAcquire_header_fingerprint_ignore_ip() {
+        // given
+        var store = newStore(SessionlessDebounceStore.Fingerprint.HEADER);
+        store.tryAcquire(request("10.0.0.1", "curl/8.0", "client-1"), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                store.tryAcquire(
+                        request("10.0.0.2", "Mozilla/5.0", "client-1"), KEY, DEBOUNCE_MILLIS, 1500);
+
+        // then
+        assertThat(remainingTimeMillis).isEqualTo(2500);
+    }
+
+    @Test
+    void tryAcquire_after_ttl_reuse_slot() {
+        // given
+        var store = newStore(SessionlessDebounceStore.Fingerprint.IP_USER_AGENT);
+        store.tryAcquire(request("10.0.0.1", "curl/8.0", null), KEY, DEBOUNCE_MILLIS, 1000);
+
+        // when
+        var remainingTimeMillis =
+                store.tryAcquire(
+                        request("10.0.0.1", "curl/8.0", null),
+                        KEY,
+                        DEBOUNCE_MILLIS,
+                        1000 + TTL_MILLIS + 1);
+
+        // then
+        assertThat(remainingTimeMillis).isZero();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private static SessionlessDebounceStore newStore(
+            SessionlessDebounceStore.Fingerprint fingerprint) {
+        return new SessionlessDebounceStore(64, 4, TTL_MILLIS, fingerprint, "X-Client-Id");
+    }
+
+    private static MockHttpServletRequest request(String ip, String userAgent, String clientId) {
+        var request = new MockHttpServletRequest("GET", KEY);
+        request.setRemoteAddr(ip);
+        request.addHeader(HttpHeaders.USER_AGENT, userAgent);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+}
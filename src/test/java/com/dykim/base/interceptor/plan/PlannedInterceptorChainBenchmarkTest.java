@@ -0,0 +1,123 @@
+package com.dykim.base.interceptor.plan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dykim.base.controller.api.sample.SampleRestController;
+import com.dykim.base.interceptor.DebounceInterceptor;
+import com.dykim.base.interceptor.IdempotencyInterceptor;
+import com.dykim.base.interceptor.PerformanceInterceptor;
+import com.dykim.base.interceptor.RateLimitInterceptor;
+import com.dykim.base.interceptor.SessionValidationInterceptor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+/**
+ *
+ *
+ * <h3>인터셉터 체인 오버헤드 벤치마크</h3>
+ *
+ * 어노테이션이 없는 sample 핸들러메소드 요청의 preHandle 처리량을 비교한다.
+ *
+ * <pre>
+ *  - legacy: 인터셉터 별 경로 매칭(AntPathMatcher) + 인터셉터 내부 어노테이션 조회
+ *  - plan: PlannedInterceptorChain(실행 계획 맵 조회 1회, 적용 대상 인터셉터만 호출)
+ *  - 실행: ./gradlew benchmark
+ * </pre>
+ *
+ * @see PlannedInterceptorChain
+ */
+@Slf4j
+@Tag("benchmark")
+class PlannedInterceptorChainBenchmarkTest {
+
+    private static final String SAMPLE_PATH_PATTERN = "/**/sample/**";
+    private static final String ALL_PATH_PATTERN = "/**";
+    private static final String REQUEST_URI = "/api/sample/v1/1";
+    private static final long WARMUP_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long MEASURE_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    @Test
+    void preHandle_throughput_legacy_vs_plan() throws Exception {
+        // given
+        var handlerMethod =
+                new HandlerMethod(
+                        new SampleRestController(null),
+                        SampleRestController.class.getMethod("select", Long.class));
+        var sessionValidationInterceptor = new SessionValidationInterceptor();
+        var debounceInterceptor = new DebounceInterceptor();
+        var rateLimitInterceptor = new RateLimitInterceptor();
+        var idempotencyInterceptor = new IdempotencyInterceptor();
+        var performanceInterceptor = new PerformanceInterceptor();
+
+        var pathMatcher = new AntPathMatcher();
+        List<Map.Entry<String, HandlerInterceptor>> legacyChain =
+                List.of(
+                        Map.entry(SAMPLE_PATH_PATTERN, sessionValidationInterceptor),
+                        Map.entry(SAMPLE_PATH_PATTERN, debounceInterceptor),
+                        Map.entry(ALL_PATH_PATTERN, rateLimitInterceptor),
+                        Map.entry(ALL_PATH_PATTERN, idempotencyInterceptor),
+                        Map.entry(SAMPLE_PATH_PATTERN, performanceInterceptor));
+        var plannedChain =
+                new PlannedInterceptorChain()
+                        .add(sessionValidationInterceptor, SAMPLE_PATH_PATTERN)
+                        .add(debounceInterceptor, SAMPLE_PATH_PATTERN)
+                        .add(rateLimitInterceptor)
+                        .add(idempotencyInterceptor)
+                        .add(performanceInterceptor, SAMPLE_PATH_PATTERN);
+        plannedChain.compile(
+                Map.of(RequestMappingInfo.paths("/api/sample/v1/{id}").build(), handlerMethod));
+
+        Operation legacy =
+                (request, response) -> {
+                    for (var entry : legacyChain) {
+                        if (pathMatcher.match(entry.getKey(), request.getRequestURI())) {
+                            entry.getValue().preHandle(request, response, handlerMethod);
+                        }
+                    }
+                };
+        Operation plan =
+                (request, response) -> plannedChain.preHandle(request, response, handlerMethod);
+
+        // when
+        measure(legacy, WARMUP_NANOS);
+        measure(plan, WARMUP_NANOS);
+        var legacyOps = measure(legacy, MEASURE_NANOS);
+        var planOps = measure(plan, MEASURE_NANOS);
+
+        // then
+        log.info("legacy ops/s | plan ops/s | speedup");
+        log.info(
+                String.format(
+                        "%12.0f | %10.0f | %6.2fx", legacyOps, planOps, planOps / legacyOps));
+        assertThat(planOps).isPositive();
+    }
+
+    /** @return ops/s */
+    private static double measure(Operation operation, long durationNanos) throws Exception {
+        var request = new MockHttpServletRequest("GET", REQUEST_URI);
+        var response = new MockHttpServletResponse();
+        var deadline = System.nanoTime() + durationNanos;
+        var operationCount = 0L;
+        while (System.nanoTime() < deadline) {
+            operation.run(request, response);
+            operationCount++;
+        }
+        return operationCount / (durationNanos / 1_000_000_000d);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(MockHttpServletRequest request, MockHttpServletResponse response)
+                throws Exception;
+    }
+}
@@ -0,0 +1,231 @@
+package com.dykim.base.interceptor.plan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dykim.base.advice.common.CommonControllerAdvice;
+import com.dykim.base.advice.common.exception.RateLimitExceededException;
+import com.dykim.base.controller.api.sample.SampleRestController;
+import com.dykim.base.interceptor.DebounceInterceptor;
+import com.dykim.base.interceptor.PerformanceInterceptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+/**
+ *
+ *
+ * <h3>PlannedInterceptorChain 테스트</h3>
+ *
+ * 핸들러메소드 별 실행 계획과 인터셉터 호출 순서를 확인한다.
+ *
+ * @see PlannedInterceptorChain
+ */
+class PlannedInterceptorChainTest {
+
+    private static final String SAMPLE_PATH_PATTERN = "/**/sample/**";
+
+    private DebounceInterceptor debounceInterceptor;
+    private PerformanceInterceptor performanceInterceptor;
+    private HandlerMethod debounceHandlerMethod;
+    private HandlerMethod selectHandlerMethod;
+
+    @BeforeEach
+    void setup() throws Exception {
+        debounceInterceptor = new DebounceInterceptor();
+        performanceInterceptor = new PerformanceInterceptor();
+        var controller = new SampleRestController(null);
+        debounceHandlerMethod =
+                new HandlerMethod(
+                        controller, SampleRestController.class.getMethod("helloPrintDebounce"));
+        selectHandlerMethod =
+                new HandlerMethod(
+                        controller, SampleRestController.class.getMethod("select", Long.class));
+    }
+
+    @Test
+    void compile_plan_only_applicable_interceptors() {
+        // given
+        var chain =
+                new PlannedInterceptorChain()
+                        .add(debounceInterceptor, SAMPLE_PATH_PATTERN)
+                        .add(performanceInterceptor, SAMPLE_PATH_PATTERN);
+
+        // when
+        chain.compile(
+                Map.of(
+                        RequestMappingInfo.paths("/api/sample/v1/debounce").build(),
+                        debounceHandlerMethod,
+                        RequestMappingInfo.paths("/api/sample/v1/{id}").build(),
+                        selectHandlerMethod));
+
+        // then
+        var debouncePlan = chain.getPlan(debounceHandlerMethod.getMethod());
+        assertThat(debouncePlan.getInterceptors())
+                .containsExactly(debounceInterceptor, performanceInterceptor);
+        assertThat(debouncePlan.getDebounce()).isNotNull();
+        assertThat(debouncePlan.getRouteTemplate()).isEqualTo("/api/sample/v1/debounce");
+
+        // @Debounce 가 없는 핸들러메소드는 DebounceInterceptor 를 호출하지 않는다.
+        var selectPlan = chain.getPlan(selectHandlerMethod.getMethod());
+        assertThat(selectPlan.getInterceptors()).containsExactly(performanceInterceptor);
+        assertThat(selectPlan.getDebounce()).isNull();
+        assertThat(selectPlan.getRouteTemplate()).isEqualTo("/api/sample/v1/{id}");
+    }
+
+    @Test
+    void compile_exclude_interceptor_not_matched_path() {
+        // given
+        var chain = new PlannedInterceptorChain().add(performanceInterceptor, SAMPLE_PATH_PATTERN);
+
+        // when
+        chain.compile(
+                Map.of(
+                        RequestMappingInfo.paths("/api/member/v1/{id}").build(),
+                        selectHandlerMethod));
+
+        // then
+        assertThat(chain.getPlan(selectHandlerMethod.getMethod()).getInterceptors()).isEmpty();
+    }
+
+    @Test
+    void preHandle_false_trigger_afterCompletion_of_passed_interceptors() throws Exception {
+        // given
+        var calls = new ArrayList<String>();
+        var chain =
+                new PlannedInterceptorChain()
+                        .add(new RecordingInterceptor("first", true, calls))
+                        .add(new RecordingInterceptor("second", false, calls))
+                        .add(new RecordingInterceptor("third", true, calls));
+        chain.compile(
+                Map.of(
+                        RequestMappingInfo.paths("/api/sample/v1/{id}").build(),
+                        selectHandlerMethod));
+        var request = new MockHttpServletRequest("GET", "/api/sample/v1/1");
+
+        // when
+        var proceed = chain.preHandle(request, new MockHttpServletResponse(), selectHandlerMethod);
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(calls)
+                .containsExactly("first.preHandle", "second.preHandle", "first.afterCompletion");
+        assertThat(HandlerPlan.from(request)).isNotNull();
+    }
+
+    @Test
+    void preHandle_exception_trigger_afterCompletion_after_exception_resolved() throws Exception {
+        // given
+        var calls = new ArrayList<String>();
+        var chain =
+                new PlannedInterceptorChain()
+                        .add(new RecordingInterceptor("first", true, calls))
+                        .add(
+                                new HandlerInterceptor() {
+                                    @Override
+                                    public boolean preHandle(
+                                            @NonNull HttpServletRequest request,
+                                            @NonNull HttpServletResponse response,
+                                            @NonNull Object handler) {
+                                        throw new RateLimitExceededException("over limit", 1, 1);
+                                    }
+                                });
+        var mockMvc =
+                MockMvcBuilders.standaloneSetup(new SampleRestController(null))
+                        .addInterceptors(chain)
+                        .setControllerAdvice(new CommonControllerAdvice())
+                        .build();
+
+        // when
+        mockMvc.perform(get("/api/sample/v1/1")).andExpect(status().isTooManyRequests());
+
+        // then - 컨트롤러어드바이스가 정한 응답 상태를 afterCompletion 에서 확인할 수 있다.
+        assertThat(calls).containsExactly("first.preHandle", "first.afterCompletion(429)");
+    }
+
+    @Test
+    void handle_call_in_registration_and_reverse_order() throws Exception {
+        // given
+        var calls = new ArrayList<String>();
+        var chain =
+                new PlannedInterceptorChain()
+                        .add(new RecordingInterceptor("first", true, calls))
+                        .add(new RecordingInterceptor("second", true, calls));
+        var request = new MockHttpServletRequest("GET", "/api/sample/v1/1");
+        var response = new MockHttpServletResponse();
+
+        // when - 계획이 없는 핸들러메소드는 요청 시점에 계획을 만든다.
+        chain.preHandle(request, response, selectHandlerMethod);
+        chain.postHandle(request, response, selectHandlerMethod, null);
+        chain.afterCompletion(request, response, selectHandlerMethod, null);
+
+        // then
+        assertThat(calls)
+                .containsExactly(
+                        "first.preHandle",
+                        "second.preHandle",
+                        "second.postHandle",
+                        "first.postHandle",
+                        "second.afterCompletion",
+                        "first.afterCompletion");
+        assertThat(chain.getPlan(selectHandlerMethod.getMethod())).isNotNull();
+    }
+
+    private static class RecordingInterceptor implements HandlerInterceptor {
+
+        private final String name;
+        private final boolean proceed;
+        private final List<String> calls;
+
+        private RecordingInterceptor(String name, boolean proceed, List<String> calls) {
+            this.name = name;
+            this.proceed = proceed;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean preHandle(
+                @NonNull HttpServletRequest request,
+                @NonNull HttpServletResponse response,
+                @NonNull Object handler) {
+            calls.add(name + ".preHandle");
+            return proceed;
+        }
+
+        @Override
+        public void postHandle(
+                @NonNull HttpServletRequest request,
+                @NonNull HttpServletResponse response,
+                @NonNull Object handler,
+                @Nullable ModelAndView modelAndView) {
+            calls.add(name + ".postHandle");
+        }
+
+        @Override
+        public void afterCompletion(
+                @NonNull HttpServletRequest request,
+                @NonNull HttpServletResponse response,
+                @NonNull Object handler,
+                @Nullable Exception ex) {
+            calls.add(
+                    name
+                            + (response.getStatus() == HttpServletResponse.SC_OK
+                                    ? ".afterCompletion"
+                                    : ".afterCompletion(" + response.getStatus() + ")"));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.dykim.base.interceptor.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>RateLimiter 테스트</h3>
+ *
+ * 시간을 직접 전달하여 알고리즘 별 허용/거부 및 재시도 시간을 확인한다.
+ *
+ * @see TokenBucketRateLimiter
+ * @see SlidingWindowRateLimiter
+ */
+class RateLimiterTest {
+
+    private static final long PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long KEY = 42L;
+
+    @Test
+    void tokenBucket_allow_burst_then_reject_until_refill() {
+        // given
+        var rateLimiter = new TokenBucketRateLimiter(64, 4);
+
+        // when-then
+        for (int i = 0; i < 5; i++) {
+            var result = rateLimiter.tryAcquire(KEY, 2, PERIOD_NANOS, 5, 0);
+            assertThat(RateLimiter.isPermitted(result)).isTrue();
+            assertThat(result).isEqualTo(4 - i);
+        }
+        var rejected = rateLimiter.tryAcquire(KEY, 2, PERIOD_NANOS, 5, 0);
+        assertThat(RateLimiter.isPermitted(rejected)).isFalse();
+        // 초당 2개 충전 -> 1개 충전까지 0.5초
+        assertThat(RateLimiter.retryAfterNanos(rejected)).isEqualTo(PERIOD_NANOS / 2);
+
+        var refilled = rateLimiter.tryAcquire(KEY, 2, PERIOD_NANOS, 5, PERIOD_NANOS / 2);
+        assertThat(RateLimiter.isPermitted(refilled)).isTrue();
+    }
+
+    @Test
+    void tokenBucket_each_key_independent() {
+        // given
+        var rateLimiter = new TokenBucketRateLimiter(64, 4);
+        rateLimiter.tryAcquire(KEY, 1, PERIOD_NANOS, 0, 0);
+
+        // when
+        var result = rateLimiter.tryAcquire(KEY + 1, 1, PERIOD_NANOS, 0, 0);
+
+        // then
+        assertThat(RateLimiter.isPermitted(result)).isTrue();
+    }
+
+    @Test
+    void tokenBucket_large_capacity_long_period_refill_without_overflow() {
+        // given - 버킷 용량(고정소수점) 8.64e18, 충전 합계는 long 범위를 넘을 수 있다.
+        var rateLimiter = new TokenBucketRateLimiter(64, 4);
+        var permits = 100_000;
+        var periodNanos = TimeUnit.DAYS.toNanos(1);
+        assertThat(rateLimiter.isValid(permits, periodNanos, 0)).isTrue();
+        rateLimiter.tryAcquire(KEY, permits, periodNanos, 0, 0);
+
+        // when
+        var result = rateLimiter.tryAcquire(KEY, permits, periodNanos, 0, periodNanos - 1);
+
+        // then
+        assertThat(result).isEqualTo(permits - 1);
+    }
+
+    @Test
+    void tokenBucket_capacity_over_long_range_is_invalid() {
+        // given
+        var rateLimiter = new TokenBucketRateLimiter(64, 4);
+
+        // when
+        var valid = rateLimiter.isValid(1_000_000, TimeUnit.DAYS.toNanos(1), 0);
+
+        // then
+        assertThat(valid).isFalse();
+    }
+
+    @Test
+    void slidingWindow_reject_over_permits_in_window() {
+        // given
+        var rateLimiter = new SlidingWindowRateLimiter(64, 4);
+        for (int i = 0; i < 3; i++) {
+            assertThat(RateLimiter.isPermitted(rateLimiter.tryAcquire(KEY, 3, PERIOD_NANOS, 0, 0)))
+                    .isTrue();
+        }
+
+        // when
+        var rejected = rateLimiter.tryAcquire(KEY, 3, PERIOD_NANOS, 0, PERIOD_NANOS / 4);
+
+        // then
+        assertThat(RateLimiter.isPermitted(rejected)).isFalse();
+        assertThat(RateLimiter.retryAfterNanos(rejected)).isEqualTo(PERIOD_NANOS * 3 / 4);
+    }
+
+    @Test
+    void slidingWindow_weight_previous_window() {
+        // given
+        var rateLimiter = new SlidingWindowRateLimiter(64, 4);
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.tryAcquire(KEY, 4, PERIOD_NANOS, 0, 0);
+        }
+
+        // when - 다음 구간의 절반 시점: 이전 구간 4건 * 0.5 = 2건으로 추정
+        var first = rateLimiter.tryAcquire(KEY, 4, PERIOD_NANOS, 0, PERIOD_NANOS * 3 / 2);
+        var second = rateLimiter.tryAcquire(KEY, 4, PERIOD_NANOS, 0, PERIOD_NANOS * 3 / 2);
+        var third = rateLimiter.tryAcquire(KEY, 4, PERIOD_NANOS, 0, PERIOD_NANOS * 3 / 2);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(RateLimiter.isPermitted(third)).isFalse();
+    }
+
+    @Test
+    void short_period_key_does_not_expire_long_period_key() {
+        // given
+        var rateLimiter = new TokenBucketRateLimiter(8, 1);
+        var longPeriodNanos = TimeUnit.HOURS.toNanos(1);
+        var shortPeriodNanos = TimeUnit.MILLISECONDS.toNanos(1);
+        rateLimiter.tryAcquire(KEY, 1, longPeriodNanos, 0, 0);
+
+        // when
+        for (long key = 1; key <= 16; key++) {
+            var nowNanos = key * TimeUnit.MILLISECONDS.toNanos(10);
+            rateLimiter.tryAcquire(KEY + key, 1, shortPeriodNanos, 0, nowNanos);
+        }
+        var result =
+                rateLimiter.tryAcquire(
+                        KEY, 1, longPeriodNanos, 0, TimeUnit.MILLISECONDS.toNanos(200));
+
+        // then
+        assertThat(RateLimiter.isPermitted(result)).isFalse();
+        assertThat(rateLimiter.evictionCount()).isZero();
+    }
+
+    @Test
+    void table_evict_oldest_key_when_full() {
+        // given
+        var rateLimiter = new TokenBucketRateLimiter(8, 1);
+
+        // when
+        for (long key = 1; key <= 100; key++) {
+            rateLimiter.tryAcquire(key, 1, PERIOD_NANOS, 0, key);
+        }
+
+        // then
+        assertThat(rateLimiter.size()).isLessThanOrEqualTo(8);
+        assertThat(rateLimiter.evictionCount()).isPositive();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dykim.base.interceptor.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>HierarchicalTimingWheel 테스트</h3>
+ *
+ * 1단계 범위(64 tick) 안팎의 작업이 만료 시간 이후에 실행되는지 확인한다.
+ *
+ * @see HierarchicalTimingWheel
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MILLIS = 5;
+
+    private HierarchicalTimingWheel timingWheel;
+
+    @BeforeEach
+    void setup() {
+        timingWheel = new HierarchicalTimingWheel(TICK_MILLIS, "timing-wheel-test");
+    }
+
+    @AfterEach
+    void close() {
+        timingWheel.close();
+    }
+
+    @Test
+    void schedule_run_after_deadline_in_first_level() throws Exception {
+        assertRunAfterDeadline(30);
+    }
+
+    @Test
+    void schedule_run_after_deadline_cascaded_from_upper_level() throws Exception {
+        // 64 tick(320ms) 을 넘는 작업은 2단계에 보관되었다가 내려온다.
+        assertRunAfterDeadline(500);
+    }
+
+    @Test
+    void schedule_past_deadline_run_immediately() throws Exception {
+        // given
+        var latch = new CountDownLatch(1);
+
+        // when
+        timingWheel.schedule(System.currentTimeMillis() - 1000, latch::countDown);
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    void close_not_run_scheduled_task() throws Exception {
+        // given
+        var latch = new CountDownLatch(1);
+        timingWheel.close();
+
+        // when
+        timingWheel.schedule(System.currentTimeMillis(), latch::countDown);
+
+        // then
+        assertThat(latch.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    private void assertRunAfterDeadline(long delayMillis) throws Exception {
+        // given
+        var latch = new CountDownLatch(1);
+        var runMillis = new AtomicLong();
+        var deadlineMillis = System.currentTimeMillis() + delayMillis;
+
+        // when
+        timingWheel.schedule(
+                deadlineMillis,
+                () -> {
+                    runMillis.set(System.currentTimeMillis());
+                    latch.countDown();
+                });
+
+        // then
+        assertThat(latch.await(delayMillis + 1000, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(runMillis.get()).isGreaterThanOrEqualTo(deadlineMillis);
+    }
+}
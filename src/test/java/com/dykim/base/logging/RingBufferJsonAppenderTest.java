@@ -0,0 +1,127 @@
+package com.dykim.base.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+
+/**
+ *
+ *
+ * <h3>RingBufferJsonAppender 테스트</h3>
+ *
+ * 링 버퍼의 다중 생산자 처리와 JSON line 기록, MDC requestId 연결을 확인한다.
+ *
+ * @see LogEventRingBuffer
+ * @see RingBufferJsonAppender
+ */
+class RingBufferJsonAppenderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir Path tempDir;
+
+    @Test
+    void ringBuffer_reject_when_full_and_reuse_after_poll() {
+        // given
+        var buffer = new LogEventRingBuffer<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when
+        var full = buffer.offer(4);
+        var first = buffer.poll();
+        var reused = buffer.offer(4);
+
+        // then
+        assertThat(full).isFalse();
+        assertThat(first).isZero();
+        assertThat(reused).isTrue();
+        var rest = new ArrayList<Integer>();
+        Integer value;
+        while ((value = buffer.poll()) != null) {
+            rest.add(value);
+        }
+        assertThat(rest).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void ringBuffer_multi_producer_no_loss() throws Exception {
+        // given
+        var buffer = new LogEventRingBuffer<Integer>(1024);
+        var producers = new ArrayList<CompletableFuture<Void>>();
+
+        // when
+        for (int p = 0; p < 4; p++) {
+            var offset = p * 10_000;
+            producers.add(
+                    CompletableFuture.runAsync(
+                            () -> {
+                                for (int i = 0; i < 10_000; i++) {
+                                    while (!buffer.offer(offset + i)) {
+                                        Thread.onSpinWait();
+                                    }
+                                }
+                            }));
+        }
+        var consumed = new HashSet<Integer>();
+        while (consumed.size() < 40_000) {
+            var value = buffer.poll();
+            if (value != null) {
+                consumed.add(value);
+            }
+        }
+        CompletableFuture.allOf(producers.toArray(CompletableFuture<?>[]::new)).get();
+
+        // then
+        assertThat(consumed).hasSize(40_000);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void append_write_json_lines_with_request_id() throws Exception {
+        // given
+        var file = tempDir.resolve("server.json");
+        var loggerContext = new LoggerContext();
+        var appender = new RingBufferJsonAppender();
+        appender.setContext(loggerContext);
+        appender.setName("TEST");
+        appender.setFile(file.toString());
+        appender.start();
+        var logger = loggerContext.getLogger("test");
+        logger.addAppender(appender);
+
+        // when
+        MDC.put(JsonLineEncoder.MDC_REQUEST_ID, "req-1");
+        try {
+            logger.info("hello {}", "\"world\"\n");
+            logger.error("failed", new IllegalStateException("boom"));
+        } finally {
+            MDC.remove(JsonLineEncoder.MDC_REQUEST_ID);
+        }
+        appender.stop();
+
+        // then
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        var info = objectMapper.readTree(lines.get(0));
+        assertThat(info.get("level").asText()).isEqualTo("INFO");
+        assertThat(info.get("requestId").asText()).isEqualTo("req-1");
+        assertThat(info.get("message").asText()).isEqualTo("hello \"world\"\n");
+        assertThat(info.has("mdc")).isFalse();
+        var error = objectMapper.readTree(lines.get(1));
+        assertThat(error.get("exception").asText()).contains("IllegalStateException: boom");
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.dykim.base.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>PhaseRecorder / LogLinearHistogram 테스트</h3>
+ *
+ * 도달한 단계만 기록되는지, 히스토그램 백분위 오차가 구간 정밀도 이내인지 확인한다.
+ *
+ * @see PhaseRecorder
+ * @see LogLinearHistogram
+ */
+class PhaseRecorderTest {
+
+    @Test
+    void end_record_only_marked_phases_and_total() {
+        // given
+        var recorder = PhaseRecorder.register("phaseRecorderTest", "first", "second", "third");
+
+        // when - 두번째 단계에서 조기 반환
+        var timing = recorder.begin();
+        timing.mark(0);
+        timing.mark(1);
+        timing.end();
+
+        // then
+        assertThat(recorder.getPhases()).containsExactly("first", "second", "third", "total");
+        assertThat(recorder.snapshot(0).getCount()).isEqualTo(1);
+        assertThat(recorder.snapshot(1).getCount()).isEqualTo(1);
+        assertThat(recorder.snapshot(2).getCount()).isZero();
+        assertThat(recorder.snapshot(3).getCount()).isEqualTo(1);
+        assertThat(PhaseRecorder.all()).contains(recorder);
+    }
+
+    @Test
+    void begin_reuse_thread_timing() {
+        // given
+        var recorder = PhaseRecorder.register("phaseRecorderReuseTest", "only");
+
+        // when
+        var first = recorder.begin();
+        first.end();
+        var second = recorder.begin();
+        second.end();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void histogram_percentile_within_bucket_precision() {
+        // given
+        var histogram = new LogLinearHistogram();
+
+        // when - 1us ~ 1000us 균등 분포
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+        var snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMax()).isEqualTo(1_000_000);
+        assertThat(snapshot.percentile(50)).isBetween(500_000L, 500_000L * 17 / 16);
+        assertThat(snapshot.percentile(99)).isBetween(990_000L, 990_000L * 17 / 16);
+        assertThat(snapshot.percentile(100)).isEqualTo(1_000_000);
+        assertThat(snapshot.mean()).isEqualTo(500_500);
+    }
+
+    @Test
+    void histogram_bucket_index_round_trip() {
+        for (long value : new long[] {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789L}) {
+            var index = LogLinearHistogram.bucketIndex(value);
+            var highest = LogLinearHistogram.highestEquivalentValue(index);
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(LogLinearHistogram.bucketIndex(highest)).isEqualTo(index);
+        }
+    }
+}
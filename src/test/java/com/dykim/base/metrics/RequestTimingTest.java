@@ -0,0 +1,105 @@
+package com.dykim.base.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.dykim.base.metrics.RequestTiming.Phase;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ *
+ *
+ * <h3>RequestTiming 테스트</h3>
+ *
+ * 성공, 핸들러 예외, 인터셉터 예외 흐름에서 도달한 단계만 처리시간이 계산되는지, 구간 힙 할당량이 측정되는지 확인한다.
+ *
+ * @see RequestTiming
+ */
+class RequestTimingTest {
+
+    @Test
+    void success_measure_pre_handle_handler_view() {
+        // given
+        var request = new MockHttpServletRequest();
+        var timing = RequestTiming.start(request);
+
+        // when
+        timing.markHandlerStart();
+        timing.markHandlerEnd();
+        timing.markCompletion();
+        timing.end();
+
+        // then
+        assertThat(RequestTiming.from(request)).isSameAs(timing);
+        assertThat(timing.phaseNanos(Phase.PRE_HANDLE)).isNotNegative();
+        assertThat(timing.phaseNanos(Phase.HANDLER)).isNotNegative();
+        assertThat(timing.phaseNanos(Phase.VIEW)).isNotNegative();
+        assertThat(timing.phaseNanos(Phase.ADVICE)).isEqualTo(-1);
+        assertThat(timing.getException()).isNull();
+    }
+
+    @Test
+    void handler_exception_measure_handler_until_advice() {
+        // given
+        var timing = RequestTiming.start(new MockHttpServletRequest());
+
+        // when
+        timing.markHandlerStart();
+        timing.markResolveStart(new IllegalStateException());
+        timing.markCompletion();
+        timing.end();
+
+        // then
+        assertThat(timing.phaseNanos(Phase.HANDLER)).isNotNegative();
+        assertThat(timing.phaseNanos(Phase.VIEW)).isEqualTo(-1);
+        assertThat(timing.phaseNanos(Phase.ADVICE)).isNotNegative();
+        assertThat(timing.getException()).isEqualTo("IllegalStateException");
+    }
+
+    @Test
+    void pre_handle_exception_measure_without_after_completion() {
+        // given
+        var timing = RequestTiming.start(new MockHttpServletRequest());
+
+        // when - 앞선 인터셉터 예외로 PerformanceInterceptor 가 호출되지 않음
+        timing.markResolveStart(new RuntimeException());
+        timing.end();
+
+        // then
+        assertThat(timing.phaseNanos(Phase.PRE_HANDLE)).isNotNegative();
+        assertThat(timing.phaseNanos(Phase.HANDLER)).isEqualTo(-1);
+        assertThat(timing.phaseNanos(Phase.ADVICE)).isNotNegative();
+        assertThat(timing.totalNanos())
+                .isGreaterThanOrEqualTo(timing.phaseNanos(Phase.PRE_HANDLE));
+    }
+
+    @Test
+    void allocation_measure_bytes_between_marks() {
+        assumeTrue(ThreadAllocation.isSupported());
+
+        // given
+        var timing = RequestTiming.start(new MockHttpServletRequest());
+
+        // when
+        timing.markAllocationStart();
+        var allocated = new byte[1024 * 1024];
+        timing.markAllocationEnd();
+
+        // then
+        assertThat(allocated).hasSize(1024 * 1024);
+        assertThat(timing.getAllocatedBytes()).isGreaterThanOrEqualTo(1024 * 1024);
+    }
+
+    @Test
+    void allocation_not_measured_without_start() {
+        // given
+        var timing = RequestTiming.start(new MockHttpServletRequest());
+
+        // when
+        timing.markAllocationEnd();
+
+        // then
+        assertThat(timing.getAllocatedBytes()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.dykim.base.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ *
+ *
+ * <h3>RollingHistogram / RouteLatencyRegistry 테스트</h3>
+ *
+ * 분 단위 칸이 구간 별로 합산되고 지난 칸이 재사용되는지, 라우트 x 상태코드 분류 별로 기록되는지 확인한다.
+ *
+ * @see RollingHistogram
+ * @see RouteLatencyRegistry
+ */
+class RollingHistogramTest {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    @Test
+    void snapshot_merge_slots_in_window() {
+        // given - 0분 ~ 9분 동안 분 당 1건
+        var histogram = new RollingHistogram();
+        for (int minute = 0; minute < 10; minute++) {
+            histogram.record(1000, minute * MINUTE_MILLIS);
+        }
+
+        // when
+        var now = 9 * MINUTE_MILLIS + 1;
+        var oneMinute = histogram.snapshot(1, now);
+        var fiveMinutes = histogram.snapshot(5, now);
+        var fifteenMinutes = histogram.snapshot(15, now);
+
+        // then
+        assertThat(oneMinute.getCount()).isEqualTo(1);
+        assertThat(fiveMinutes.getCount()).isEqualTo(5);
+        assertThat(fifteenMinutes.getCount()).isEqualTo(10);
+    }
+
+    @Test
+    void record_reset_stale_slot() {
+        // given
+        var histogram = new RollingHistogram();
+        histogram.record(1000, 0);
+        histogram.record(1000, 0);
+
+        // when - 같은 칸을 사용하는 15분 뒤 기록
+        var later = RollingHistogram.MAX_WINDOW_MINUTES * MINUTE_MILLIS;
+        histogram.record(2000, later);
+
+        // then
+        var snapshot = histogram.snapshot(15, later);
+        assertThat(snapshot.getCount()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isEqualTo(2000);
+    }
+
+    @Test
+    void registry_record_by_route_status_class_and_exception() {
+        // given
+        var registry = new RouteLatencyRegistry();
+        var route = "/api/member/v1/{mbrId}";
+
+        // when
+        registry.record("GET", route, 200, completedTiming(null), null);
+        registry.record("GET", route, 204, completedTiming(null), null);
+        registry.record("GET", route, 404, completedTiming(new IllegalStateException()), null);
+
+        // then
+        assertThat(registry.getLatencies()).hasSize(2);
+        assertThat(registry.getLatencies().keySet())
+                .extracting(RouteLatencyRegistry.RouteKey::getStatus)
+                .containsExactlyInAnyOrder("2xx", "4xx");
+        assertThat(registry.getLatencies().keySet())
+                .extracting(RouteLatencyRegistry.RouteKey::getException)
+                .containsExactlyInAnyOrder(null, "IllegalStateException");
+    }
+
+    @Test
+    void registry_normalize_unknown_method_and_collapse_unmapped_route() {
+        // given
+        var registry = new RouteLatencyRegistry();
+
+        // when
+        registry.record("FOO", "/api/member/v1", 200, completedTiming(null), null);
+        registry.record("BAR", "/api/member/v1", 200, completedTiming(null), null);
+        registry.record("GET", "UNMAPPED", 404, completedTiming(null), null);
+        registry.record("X-1", "UNMAPPED", 404, completedTiming(new IllegalStateException()), null);
+
+        // then
+        assertThat(registry.getLatencies()).hasSize(2);
+        assertThat(registry.getLatencies().keySet())
+                .extracting(RouteLatencyRegistry.RouteKey::getMethod)
+                .containsOnly(RouteLatencyRegistry.OTHER_METHOD);
+    }
+
+    @Test
+    void registry_record_new_keys_over_max_keys_as_overflow() {
+        // given
+        var registry = new RouteLatencyRegistry(2);
+
+        // when
+        for (var route : new String[] {"/a", "/b", "/c", "/d"}) {
+            registry.record("GET", route, 200, completedTiming(null), null);
+        }
+
+        // then
+        assertThat(registry.getLatencies()).hasSize(3);
+        assertThat(registry.getLatencies().keySet())
+                .extracting(RouteLatencyRegistry.RouteKey::getRoute)
+                .containsExactlyInAnyOrder("/a", "/b", RouteLatencyRegistry.OVERFLOW_ROUTE);
+        registry.getLatencies().entrySet().stream()
+                .filter(e -> e.getKey().getRoute().equals(RouteLatencyRegistry.OVERFLOW_ROUTE))
+                .forEach(e -> assertThat(e.getValue().getCount()).isEqualTo(2));
+    }
+
+    private static RequestTiming completedTiming(Exception ex) {
+        var timing = RequestTiming.start(new MockHttpServletRequest());
+        timing.markHandlerStart();
+        if (ex != null) {
+            timing.markResolveStart(ex);
+        } else {
+            timing.markHandlerEnd();
+        }
+        timing.markCompletion();
+        timing.end();
+        return timing;
+    }
+}
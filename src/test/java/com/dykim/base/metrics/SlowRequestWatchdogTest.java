@@ -0,0 +1,117 @@
+package com.dykim.base.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ *
+ * <h3>SlowRequestWatchdog 테스트</h3>
+ *
+ * 임계시간을 넘긴 요청만 리포트되고, 처리중인 쓰레드의 스택이 샘플링되는지 확인한다.
+ * 샘플링 주기를 길게 두고 {@link SlowRequestWatchdog#sample()} 을 직접 호출한다.
+ *
+ * @see SlowRequestWatchdog
+ */
+class SlowRequestWatchdogTest {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 60_000;
+
+    private SlowRequestWatchdog watchdog;
+
+    @AfterEach
+    void closeWatchdog() {
+        if (watchdog != null) {
+            watchdog.close();
+        }
+    }
+
+    @Test
+    void end_fast_request_not_reported() {
+        // given
+        watchdog = new SlowRequestWatchdog(10_000, SAMPLE_INTERVAL_MILLIS, 5, 64, 10);
+
+        // when
+        var watch = watchdog.begin("GET", "/api/member/v1/{mbrId}", "/api/member/v1/1");
+        watchdog.end(watch, 200, null);
+
+        // then
+        assertThat(watchdog.recentReports()).isEmpty();
+    }
+
+    @Test
+    void detach_async_request_not_sampled_or_reported() throws InterruptedException {
+        // given
+        watchdog = new SlowRequestWatchdog(1, SAMPLE_INTERVAL_MILLIS, 5, 64, 10);
+        var watch = watchdog.begin("GET", "/api/performance/v1/stream", "/stream");
+
+        // when - 비동기 처리 시작 후 쓰레드는 다른 작업을 처리한다.
+        watchdog.detach(watch);
+        Thread.sleep(5);
+        watchdog.sample();
+        watchdog.end(watch, 200, null);
+
+        // then
+        assertThat(watchdog.recentReports()).isEmpty();
+    }
+
+    @Test
+    void sample_stack_of_running_slow_request() throws InterruptedException {
+        // given
+        watchdog = new SlowRequestWatchdog(1, SAMPLE_INTERVAL_MILLIS, 5, 64, 10);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var worker =
+                new Thread(
+                        () -> {
+                            var watch = watchdog.begin("PATCH", "/api/member/v1/{mbrId}", "/1");
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            watchdog.end(watch, 200, null);
+                        },
+                        "slow-worker");
+        worker.start();
+        started.await();
+        Thread.sleep(5);
+
+        // when
+        watchdog.sample();
+        release.countDown();
+        worker.join();
+
+        // then
+        var reports = watchdog.recentReports();
+        assertThat(reports).hasSize(1);
+        var report = reports.get(0);
+        assertThat(report.getThreadName()).isEqualTo("slow-worker");
+        assertThat(report.getElapsedMillis()).isGreaterThanOrEqualTo(1);
+        assertThat(report.getSamples()).hasSize(1);
+        assertThat(report.getSamples().get(0).getFrames())
+                .anyMatch(frame -> frame.contains("CountDownLatch.await"));
+    }
+
+    @Test
+    void recentReports_keep_latest_by_capacity() throws InterruptedException {
+        // given
+        watchdog = new SlowRequestWatchdog(1, SAMPLE_INTERVAL_MILLIS, 5, 64, 2);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            var watch = watchdog.begin("GET", "/api/sample/v1", "/api/sample/v1?seq=" + i);
+            Thread.sleep(2);
+            watchdog.end(watch, 500, "IllegalStateException");
+        }
+
+        // then
+        assertThat(watchdog.recentReports())
+                .extracting(SlowRequestReport::getUri)
+                .containsExactly("/api/sample/v1?seq=2", "/api/sample/v1?seq=1");
+    }
+}
@@ -0,0 +1,93 @@
+package com.dykim.base.metrics.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dykim.base.advice.common.exception.HandlerDebounceException;
+import com.dykim.base.metrics.RequestTiming;
+import com.dykim.base.metrics.RouteLatencyRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+
+/**
+ *
+ *
+ * <h3>DashboardMetrics 테스트</h3>
+ *
+ * 직전 수집 대비 차이로 라우트 처리량, 디바운스 차단, 로그인 수가 계산되는지 확인한다.
+ *
+ * @see DashboardMetrics
+ */
+class DashboardMetricsTest {
+
+    private static final String ROUTE = "/api/sample/v1/debounce";
+
+    private final RouteLatencyRegistry routeLatencyRegistry = new RouteLatencyRegistry();
+
+    private final DashboardMetrics dashboardMetrics =
+            new DashboardMetrics(
+                    routeLatencyRegistry,
+                    new StaticListableBeanFactory().getBeanProvider(DataSource.class));
+
+    @Test
+    void sample_count_only_since_previous_sample() throws Exception {
+        // given
+        record(200, null);
+        dashboardMetrics.reset();
+        record(200, null);
+        record(429, new HandlerDebounceException("debounce"));
+        var authentication = new TestingAuthenticationToken("admin", "password");
+        dashboardMetrics.onAuthenticationSuccess(new AuthenticationSuccessEvent(authentication));
+        dashboardMetrics.onAuthenticationFailure(
+                new AuthenticationFailureBadCredentialsEvent(
+                        authentication, new BadCredentialsException("bad")));
+        Thread.sleep(10);
+
+        // when
+        var snapshot = dashboardMetrics.sample();
+
+        // then
+        assertThat(snapshot.getRoutes()).hasSize(1);
+        var route = snapshot.getRoutes().get(0);
+        // 경과시간은 ms 단위로 절삭되므로 오차를 허용한다.
+        var elapsedSeconds = snapshot.getElapsedMillis() / 1000d;
+        assertThat(route.getRequestsPerSecond() * elapsedSeconds).isCloseTo(2, within(0.5));
+        assertThat(route.getErrorsPerSecond()).isZero();
+        assertThat(route.getLatency().getCount()).isEqualTo(3);
+        assertThat(snapshot.getDebounceRejectionsPerSecond() * elapsedSeconds)
+                .isCloseTo(1, within(0.5));
+        assertThat(snapshot.getLoginSuccessPerSecond()).isPositive();
+        assertThat(snapshot.getLoginFailurePerSecond()).isPositive();
+        assertThat(snapshot.getPool()).isNull();
+        assertThat(snapshot.getJvm().getHeapUsedBytes()).isPositive();
+    }
+
+    @Test
+    void sample_without_new_requests_return_zero_rate() {
+        // given
+        record(500, null);
+        dashboardMetrics.reset();
+
+        // when
+        var snapshot = dashboardMetrics.sample();
+
+        // then
+        assertThat(snapshot.getRoutes().get(0).getRequestsPerSecond()).isZero();
+        assertThat(snapshot.getRoutes().get(0).getErrorsPerSecond()).isZero();
+    }
+
+    private void record(int status, Exception exception) {
+        var timing = RequestTiming.start(new MockHttpServletRequest());
+        if (exception != null) {
+            timing.markResolveStart(exception);
+        }
+        timing.end();
+        routeLatencyRegistry.record("GET", ROUTE, status, timing, null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dykim.base.metrics.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dykim.base.config.security.InstrumentedPasswordEncoder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+/**
+ *
+ *
+ * <h3>JFR 이벤트 테스트</h3>
+ *
+ * 녹화 중인 경우에만 이벤트가 필드와 함께 기록되는지 확인한다.
+ *
+ * @see InstrumentedPasswordEncoder
+ */
+class JfrEventTest {
+
+    private static final String PASSWORD_VERIFICATION = "com.dykim.base.PasswordVerification";
+
+    @SuppressWarnings("deprecation")
+    private final InstrumentedPasswordEncoder passwordEncoder =
+            new InstrumentedPasswordEncoder(NoOpPasswordEncoder.getInstance());
+
+    @Test
+    void passwordVerification_recorded_while_recording() throws Exception {
+        // given
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable(PASSWORD_VERIFICATION).withoutThreshold();
+            recording.start();
+
+            // when
+            passwordEncoder.matches("password", "password");
+            passwordEncoder.matches("password", "other");
+
+            recording.stop();
+            events = readEvents(recording, PASSWORD_VERIFICATION);
+        }
+
+        // then
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("encoder")).isEqualTo("NoOpPasswordEncoder");
+        assertThat(events.get(0).getBoolean("matched")).isTrue();
+        assertThat(events.get(1).getBoolean("matched")).isFalse();
+    }
+
+    @Test
+    void event_not_committed_without_recording() {
+        // given
+        var event = new PasswordVerificationEvent();
+
+        // when
+        event.begin();
+
+        // then
+        assertThat(event.shouldCommit()).isFalse();
+        assertThat(passwordEncoder.matches("password", "password")).isTrue();
+    }
+
+    private static List<RecordedEvent> readEvents(Recording recording, String name)
+            throws Exception {
+        var file = Files.createTempFile("jfr-event-test", ".jfr");
+        try {
+            recording.dump(file);
+            var events = new ArrayList<RecordedEvent>();
+            for (var event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals(name)) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.dykim.base.metrics.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dykim.base.advice.common.CommonControllerAdvice;
+import com.dykim.base.advice.common.exception.ProfilingInProgressException;
+import com.dykim.base.consts.uris.PerformanceApiUris;
+import com.dykim.base.controller.api.performance.PerformanceController;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ *
+ *
+ * <h3>JfrProfiler 테스트</h3>
+ *
+ * 녹화 파일 분석 결과 집계와 동시 녹화 차단, 녹화 시간 검증, 플레임 그래프 변환을 확인한다.
+ *
+ * @see JfrProfiler
+ * @see FlameGraphHtml
+ */
+class JfrProfilerTest {
+
+    @Test
+    void profile_collect_cpu_samples() throws Exception {
+        // given
+        var jfrProfiler = new JfrProfiler(5);
+        var spinning = CompletableFuture.runAsync(JfrProfilerTest::spin);
+
+        // when
+        var profile = jfrProfiler.profile(JfrProfiler.Settings.PROFILE, Duration.ofSeconds(1));
+        spinning.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(profile.getCpu().getTotal()).isPositive();
+        assertThat(profile.toCollapsed()).contains("JfrProfilerTest.spin");
+        assertThat(jfrProfiler.isRecording()).isFalse();
+    }
+
+    @Test
+    void profile_reject_while_recording() throws Exception {
+        // given
+        var jfrProfiler = new JfrProfiler(5);
+        var first =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return jfrProfiler.profile(
+                                        JfrProfiler.Settings.DEFAULT, Duration.ofSeconds(1));
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        });
+        while (!jfrProfiler.isRecording() && !first.isDone()) {
+            Thread.onSpinWait();
+        }
+
+        // when-then
+        assertThatThrownBy(
+                        () -> jfrProfiler.profile(JfrProfiler.Settings.DEFAULT, Duration.ZERO))
+                .isInstanceOf(ProfilingInProgressException.class);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void profile_api_out_of_range_duration_bad_request() throws Exception {
+        // given
+        var jfrProfiler = new JfrProfiler(5);
+        var controller = new PerformanceController(null, null, jfrProfiler, null, null, null);
+        var mockMvc =
+                MockMvcBuilders.standaloneSetup(controller)
+                        .setControllerAdvice(new CommonControllerAdvice())
+                        .build();
+
+        // when-then - Duration 밀리초 변환 overflow 로 500 이 되지 않고 녹화 전에 거부된다.
+        for (var durationSeconds : new String[] {"0", "6", String.valueOf(Long.MAX_VALUE)}) {
+            mockMvc.perform(
+                            post(PerformanceApiUris.PROFILE)
+                                    .param("durationSeconds", durationSeconds))
+                    .andExpect(status().isBadRequest());
+        }
+        assertThat(jfrProfiler.isRecording()).isFalse();
+    }
+
+    @Test
+    void flameGraph_merge_common_frames() {
+        // given
+        var stacks = new CollapsedStacks();
+        stacks.add("a.Root.run;b.Service.call;c.Repository.find", 3);
+        stacks.add("a.Root.run;b.Service.call", 1);
+        stacks.add("a.Root.run;d.Other.<init>", 4);
+        var graphs = new LinkedHashMap<String, CollapsedStacks>();
+        graphs.put("CPU samples", stacks);
+
+        // when
+        var html = FlameGraphHtml.render("test", graphs);
+
+        // then
+        assertThat(stacks.getTotal()).isEqualTo(8);
+        assertThat(stacks.entries().get(0).getValue()).isEqualTo(4);
+        assertThat(html).contains("title=\"a.Root.run (8, 100.000%)\"");
+        assertThat(html).contains("title=\"b.Service.call (4, 50.000%)\"");
+        assertThat(html).contains("Other.&lt;init&gt;");
+    }
+
+    private static void spin() {
+        var end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1500);
+        var value = 0L;
+        while (System.nanoTime() < end) {
+            value += Long.numberOfTrailingZeros(System.nanoTime());
+        }
+        assertThat(value).isNotNegative();
+    }
+}
@@ -0,0 +1,164 @@
+package com.dykim.base.metrics.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.dykim.base.advice.common.CommonControllerAdvice;
+import com.dykim.base.advice.common.exception.SqlBudgetExceededException;
+import com.dykim.base.config.annotation.SqlBudget;
+import com.dykim.base.filter.RequestTimingFilter;
+import com.dykim.base.interceptor.PerformanceInterceptor;
+import com.dykim.base.metrics.RouteLatencyRegistry;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ *
+ * <h3>SqlStatsDataSource 테스트</h3>
+ *
+ * DataSource 빈이 프록시로 감싸지고, 기록중인 쓰레드의 실행 수 / 행 수 / 반복 실행 / 허용량 초과가 집계되는지 확인한다.<br>
+ * 테스트 설정(budget-action: fail)으로 허용량을 넘긴 요청이 실패하는지 확인한다.
+ *
+ * @see SqlStatsDataSource
+ * @see SqlStats
+ */
+@ActiveProfiles("internal")
+@SpringBootTest
+class SqlStatsDataSourceTest {
+
+    private static final String SELECT_SQL = "SELECT 1";
+
+    @Autowired private DataSource dataSource;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private PerformanceInterceptor performanceInterceptor;
+
+    @AfterEach
+    void endStats() {
+        var stats = SqlStats.current();
+        if (stats != null) {
+            stats.end();
+        }
+    }
+
+    @Test
+    void dataSource_wrapped_by_proxy() {
+        assertThat(dataSource).isInstanceOf(SqlStatsDataSource.class);
+    }
+
+    @Test
+    void record_statements_rows_and_repeats() {
+        // given
+        var stats = SqlStats.begin();
+
+        // when
+        jdbcTemplate.queryForList(SELECT_SQL);
+        jdbcTemplate.queryForList(SELECT_SQL);
+        stats.end();
+
+        // then
+        assertThat(stats.getStatements()).isEqualTo(2);
+        assertThat(stats.getRows()).isEqualTo(2);
+        assertThat(stats.getJdbcNanos()).isPositive();
+        assertThat(stats.getMostRepeatedSql()).isEqualTo(SELECT_SQL);
+        assertThat(stats.getMostRepeatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void not_record_without_begin() {
+        // given
+        var stats = SqlStats.begin();
+        stats.end();
+
+        // when
+        jdbcTemplate.queryForList(SELECT_SQL);
+
+        // then
+        assertThat(stats.getStatements()).isZero();
+    }
+
+    @Test
+    void fail_statement_over_budget() {
+        // given
+        var stats = SqlStats.begin();
+        stats.budget(oneStatementBudget(), true);
+        jdbcTemplate.queryForList(SELECT_SQL);
+
+        // when-then
+        assertThatThrownBy(() -> jdbcTemplate.queryForList(SELECT_SQL))
+                .isInstanceOf(SqlBudgetExceededException.class);
+        assertThat(stats.isBudgetExceeded()).isTrue();
+    }
+
+    @Test
+    void log_only_over_budget() {
+        // given
+        var stats = SqlStats.begin();
+        stats.budget(oneStatementBudget(), false);
+
+        // when
+        jdbcTemplate.queryForList(SELECT_SQL);
+        jdbcTemplate.queryForList(SELECT_SQL);
+
+        // then
+        assertThat(stats.getStatements()).isEqualTo(2);
+        assertThat(stats.isBudgetExceeded()).isTrue();
+    }
+
+    @Test
+    void request_over_budget_fail_by_test_properties() {
+        // given
+        var mockMvc =
+                MockMvcBuilders.standaloneSetup(new SqlBudgetController(jdbcTemplate))
+                        .addFilters(new RequestTimingFilter(new RouteLatencyRegistry(), 10))
+                        .addInterceptors(performanceInterceptor)
+                        .setControllerAdvice(new CommonControllerAdvice())
+                        .build();
+
+        // when-then
+        assertThatThrownBy(() -> mockMvc.perform(get(SqlBudgetController.URI)))
+                .hasRootCauseInstanceOf(SqlBudgetExceededException.class);
+    }
+
+    @SqlBudget(maxStatements = 1)
+    private static void oneStatement() {}
+
+    private static SqlBudget oneStatementBudget() {
+        try {
+            return SqlStatsDataSourceTest.class
+                    .getDeclaredMethod("oneStatement")
+                    .getAnnotation(SqlBudget.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** SQL 2회 실행, 허용량 1회인 핸들러 */
+    @RestController
+    @RequiredArgsConstructor
+    static class SqlBudgetController {
+
+        private static final String URI = "/api/test/v1/sql-budget";
+
+        private final JdbcTemplate jdbcTemplate;
+
+        @SqlBudget(maxStatements = 1)
+        @GetMapping(URI)
+        public int twoStatements() {
+            jdbcTemplate.queryForList(SELECT_SQL);
+            return jdbcTemplate.queryForList(SELECT_SQL).size();
+        }
+    }
+}